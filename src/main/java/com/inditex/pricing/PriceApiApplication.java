@@ -2,8 +2,13 @@ package com.inditex.pricing;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+/**
+ * The R2DBC pool is created by BeanConfiguration; a ConnectionFactory bean from auto-configuration
+ * would make the JDBC DataSource back off.
+ */
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class PriceApiApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,50 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampled access log shared by the servlet and reactive filters.
+ * Failed requests (status at or above {@code alwaysLogStatus}) and slow requests (at or above
+ * {@code slowThreshold}) are always logged; the rest are logged with probability {@code sampleRate}.
+ * The decision is taken before anything is formatted, so a request that is sampled out costs a
+ * clock read and a random draw. Lines go to the {@value #LOGGER_NAME} logger as key=value pairs;
+ * logback-spring.xml routes that logger through its own asynchronous appender.
+ */
+public class AccessLog {
+
+    static final String LOGGER_NAME = "pricing.access";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int alwaysLogStatus;
+
+    public AccessLog(double sampleRate, Duration slowThreshold, int alwaysLogStatus) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sampleRate must be between 0 and 1: " + sampleRate);
+        }
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.alwaysLogStatus = alwaysLogStatus;
+    }
+
+    void record(String method, String path, String query, int status, long elapsedNanos) {
+        if (!log.isInfoEnabled() || !shouldLog(status, elapsedNanos)) {
+            return;
+        }
+        log.info("method={} path={} query={} status={} durationMicros={}",
+                method, path, query == null ? "-" : query, status, elapsedNanos / 1_000);
+    }
+
+    boolean shouldLog(int status, long elapsedNanos) {
+        if (status >= alwaysLogStatus || elapsedNanos >= slowThresholdNanos) {
+            return true;
+        }
+        return sampleRate > 0 && (sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+}
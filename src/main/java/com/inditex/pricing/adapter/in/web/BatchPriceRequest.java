@@ -0,0 +1,48 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.model.PriceQuery;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Request DTO for the batch price query endpoint.
+ */
+@Schema(description = "Lote de consultas de precio aplicable")
+public record BatchPriceRequest(
+
+        @Schema(description = "Consultas a resolver (maximo " + BatchPriceRequest.MAX_ITEMS + ")")
+        @NotEmpty
+        @Size(max = BatchPriceRequest.MAX_ITEMS)
+        List<@Valid @NotNull Item> items
+) {
+
+    public static final int MAX_ITEMS = 500;
+
+    @Schema(description = "Consulta individual dentro del lote")
+    public record Item(
+
+            @Schema(description = "Fecha y hora de aplicacion en formato ISO 8601", example = "2020-06-14T16:00:00")
+            @NotNull
+            LocalDateTime applicationDate,
+
+            @Schema(description = "Identificador del producto", example = "35455")
+            @NotNull @Positive
+            Long productId,
+
+            @Schema(description = "Identificador de la marca", example = "1")
+            @NotNull @Positive
+            Long brandId
+    ) {
+
+        public PriceQuery toDomain() {
+            return new PriceQuery(applicationDate, productId, brandId);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for the batch price query endpoint.
+ * Holds one result per requested item, in request order.
+ */
+@Schema(description = "Resultados de un lote de consultas de precio")
+public record BatchPriceResponse(
+
+        @Schema(description = "Un resultado por consulta, en el mismo orden que la peticion")
+        List<Item> results
+) {
+
+    @Schema(description = "Resultado de una consulta del lote")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Item(
+
+            @Schema(description = "Fecha y hora de aplicacion consultada", example = "2020-06-14T16:00:00")
+            LocalDateTime applicationDate,
+
+            @Schema(description = "Identificador del producto consultado", example = "35455")
+            Long productId,
+
+            @Schema(description = "Identificador de la marca consultada", example = "1")
+            Long brandId,
+
+            @Schema(description = "Resultado de la consulta", example = "FOUND")
+            PriceLookupResult.Outcome status,
+
+            @Schema(description = "Precio aplicable, solo cuando status = FOUND")
+            PriceResponse price,
+
+            @Schema(description = "Detalle del error, solo cuando status = PRIORITY_CONFLICT")
+            String message
+    ) {
+
+        public static Item fromDomain(PriceLookupResult result) {
+            return new Item(
+                    result.query().applicationDate(),
+                    result.query().productId(),
+                    result.query().brandId(),
+                    result.outcome(),
+                    result.price() == null ? null : PriceResponse.fromDomain(result.price()),
+                    result.message()
+            );
+        }
+    }
+
+    public static BatchPriceResponse fromDomain(List<PriceLookupResult> results) {
+        return new BatchPriceResponse(results.stream().map(Item::fromDomain).toList());
+    }
+}
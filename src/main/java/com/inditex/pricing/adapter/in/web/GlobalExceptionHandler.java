@@ -1,12 +1,18 @@
 package com.inditex.pricing.adapter.in.web;
 
+import com.inditex.pricing.domain.exception.InvalidDateRangeException;
 import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.exception.TariffImportException;
+import com.inditex.pricing.domain.exception.TariffNotFoundException;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -21,6 +27,7 @@ import java.util.stream.Collectors;
  * Converts exceptions into structured error responses with appropriate HTTP status codes.
  */
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
@@ -57,13 +64,33 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
-        String message = ex.getConstraintViolations().stream()
+        var error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                constraintViolationMessage(ex),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    /**
+     * Names each rejected parameter by the last node of its property path.
+     */
+    static String constraintViolationMessage(ConstraintViolationException ex) {
+        return ex.getConstraintViolations().stream()
                 .map(cv -> {
                     String path = cv.getPropertyPath().toString();
                     String paramName = path.contains(".") ? path.substring(path.lastIndexOf('.') + 1) : path;
                     return "Invalid value for parameter '" + paramName + "': " + cv.getMessage();
                 })
                 .collect(Collectors.joining(", "));
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidBody(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(fe -> "Invalid value for field '" + fe.getField() + "': " + fe.getDefaultMessage())
+                .collect(Collectors.joining(", "));
         var error = new ErrorResponse(
                 HttpStatus.BAD_REQUEST.value(),
                 "Bad Request",
@@ -73,6 +100,39 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleUnreadableBody(HttpMessageNotReadableException ex) {
+        var error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                "Malformed request body",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(TariffImportException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImport(TariffImportException ex) {
+        var error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
+    @ExceptionHandler(InvalidDateRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidDateRange(InvalidDateRangeException ex) {
+        var error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
     @ExceptionHandler(PriorityConflictException.class)
     public ResponseEntity<ErrorResponse> handlePriorityConflict(PriorityConflictException ex) {
         log.error("Conflicto de prioridad detectado: {}", ex.getMessage());
@@ -85,6 +145,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.internalServerError().body(error);
     }
 
+    @ExceptionHandler(TariffNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTariffNotFound(TariffNotFoundException ex) {
+        var error = new ErrorResponse(
+                HttpStatus.NOT_FOUND.value(),
+                "Not Found",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
     @ExceptionHandler(NoResourceFoundException.class)
     public ResponseEntity<Void> handleNoResourceFound(NoResourceFoundException ex) {
         return ResponseEntity.notFound().build();
@@ -0,0 +1,56 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.ResolvedPrice;
+import org.springframework.http.CacheControl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP caching headers of GET /api/prices, derived from the validity window of the answer.
+ *
+ * <p>The answer holds for every application date up to the end of its window, so max-age is the
+ * time left from the requested date to that boundary. It is capped by {@code maxAge} because tariff
+ * writes do not follow the window: the cap is how long a write may go unseen by clients and shared
+ * caches. The ETag hashes the fields of the winning tariff that make up the body, so it changes
+ * whenever a write changes the answer, and equal answers in the same format share it across
+ * application dates.
+ */
+public class HttpCachePolicy {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long maxAgeSeconds;
+
+    public HttpCachePolicy(Duration maxAge) {
+        this.maxAgeSeconds = maxAge.toSeconds();
+    }
+
+    /**
+     * Public Cache-Control for the answer to a lookup at {@code applicationDate}, found or not.
+     */
+    public CacheControl cacheControl(ResolvedPrice resolved, LocalDateTime applicationDate) {
+        long remaining = Duration.between(applicationDate, resolved.validUntil()).toSeconds();
+        return CacheControl.maxAge(Math.max(0, Math.min(maxAgeSeconds, remaining)), TimeUnit.SECONDS).cachePublic();
+    }
+
+    /**
+     * Strong validator of the response body built from {@code price} in {@code format}:
+     * 64-bit FNV-1a of its fields, tagged with the format.
+     */
+    public String etag(Price price, ResponseFormat format) {
+        String representation = price.productId() + "|" + price.brandId() + "|" + price.priceList()
+                + "|" + price.startDate() + "|" + price.endDate() + "|" + price.amount().toPlainString()
+                + "|" + price.currency();
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : representation.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return '"' + Long.toHexString(hash) + format.etagSuffix() + '"';
+    }
+}
@@ -1,5 +1,9 @@
 package com.inditex.pricing.adapter.in.web;
 
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.ResolvedPrice;
 import com.inditex.pricing.domain.port.in.FindApplicablePriceUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -8,52 +12,100 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
- * REST controller exposing the price query endpoint.
+ * REST controller exposing the price query endpoints.
  * Delegates to the FindApplicablePriceUseCase input port and maps domain results to DTOs.
+ * Single lookups carry Cache-Control and ETag headers from {@link HttpCachePolicy}; Spring MVC
+ * answers a matching If-None-Match with 304 without writing the body. Their body comes
+ * pre-encoded from {@link PriceResponseBodies} in the {@link ResponseFormat} picked from Accept
+ * (JSON, CBOR or Smile) and is written as-is; the batch endpoint negotiates the same formats
+ * through the message converters.
+ * With {@code pricing.current-prices.enabled=true}, a lookup without applicationDate is resolved at
+ * the current time of the injected {@link Clock}; otherwise the parameter is required.
+ * Registered on the servlet stack only; ReactivePriceController serves GET /api/prices on WebFlux.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/prices")
 @Validated
 @Tag(name = "Precios", description = "Consulta del precio aplicable para un producto y marca en una fecha dada")
 public class PriceController {
 
-    private static final Logger log = LoggerFactory.getLogger(PriceController.class);
-
     private final FindApplicablePriceUseCase findApplicablePriceUseCase;
+    private final StageMetricsPort stageMetrics;
+    private final HttpCachePolicy httpCachePolicy;
+    private final PriceResponseBodies responseBodies;
+    private final Clock clock;
+    private final boolean defaultToNow;
 
-    public PriceController(FindApplicablePriceUseCase findApplicablePriceUseCase) {
+    public PriceController(FindApplicablePriceUseCase findApplicablePriceUseCase,
+                           StageMetricsPort stageMetrics,
+                           HttpCachePolicy httpCachePolicy,
+                           PriceResponseBodies responseBodies,
+                           Clock clock,
+                           @Value("${pricing.current-prices.enabled:false}") boolean defaultToNow) {
         this.findApplicablePriceUseCase = findApplicablePriceUseCase;
+        this.stageMetrics = stageMetrics;
+        this.httpCachePolicy = httpCachePolicy;
+        this.responseBodies = responseBodies;
+        this.clock = clock;
+        this.defaultToNow = defaultToNow;
     }
 
     @Operation(
             summary = "Obtener precio aplicable",
             description = """
-                    Devuelve el precio vigente para un producto y marca en la fecha indicada.
+                    Devuelve el precio vigente para un producto y marca en la fecha indicada. Con
+                    pricing.current-prices.enabled=true la fecha es opcional y por defecto es este momento.
                     Si existen varias tarifas solapadas, se aplica la de mayor prioridad.
                     Devuelve 404 si no existe ninguna tarifa vigente para los parametros dados.
+                    Cache-Control indica cuanto tiempo sigue vigente la respuesta, y un If-None-Match
+                    con el ETag recibido devuelve 304 sin cuerpo si el precio no ha cambiado.
+                    Accept selecciona JSON (por defecto), CBOR (application/cbor) o Smile
+                    (application/x-jackson-smile).
                     """
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Precio aplicable encontrado",
-                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
-                            schema = @Schema(implementation = PriceResponse.class))
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = PriceResponse.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = PriceResponse.class)),
+                            @Content(mediaType = "application/x-jackson-smile",
+                                    schema = @Schema(implementation = PriceResponse.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "El ETag de If-None-Match coincide: el precio no ha cambiado",
+                    content = @Content
             ),
             @ApiResponse(
                     responseCode = "400",
@@ -68,22 +120,86 @@ public class PriceController {
             )
     })
     @GetMapping
-    public ResponseEntity<PriceResponse> findApplicablePrice(
-            @Parameter(description = "Fecha y hora de aplicacion en formato ISO 8601", example = "2020-06-14T16:00:00", required = true)
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate,
+    public ResponseEntity<byte[]> findApplicablePrice(
+            @Parameter(description = "Fecha y hora de aplicacion en formato ISO 8601; obligatoria salvo con "
+                    + "pricing.current-prices.enabled=true, que usa la hora actual del servidor", example = "2020-06-14T16:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate,
 
             @Parameter(description = "Identificador del producto", example = "35455", required = true)
             @RequestParam @Positive Long productId,
 
             @Parameter(description = "Identificador de la marca (1 = ZARA)", example = "1", required = true)
-            @RequestParam @Positive Long brandId
-    ) {
-        log.info("GET /api/prices — productId={}, brandId={}, fecha={}", productId, brandId, applicationDate);
-        var response = findApplicablePriceUseCase.findApplicablePrice(applicationDate, productId, brandId)
-                .map(PriceResponse::fromDomain)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
-        log.info("Respuesta: HTTP {} — productId={}, brandId={}", response.getStatusCode().value(), productId, brandId);
+            @RequestParam @Positive Long brandId,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) throws MissingServletRequestParameterException {
+        long started = System.nanoTime();
+        LocalDateTime date = applicationDateOrNow(applicationDate);
+        ResolvedPrice resolved = findApplicablePriceUseCase.resolveApplicablePrice(date, productId, brandId);
+        CacheControl cacheControl = httpCachePolicy.cacheControl(resolved, date);
+        ResponseEntity<byte[]> response = resolved.winner()
+                .map(price -> {
+                    long encoding = System.nanoTime();
+                    ResponseFormat format = ResponseFormat.negotiate(accept);
+                    PriceResponseBodies.EncodedPrice body = responseBodies.encode(price, format);
+                    stageMetrics.record(StageMetricsPort.Stage.SERIALIZATION, System.nanoTime() - encoding);
+                    return ResponseEntity.ok()
+                            .contentType(format.mediaType())
+                            .cacheControl(cacheControl)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .eTag(body.etag())
+                            .body(body.body());
+                })
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).cacheControl(cacheControl).build());
+        stageMetrics.record(StageMetricsPort.Stage.CONTROLLER, System.nanoTime() - started);
         return response;
     }
+
+    private LocalDateTime applicationDateOrNow(LocalDateTime applicationDate) throws MissingServletRequestParameterException {
+        if (applicationDate != null) {
+            return applicationDate;
+        }
+        if (!defaultToNow) {
+            throw new MissingServletRequestParameterException("applicationDate", "LocalDateTime");
+        }
+        return LocalDateTime.now(clock);
+    }
+
+    @Operation(
+            summary = "Obtener precios aplicables en lote",
+            description = """
+                    Resuelve varias consultas (fecha, producto, marca) en una sola peticion.
+                    Cada consulta devuelve su propio resultado: FOUND, NOT_FOUND o PRIORITY_CONFLICT,
+                    sin que un fallo individual afecte al resto del lote.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote resuelto; el resultado de cada consulta viene en su campo status",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = BatchPriceResponse.class)),
+                            @Content(mediaType = MediaType.APPLICATION_CBOR_VALUE,
+                                    schema = @Schema(implementation = BatchPriceResponse.class)),
+                            @Content(mediaType = "application/x-jackson-smile",
+                                    schema = @Schema(implementation = BatchPriceResponse.class))
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lote vacio, demasiado grande o con consultas invalidas",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<BatchPriceResponse> findApplicablePrices(@Valid @RequestBody BatchPriceRequest request) {
+        List<PriceQuery> queries = request.items().stream()
+                .map(BatchPriceRequest.Item::toDomain)
+                .toList();
+        List<PriceLookupResult> results = findApplicablePriceUseCase.findApplicablePrices(queries);
+        return ResponseEntity.ok(BatchPriceResponse.fromDomain(results));
+    }
 }
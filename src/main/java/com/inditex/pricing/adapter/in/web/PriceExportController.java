@@ -0,0 +1,96 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.domain.port.in.ExportApplicablePricesUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
+/**
+ * REST controller exposing the price book export as newline-delimited JSON.
+ * Each resolved price is serialized and written to the response as soon as it is produced;
+ * a slow client blocks the writing thread, which in turn pauses the database cursor.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/prices/export")
+@Validated
+@Tag(name = "Precios", description = "Consulta del precio aplicable para un producto y marca en una fecha dada")
+public class PriceExportController {
+
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportApplicablePricesUseCase exportApplicablePricesUseCase;
+    private final ObjectMapper objectMapper;
+
+    public PriceExportController(ExportApplicablePricesUseCase exportApplicablePricesUseCase, ObjectMapper objectMapper) {
+        this.exportApplicablePricesUseCase = exportApplicablePricesUseCase;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+            summary = "Exportar precios aplicables de una marca",
+            description = """
+                    Devuelve, en formato NDJSON (un PriceResponse por linea), el precio aplicable de cada producto
+                    de la marca en la fecha indicada, ordenado por productId. La respuesta se genera en streaming
+                    con memoria constante. Los productos con conflicto de prioridad se omiten.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Flujo NDJSON de precios aplicables",
+                    content = @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = PriceResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parametro ausente o con formato invalido",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportApplicablePrices(
+            @Parameter(description = "Identificador de la marca (1 = ZARA)", example = "1", required = true)
+            @RequestParam @Positive Long brandId,
+
+            @Parameter(description = "Fecha y hora de aplicacion en formato ISO 8601", example = "2020-06-14T16:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate
+    ) {
+        StreamingResponseBody body = out -> exportApplicablePricesUseCase.exportApplicablePrices(
+                brandId, applicationDate, price -> writeLine(out, PriceResponse.fromDomain(price)));
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    private void writeLine(OutputStream out, PriceResponse response) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(response));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inditex.pricing.domain.model.Price;
+
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Bodies of GET /api/prices, encoded once per tariff and format and written as raw bytes by every
+ * later response that tariff wins, so the hot path does no DTO mapping or Jackson work.
+ *
+ * <p>Entries are keyed by the Price itself. A write that changes any field of a tariff produces a
+ * different Price, hence a different key, so a body can never go stale and the size bound only
+ * limits memory. Each format has its own bound, and a format nobody asks for holds no entries.
+ * Bodies are encoded with the application's ObjectMapper settings, byte for byte what the Jackson
+ * converters would write for the PriceResponse.
+ */
+public class PriceResponseBodies {
+
+    private final HttpCachePolicy httpCachePolicy;
+    private final Map<ResponseFormat, ObjectMapper> mappers = new EnumMap<>(ResponseFormat.class);
+    private final Map<ResponseFormat, Cache<Price, EncodedPrice>> bodies = new EnumMap<>(ResponseFormat.class);
+
+    public PriceResponseBodies(ObjectMapper objectMapper, HttpCachePolicy httpCachePolicy, long maxSize) {
+        this.httpCachePolicy = httpCachePolicy;
+        for (ResponseFormat format : ResponseFormat.values()) {
+            mappers.put(format, format.mapperFrom(objectMapper));
+            bodies.put(format, Caffeine.newBuilder()
+                    .maximumSize(maxSize)
+                    .<Price, EncodedPrice>build());
+        }
+    }
+
+    /**
+     * Returns the JSON body and ETag of {@code price}, encoding them on first use.
+     */
+    public EncodedPrice encode(Price price) {
+        return encode(price, ResponseFormat.JSON);
+    }
+
+    /**
+     * Returns the body of {@code price} in {@code format} and its ETag, encoding them on first use.
+     */
+    public EncodedPrice encode(Price price, ResponseFormat format) {
+        return bodies.get(format).get(price, p -> encodeNow(p, format));
+    }
+
+    private EncodedPrice encodeNow(Price price, ResponseFormat format) {
+        try {
+            return new EncodedPrice(mappers.get(format).writeValueAsBytes(PriceResponse.fromDomain(price)),
+                    httpCachePolicy.etag(price, format));
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * A response body ready to be written, with the validator that identifies it.
+     */
+    public record EncodedPrice(byte[] body, String etag) {}
+}
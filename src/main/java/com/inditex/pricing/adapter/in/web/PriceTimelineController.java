@@ -0,0 +1,83 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.port.in.FindPriceTimelineUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * REST controller exposing the effective-price timeline of a product and brand over a date range.
+ * One call returns what a client would otherwise learn by probing GET /api/prices date by date.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/prices/timeline")
+@Validated
+@Tag(name = "Precios", description = "Consulta del precio aplicable para un producto y marca en una fecha dada")
+public class PriceTimelineController {
+
+    private final FindPriceTimelineUseCase findPriceTimelineUseCase;
+
+    public PriceTimelineController(FindPriceTimelineUseCase findPriceTimelineUseCase) {
+        this.findPriceTimelineUseCase = findPriceTimelineUseCase;
+    }
+
+    @Operation(
+            summary = "Obtener la linea temporal de precios",
+            description = """
+                    Devuelve los tramos [from, to) del rango indicado en los que el precio aplicable no cambia,
+                    cada uno con la tarifa ganadora segun la regla de prioridad. Los tramos sin tarifa se omiten,
+                    y los tramos con varias tarifas empatadas en la prioridad mas alta se devuelven como
+                    PRIORITY_CONFLICT sin invalidar el resto.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Linea temporal calculada (puede no tener tramos)",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = PriceTimelineResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parametro ausente, con formato invalido o rango vacio",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<PriceTimelineResponse> findPriceTimeline(
+            @Parameter(description = "Identificador del producto", example = "35455", required = true)
+            @RequestParam @Positive Long productId,
+
+            @Parameter(description = "Identificador de la marca (1 = ZARA)", example = "1", required = true)
+            @RequestParam @Positive Long brandId,
+
+            @Parameter(description = "Inicio del rango (incluido) en formato ISO 8601", example = "2020-06-14T00:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+
+            @Parameter(description = "Fin del rango (excluido) en formato ISO 8601", example = "2020-06-16T00:00:00", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        List<PriceSegment> segments = findPriceTimelineUseCase.findPriceTimeline(productId, brandId, from, to);
+        return ResponseEntity.ok(PriceTimelineResponse.fromDomain(productId, brandId, from, to, segments));
+    }
+}
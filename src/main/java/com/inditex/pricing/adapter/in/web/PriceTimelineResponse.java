@@ -0,0 +1,70 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceSegment;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Response DTO for the price timeline endpoint.
+ * Holds the segments of the requested range in chronological order; stretches without price are omitted.
+ */
+@Schema(description = "Linea temporal del precio aplicable de un producto y marca en un rango de fechas")
+public record PriceTimelineResponse(
+
+        @Schema(description = "Identificador del producto", example = "35455")
+        Long productId,
+
+        @Schema(description = "Identificador de la marca", example = "1")
+        Long brandId,
+
+        @Schema(description = "Inicio del rango consultado (incluido)", example = "2020-06-14T00:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "Fin del rango consultado (excluido)", example = "2020-06-16T00:00:00")
+        LocalDateTime to,
+
+        @Schema(description = "Tramos con precio, en orden cronologico")
+        List<Segment> segments
+) {
+
+    @Schema(description = "Tramo [from, to) con el mismo resultado")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Segment(
+
+            @Schema(description = "Inicio del tramo (incluido)", example = "2020-06-14T15:00:00")
+            LocalDateTime from,
+
+            @Schema(description = "Fin del tramo (excluido); el fin inclusivo de una tarifa mas un nanosegundo",
+                    example = "2020-06-14T18:30:00.000000001")
+            LocalDateTime to,
+
+            @Schema(description = "Resultado del tramo", example = "FOUND")
+            PriceLookupResult.Outcome status,
+
+            @Schema(description = "Precio aplicable, solo cuando status = FOUND")
+            PriceResponse price,
+
+            @Schema(description = "Detalle del error, solo cuando status = PRIORITY_CONFLICT")
+            String message
+    ) {
+
+        public static Segment fromDomain(PriceSegment segment) {
+            return new Segment(
+                    segment.from(),
+                    segment.until(),
+                    segment.outcome(),
+                    segment.price() == null ? null : PriceResponse.fromDomain(segment.price()),
+                    segment.message()
+            );
+        }
+    }
+
+    public static PriceTimelineResponse fromDomain(Long productId, Long brandId, LocalDateTime from, LocalDateTime to,
+                                                   List<PriceSegment> segments) {
+        return new PriceTimelineResponse(productId, brandId, from, to, segments.stream().map(Segment::fromDomain).toList());
+    }
+}
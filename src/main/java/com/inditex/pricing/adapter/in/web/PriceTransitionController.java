@@ -0,0 +1,110 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.model.PriceTransition;
+import com.inditex.pricing.domain.port.in.WatchPriceTransitionsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * REST controller streaming the changes of the applicable price as server-sent events.
+ * The connection is held by an async request, not by a thread; events are written by the
+ * use case's dispatcher. The stream ends after {@code pricing.transitions.stream-timeout}, which
+ * replaces {@code spring.mvc.async.request-timeout} for this endpoint only, or when the client
+ * falls {@code pricing.transitions.max-pending} events behind, and EventSource clients reconnect
+ * on their own, receiving the current state again.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/prices/transitions")
+@Validated
+@Tag(name = "Precios", description = "Consulta del precio aplicable para un producto y marca en una fecha dada")
+public class PriceTransitionController {
+
+    static final String PRICE_EVENT = "price";
+
+    private final WatchPriceTransitionsUseCase watchPriceTransitionsUseCase;
+    private final Duration streamTimeout;
+
+    public PriceTransitionController(WatchPriceTransitionsUseCase watchPriceTransitionsUseCase,
+                                     @Value("${pricing.transitions.stream-timeout:30m}") Duration streamTimeout) {
+        this.watchPriceTransitionsUseCase = watchPriceTransitionsUseCase;
+        this.streamTimeout = streamTimeout;
+    }
+
+    @Operation(
+            summary = "Suscribirse a los cambios de precio",
+            description = """
+                    Abre un flujo server-sent events con un evento "price" (PriceTransitionResponse en JSON) por
+                    cada cambio del precio aplicable de los productos indicados de la marca, o de todos sus
+                    productos si no se indica ninguno. Al suscribirse se recibe el tramo vigente de cada producto.
+                    Un cambio se envia cuando empieza o termina una tarifa y cuando se escriben tarifas.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Flujo de eventos abierto",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = PriceTransitionResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Parametro ausente o con formato invalido",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter watchPriceTransitions(
+            @Parameter(description = "Identificador de la marca (1 = ZARA)", example = "1", required = true)
+            @RequestParam @Positive Long brandId,
+
+            @Parameter(description = "Productos a vigilar (repetible, maximo 500); sin valor, todos los de la marca", example = "35455")
+            @RequestParam(name = "productId", required = false) @Size(max = 500) Set<@Positive Long> productIds
+    ) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        WatchPriceTransitionsUseCase.Subscription subscription = watchPriceTransitionsUseCase.subscribe(
+                brandId, productIds == null ? Set.of() : productIds, transition -> send(emitter, transition),
+                // A client that fell behind reconnects and receives the current state again
+                emitter::complete);
+        emitter.onCompletion(subscription::cancel);
+        // Ending the stream cleanly lets the client reconnect instead of receiving a 503
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscription.cancel());
+        return emitter;
+    }
+
+    /**
+     * A failed write makes the use case cancel the subscription.
+     */
+    private static void send(SseEmitter emitter, PriceTransition transition) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(PRICE_EVENT)
+                    .data(PriceTransitionResponse.fromDomain(transition), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTransition;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data of one {@code price} event of the price transition stream.
+ * Open segment bounds are left out instead of being written as the extreme representable dates.
+ */
+@Schema(description = "Precio aplicable vigente desde el ultimo cambio de un producto y marca")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PriceTransitionResponse(
+
+        @Schema(description = "Identificador del producto", example = "35455")
+        Long productId,
+
+        @Schema(description = "Identificador de la marca", example = "1")
+        Long brandId,
+
+        @Schema(description = "Inicio del tramo vigente (incluido); ausente si no tiene inicio", example = "2020-06-14T15:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "Fin del tramo vigente (excluido); ausente si no hay ningun cambio previsto",
+                example = "2020-06-14T18:30:00.000000001")
+        LocalDateTime to,
+
+        @Schema(description = "Resultado del tramo", example = "FOUND")
+        PriceLookupResult.Outcome status,
+
+        @Schema(description = "Precio aplicable, solo cuando status = FOUND")
+        PriceResponse price,
+
+        @Schema(description = "Detalle del error, solo cuando status = PRIORITY_CONFLICT")
+        String message
+) {
+
+    public static PriceTransitionResponse fromDomain(PriceTransition transition) {
+        PriceSegment segment = transition.segment();
+        return new PriceTransitionResponse(
+                transition.productId(),
+                transition.brandId(),
+                segment.from().equals(LocalDateTime.MIN) ? null : segment.from(),
+                segment.until().equals(LocalDateTime.MAX) ? null : segment.until(),
+                segment.outcome(),
+                segment.price() == null ? null : PriceResponse.fromDomain(segment.price()),
+                segment.message()
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.adapter.in.web.GlobalExceptionHandler.ErrorResponse;
+import com.inditex.pricing.domain.exception.PriorityConflictException;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.MissingRequestValueException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exception handler for the WebFlux controllers. Produces the same ErrorResponse bodies and
+ * status codes as GlobalExceptionHandler does on the servlet stack.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(MissingRequestValueException.class)
+    public ResponseEntity<ErrorResponse> handleMissingParameter(MissingRequestValueException ex) {
+        return badRequest("Missing required parameter: " + ex.getName());
+    }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(ServerWebInputException ex) {
+        if (ex.getCause() instanceof TypeMismatchException mismatch && ex.getMethodParameter() != null) {
+            return badRequest("Invalid value for parameter '" + ex.getMethodParameter().getParameterName()
+                    + "': " + mismatch.getValue());
+        }
+        return badRequest(ex.getReason());
+    }
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex) {
+        return badRequest(GlobalExceptionHandler.constraintViolationMessage(ex));
+    }
+
+    @ExceptionHandler(PriorityConflictException.class)
+    public ResponseEntity<ErrorResponse> handlePriorityConflict(PriorityConflictException ex) {
+        log.error("Conflicto de prioridad detectado: {}", ex.getMessage());
+        var error = new ErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Data Integrity Error",
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.internalServerError().body(error);
+    }
+
+    /**
+     * Keeps the status of framework errors such as an unknown path (404) or method (405).
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Void> handleResponseStatus(ResponseStatusException ex) {
+        return ResponseEntity.status(ex.getStatusCode()).build();
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        log.error("Excepcion no controlada en el procesamiento de la peticion", ex);
+        var error = new ErrorResponse(
+                HttpStatus.INTERNAL_SERVER_ERROR.value(),
+                "Internal Server Error",
+                "An unexpected error occurred",
+                LocalDateTime.now()
+        );
+        return ResponseEntity.internalServerError().body(error);
+    }
+
+    private static ResponseEntity<ErrorResponse> badRequest(String message) {
+        var error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                "Bad Request",
+                message,
+                LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+}
@@ -0,0 +1,44 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.port.in.ReactiveFindApplicablePriceUseCase;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux counterpart of PriceController, registered when the application runs as a reactive web
+ * application ({@code spring.main.web-application-type=reactive}). Same contract for
+ * GET /api/prices, served without blocking the event loop.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/prices")
+@Validated
+public class ReactivePriceController {
+
+    private final ReactiveFindApplicablePriceUseCase findApplicablePriceUseCase;
+
+    public ReactivePriceController(ReactiveFindApplicablePriceUseCase findApplicablePriceUseCase) {
+        this.findApplicablePriceUseCase = findApplicablePriceUseCase;
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<PriceResponse>> findApplicablePrice(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate,
+            @RequestParam @Positive Long productId,
+            @RequestParam @Positive Long brandId
+    ) {
+        return findApplicablePriceUseCase.findApplicablePrice(applicationDate, productId, brandId)
+                .map(price -> ResponseEntity.ok(PriceResponse.fromDomain(price)))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
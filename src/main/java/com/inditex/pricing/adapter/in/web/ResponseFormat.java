@@ -0,0 +1,78 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Encodings of the price endpoints. The binary ones carry the same PriceResponse fields as JSON,
+ * encoded by Jackson with the application's ObjectMapper settings, so a client switches format
+ * by changing only its Accept header.
+ */
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, ""),
+    CBOR(MediaType.APPLICATION_CBOR, "-cbor"),
+    SMILE(new MediaType("application", "x-jackson-smile"), "-smile");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    ResponseFormat(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Appended to the ETag, since a strong validator must differ between representations.
+     */
+    String etagSuffix() {
+        return etagSuffix;
+    }
+
+    /**
+     * The mapper that writes this format with the configuration of the given JSON mapper.
+     */
+    public ObjectMapper mapperFrom(ObjectMapper jsonMapper) {
+        return switch (this) {
+            case JSON -> jsonMapper;
+            case CBOR -> jsonMapper.copyWith(new CBORFactory());
+            case SMILE -> jsonMapper.copyWith(new SmileFactory());
+        };
+    }
+
+    /**
+     * Picks the format with the highest quality in an Accept header, the earliest on a tie.
+     * No header, a wildcard, or a header that accepts none of the formats yields JSON: HTTP lets
+     * a server ignore Accept, and JSON stays the default representation.
+     */
+    public static ResponseFormat negotiate(String accept) {
+        if (accept == null || accept.isEmpty() || accept.equals(MediaType.APPLICATION_JSON_VALUE)) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException ex) {
+            return JSON;
+        }
+        ResponseFormat best = JSON;
+        double bestQuality = 0;
+        for (MediaType mediaType : accepted) {
+            for (ResponseFormat format : values()) {
+                if (mediaType.getQualityValue() > bestQuality && mediaType.includes(format.mediaType)) {
+                    best = format;
+                    bestQuality = mediaType.getQualityValue();
+                }
+            }
+        }
+        return best;
+    }
+}
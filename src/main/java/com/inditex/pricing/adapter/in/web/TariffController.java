@@ -0,0 +1,168 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.port.in.ImportTariffsUseCase;
+import com.inditex.pricing.domain.port.in.ManageTariffsUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Positive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST controller exposing the tariff write endpoints.
+ * Delegates to the ManageTariffsUseCase and ImportTariffsUseCase input ports; price lookups see
+ * each change as soon as the response is sent.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/tariffs")
+@Validated
+@Tag(name = "Tarifas", description = "Alta, modificacion y baja de tarifas")
+public class TariffController {
+
+    private static final Logger log = LoggerFactory.getLogger(TariffController.class);
+
+    static final String TEXT_CSV = "text/csv";
+
+    private final ManageTariffsUseCase manageTariffsUseCase;
+    private final ImportTariffsUseCase importTariffsUseCase;
+
+    public TariffController(ManageTariffsUseCase manageTariffsUseCase, ImportTariffsUseCase importTariffsUseCase) {
+        this.manageTariffsUseCase = manageTariffsUseCase;
+        this.importTariffsUseCase = importTariffsUseCase;
+    }
+
+    @Operation(summary = "Crear tarifa", description = "Da de alta una tarifa nueva y devuelve su identificador.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Tarifa creada",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TariffResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Tarifa invalida",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @PostMapping
+    public ResponseEntity<TariffResponse> createTariff(@Valid @RequestBody TariffRequest request) {
+        log.info("POST /api/tariffs — productId={}, brandId={}", request.productId(), request.brandId());
+        var created = TariffResponse.fromDomain(manageTariffsUseCase.createTariff(request.toDomain()));
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.id())
+                .toUri();
+        return ResponseEntity.created(location).body(created);
+    }
+
+    @Operation(summary = "Reemplazar tarifa", description = "Sustituye todos los campos de una tarifa existente.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Tarifa actualizada",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TariffResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Tarifa invalida",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No existe la tarifa",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<TariffResponse> updateTariff(
+            @Parameter(description = "Identificador de la tarifa", example = "1")
+            @PathVariable @Positive Long id,
+            @Valid @RequestBody TariffRequest request) {
+        log.info("PUT /api/tariffs/{} — productId={}, brandId={}", id, request.productId(), request.brandId());
+        return ResponseEntity.ok(TariffResponse.fromDomain(manageTariffsUseCase.updateTariff(id, request.toDomain())));
+    }
+
+    @Operation(summary = "Eliminar tarifa", description = "Da de baja una tarifa existente.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Tarifa eliminada", content = @Content),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No existe la tarifa",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteTariff(
+            @Parameter(description = "Identificador de la tarifa", example = "1")
+            @PathVariable @Positive Long id) {
+        log.info("DELETE /api/tariffs/{}", id);
+        manageTariffsUseCase.deleteTariff(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "Importar tarifas en bloque",
+            description = """
+                    Importa un fichero CSV (UTF-8) con la cabecera de la tabla PRICES:
+                    BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR (ID opcional, se ignora).
+                    El fichero se procesa en streaming; las filas invalidas se rechazan y se informan
+                    sin detener la importacion.
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importacion completada",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TariffImportResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Fichero vacio o cabecera invalida",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class))
+            )
+    })
+    @PostMapping(value = "/import", consumes = TEXT_CSV)
+    public ResponseEntity<TariffImportResponse> importTariffs(InputStream body) throws IOException {
+        log.info("POST /api/tariffs/import");
+        try (Reader csv = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            var report = importTariffsUseCase.importTariffs(csv);
+            log.info("Respuesta importacion: HTTP 200 — importadas={}, rechazadas={}",
+                    report.rowsImported(), report.rowsRejected());
+            return ResponseEntity.ok(TariffImportResponse.fromDomain(report));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.model.TariffImportReport;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Response DTO for the bulk tariff import endpoint.
+ */
+@Schema(description = "Resultado de una importacion masiva de tarifas")
+public record TariffImportResponse(
+
+        @Schema(description = "Filas de datos leidas (sin cabecera ni lineas vacias)", example = "1000000")
+        long rowsRead,
+
+        @Schema(description = "Filas insertadas", example = "999998")
+        long rowsImported,
+
+        @Schema(description = "Filas rechazadas por validacion", example = "2")
+        long rowsRejected,
+
+        @Schema(description = "Duracion total en milisegundos", example = "8450")
+        long elapsedMillis,
+
+        @Schema(description = "Filas leidas por segundo", example = "118343")
+        long rowsPerSecond,
+
+        @Schema(description = "Primeras filas rechazadas (maximo 100)")
+        List<Rejected> rejected
+) {
+
+    @Schema(description = "Fila rechazada")
+    public record Rejected(
+
+            @Schema(description = "Numero de linea en el fichero (la cabecera es la 1)", example = "42")
+            long line,
+
+            @Schema(description = "Motivo del rechazo", example = "PRICE is not a decimal: abc")
+            String reason
+    ) {}
+
+    public static TariffImportResponse fromDomain(TariffImportReport report) {
+        return new TariffImportResponse(
+                report.rowsRead(),
+                report.rowsImported(),
+                report.rowsRejected(),
+                report.elapsed().toMillis(),
+                Math.round(report.rowsPerSecond()),
+                report.rejectedSample().stream()
+                        .map(row -> new Rejected(row.line(), row.reason()))
+                        .toList()
+        );
+    }
+}
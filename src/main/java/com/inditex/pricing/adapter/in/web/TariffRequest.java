@@ -0,0 +1,66 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.inditex.pricing.domain.model.Price;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Request DTO for creating or replacing a tariff.
+ * Mirrors the PRICES columns; the amount precision matches DECIMAL(20, 2).
+ */
+@Schema(description = "Tarifa a crear o reemplazar")
+public record TariffRequest(
+
+        @Schema(description = "Identificador de la marca", example = "1")
+        @NotNull @Positive
+        Long brandId,
+
+        @Schema(description = "Inicio de la vigencia de la tarifa", example = "2020-06-14T15:00:00")
+        @NotNull
+        LocalDateTime startDate,
+
+        @Schema(description = "Fin de la vigencia de la tarifa (inclusive)", example = "2020-06-14T18:30:00")
+        @NotNull
+        LocalDateTime endDate,
+
+        @Schema(description = "Identificador de la tarifa aplicada", example = "2")
+        @NotNull @Positive
+        Integer priceList,
+
+        @Schema(description = "Identificador del producto", example = "35455")
+        @NotNull @Positive
+        Long productId,
+
+        @Schema(description = "Prioridad de la tarifa; gana la mayor", example = "1")
+        @NotNull @PositiveOrZero
+        Integer priority,
+
+        @Schema(description = "Precio final a aplicar", example = "25.45")
+        @NotNull @PositiveOrZero @Digits(integer = 18, fraction = 2)
+        BigDecimal price,
+
+        @Schema(description = "Moneda ISO 4217", example = "EUR")
+        @NotNull @Pattern(regexp = "[A-Z]{3}")
+        String currency
+) {
+
+    @JsonIgnore
+    @Schema(hidden = true)
+    @AssertTrue(message = "startDate must not be after endDate")
+    public boolean isDateRangeValid() {
+        return startDate == null || endDate == null || !startDate.isAfter(endDate);
+    }
+
+    public Price toDomain() {
+        return new Price(null, brandId, startDate, endDate, priceList, productId, priority, price, currency);
+    }
+}
@@ -0,0 +1,57 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.domain.model.Price;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for the tariff write endpoints.
+ * Unlike PriceResponse it exposes every stored field, including the id and priority.
+ */
+@Schema(description = "Tarifa almacenada")
+public record TariffResponse(
+
+        @Schema(description = "Identificador de la tarifa", example = "5")
+        Long id,
+
+        @Schema(description = "Identificador de la marca", example = "1")
+        Long brandId,
+
+        @Schema(description = "Inicio de la vigencia de la tarifa", example = "2020-06-14T15:00:00")
+        LocalDateTime startDate,
+
+        @Schema(description = "Fin de la vigencia de la tarifa", example = "2020-06-14T18:30:00")
+        LocalDateTime endDate,
+
+        @Schema(description = "Identificador de la tarifa aplicada", example = "2")
+        Integer priceList,
+
+        @Schema(description = "Identificador del producto", example = "35455")
+        Long productId,
+
+        @Schema(description = "Prioridad de la tarifa", example = "1")
+        Integer priority,
+
+        @Schema(description = "Precio final a aplicar", example = "25.45")
+        BigDecimal price,
+
+        @Schema(description = "Moneda ISO 4217", example = "EUR")
+        String currency
+) {
+
+    public static TariffResponse fromDomain(Price price) {
+        return new TariffResponse(
+                price.id(),
+                price.brandId(),
+                price.startDate(),
+                price.endDate(),
+                price.priceList(),
+                price.productId(),
+                price.priority(),
+                price.amount(),
+                price.currency()
+        );
+    }
+}
@@ -3,48 +3,306 @@ package com.inditex.pricing.adapter.out.cache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.inditex.pricing.application.port.out.CacheMetricsRecorder;
+import com.inditex.pricing.application.port.out.CacheMetricsRecorder.BoundCacheMetrics;
+import com.inditex.pricing.application.port.out.CacheMetricsRecorder.ReloadResult;
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
 import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import com.inditex.pricing.domain.model.PriceQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class CachingPriceRepositoryAdapter implements PriceRepositoryPort {
+/**
+ * Caching decorator for PriceRepositoryPort.
+ * Each resolved result is stored under its (productId, brandId) together with the validity window
+ * reported by the delegate, so any later applicationDate inside a cached window is a hit.
+ * The maximum size is expressed in cached windows, not in products.
+ *
+ * <p>Tariff writes evict only the written (productId, brandId). A load that was already in flight
+ * when the eviction happened may have read the old tariffs, so every store is checked against a
+ * write epoch and dropped again if a write raced with it.
+ *
+ * <p>With refresh-ahead enabled, a hit on an entry older than {@code refreshAfter} still returns the
+ * cached result at once and hands a reload of the whole entry to the refresh executor, so hot keys
+ * are renewed before {@code expireAfterWrite} drops them. A reload re-resolves every cached window
+ * in one batch call to the delegate and only replaces the exact entry it started from, under the
+ * same write epoch check; a failed or rejected reload leaves the old entry in place until it expires.
+ *
+ * <p>Concurrent misses on the same (productId, brandId) are coalesced: one caller loads from the
+ * delegate and the others wait for its result, using it when its window covers their own date and
+ * loading again otherwise. A write drops the pending load from the coalescing map, so a caller
+ * arriving after the write never joins a load that may have read the old tariffs.
+ */
+public class CachingPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort, AutoCloseable {
 
+    private static final Logger log = LoggerFactory.getLogger(CachingPriceRepositoryAdapter.class);
     private static final String CACHE_NAME = "prices.repository";
 
     private final PriceRepositoryPort delegate;
-    private final CacheMetricsRecorder cacheMetrics;
-    private final Cache<CacheKey, List<Price>> cache;
+    private final BoundCacheMetrics cacheMetrics;
+    private final StageMetricsPort stageMetrics;
+    private final Cache<CacheKey, ValidityWindows> cache;
+    private final AtomicLong writeEpoch = new AtomicLong();
+    private final boolean refreshAhead;
+    private final long refreshAfterNanos;
+    private final Executor refreshExecutor;
+    private final Set<CacheKey> refreshing = ConcurrentHashMap.newKeySet();
+    private final Map<CacheKey, CompletableFuture<ApplicablePrices>> loading = new ConcurrentHashMap<>();
 
     public CachingPriceRepositoryAdapter(PriceRepositoryPort delegate,
                                          CacheMetricsRecorder cacheMetrics,
                                          int maxSize,
                                          Duration ttl) {
+        this(delegate, cacheMetrics, StageMetricsPort.NONE, maxSize, ttl);
+    }
+
+    public CachingPriceRepositoryAdapter(PriceRepositoryPort delegate,
+                                         CacheMetricsRecorder cacheMetrics,
+                                         StageMetricsPort stageMetrics,
+                                         int maxSize,
+                                         Duration ttl) {
+        this(delegate, cacheMetrics, stageMetrics, maxSize, ttl, ttl, Runnable::run);
+    }
+
+    /**
+     * @param refreshAfter    age after which a hit triggers a background reload; not shorter than
+     *                        {@code ttl} disables refresh-ahead
+     * @param refreshExecutor runs the reloads; should be bounded, a rejected reload is skipped. An
+     *                        ExecutorService is owned by the adapter and shut down by {@link #close()}
+     */
+    public CachingPriceRepositoryAdapter(PriceRepositoryPort delegate,
+                                         CacheMetricsRecorder cacheMetrics,
+                                         StageMetricsPort stageMetrics,
+                                         int maxSize,
+                                         Duration ttl,
+                                         Duration refreshAfter,
+                                         Executor refreshExecutor) {
         this.delegate = delegate;
-        this.cacheMetrics = cacheMetrics;
+        this.cacheMetrics = cacheMetrics.bind(CACHE_NAME);
+        this.stageMetrics = stageMetrics;
         this.cache = Caffeine.newBuilder()
-                .maximumSize(maxSize)
+                .maximumWeight(maxSize)
+                .weigher((CacheKey key, ValidityWindows windows) -> windows.size())
                 .expireAfterWrite(ttl)
                 .build();
+        this.refreshAhead = refreshAfter.compareTo(ttl) < 0;
+        this.refreshAfterNanos = refreshAfter.toNanos();
+        this.refreshExecutor = refreshExecutor;
     }
 
     @Override
     public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
-        CacheKey key = new CacheKey(applicationDate, productId, brandId);
-        boolean[] wasMiss = {false};
-        List<Price> result = cache.get(key, k -> {
-            wasMiss[0] = true;
-            return delegate.findApplicablePrices(applicationDate, productId, brandId);
-        });
-        if (wasMiss[0]) {
-            cacheMetrics.recordMiss(CACHE_NAME);
+        return findApplicablePricesWithValidity(applicationDate, productId, brandId).prices();
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        CacheKey key = new CacheKey(productId, brandId);
+        ApplicablePrices cached = lookup(key, applicationDate);
+        if (cached != null) {
+            return cached;
+        }
+        while (true) {
+            CompletableFuture<ApplicablePrices> load = new CompletableFuture<>();
+            CompletableFuture<ApplicablePrices> running = loading.putIfAbsent(key, load);
+            if (running == null) {
+                return loadOnce(key, load, applicationDate);
+            }
+            ApplicablePrices shared = await(running);
+            if (shared.covers(applicationDate)) {
+                return shared;
+            }
+        }
+    }
+
+    /**
+     * Loads the key as the single caller currently allowed to, unless a load that finished just before
+     * this one started already cached a window for the date.
+     */
+    private ApplicablePrices loadOnce(CacheKey key, CompletableFuture<ApplicablePrices> load, LocalDateTime applicationDate) {
+        try {
+            ValidityWindows windows = cache.getIfPresent(key);
+            ApplicablePrices loaded = windows == null ? null : windows.find(applicationDate);
+            if (loaded == null) {
+                long epoch = writeEpoch.get();
+                long loadedAt = System.nanoTime();
+                loaded = delegate.findApplicablePricesWithValidity(applicationDate, key.productId(), key.brandId());
+                store(key, loaded, epoch, loadedAt);
+            }
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private static ApplicablePrices await(CompletableFuture<ApplicablePrices> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Serves every query covered by a cached window and sends all the misses to the delegate in one batch.
+     */
+    @Override
+    public Map<PriceQuery, ApplicablePrices> findApplicablePricesInBatch(Collection<PriceQuery> queries) {
+        Map<PriceQuery, ApplicablePrices> results = new HashMap<>();
+        Set<PriceQuery> misses = new LinkedHashSet<>();
+        for (PriceQuery query : queries) {
+            if (results.containsKey(query) || misses.contains(query)) {
+                continue;
+            }
+            ApplicablePrices cached = lookup(new CacheKey(query.productId(), query.brandId()), query.applicationDate());
+            if (cached != null) {
+                results.put(query, cached);
+            } else {
+                misses.add(query);
+            }
+        }
+        if (!misses.isEmpty()) {
+            long epoch = writeEpoch.get();
+            long loadedAt = System.nanoTime();
+            delegate.findApplicablePricesInBatch(misses).forEach((query, loaded) -> {
+                store(new CacheKey(query.productId(), query.brandId()), loaded, epoch, loadedAt);
+                results.put(query, loaded);
+            });
+        }
+        return results;
+    }
+
+    private ApplicablePrices lookup(CacheKey key, LocalDateTime applicationDate) {
+        long started = System.nanoTime();
+        ValidityWindows windows = cache.getIfPresent(key);
+        ApplicablePrices cached = windows == null ? null : windows.find(applicationDate);
+        stageMetrics.record(StageMetricsPort.Stage.CACHE_LOOKUP, System.nanoTime() - started);
+        if (cached != null) {
+            cacheMetrics.recordHit();
+            if (refreshAhead && started - windows.loadedAt() >= refreshAfterNanos) {
+                scheduleRefresh(key, windows);
+            }
         } else {
-            cacheMetrics.recordHit(CACHE_NAME);
+            cacheMetrics.recordMiss();
+        }
+        return cached;
+    }
+
+    /**
+     * Starts a reload of the entry unless one is already running for the key.
+     */
+    private void scheduleRefresh(CacheKey key, ValidityWindows stale) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> refresh(key, stale));
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+            cacheMetrics.recordReload(ReloadResult.REJECTED, 0);
+        }
+    }
+
+    private void refresh(CacheKey key, ValidityWindows stale) {
+        long epoch = writeEpoch.get();
+        long started = System.nanoTime();
+        ReloadResult result = ReloadResult.DISCARDED;
+        try {
+            List<PriceQuery> queries = stale.sampleDates().stream()
+                    .map(date -> new PriceQuery(date, key.productId(), key.brandId()))
+                    .toList();
+            ValidityWindows refreshed = null;
+            for (ApplicablePrices window : delegate.findApplicablePricesInBatch(queries).values()) {
+                ValidityWindows loaded = ValidityWindows.of(window, started);
+                refreshed = refreshed == null ? loaded : ValidityWindows.merge(refreshed, loaded);
+            }
+            if (refreshed != null && writeEpoch.get() == epoch && cache.asMap().replace(key, stale, refreshed)) {
+                if (writeEpoch.get() != epoch) {
+                    cache.invalidate(key);
+                } else {
+                    result = ReloadResult.SUCCESS;
+                }
+            }
+        } catch (RuntimeException ex) {
+            result = ReloadResult.FAILURE;
+            log.warn("Fallo al refrescar precios en cache, se sigue sirviendo el valor anterior: productId={}, brandId={}",
+                    key.productId(), key.brandId(), ex);
+        } finally {
+            refreshing.remove(key);
+            cacheMetrics.recordReload(result, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * Evicts every cached window of the product and brand.
+     */
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        CacheKey key = new CacheKey(productId, brandId);
+        writeEpoch.incrementAndGet();
+        loading.remove(key);
+        cache.invalidate(key);
+    }
+
+    /**
+     * Evicts every cached window after a bulk change.
+     */
+    @Override
+    public void priceBookChanged() {
+        writeEpoch.incrementAndGet();
+        loading.clear();
+        cache.invalidateAll();
+    }
+
+    /**
+     * Shuts the refresh pool down; reloads requested afterwards are rejected and skipped.
+     */
+    @Override
+    public void close() {
+        if (refreshExecutor instanceof ExecutorService pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Stores a loaded result unless a write happened since the load started. The epoch is checked
+     * again after merging: a write that slipped in between has either evicted the key already or
+     * is detected here, so a stale result never outlives the write.
+     */
+    private void store(CacheKey key, ApplicablePrices loaded, long epoch, long loadedAt) {
+        if (writeEpoch.get() != epoch) {
+            return;
+        }
+        cache.asMap().merge(key, ValidityWindows.of(loaded, loadedAt), ValidityWindows::merge);
+        if (writeEpoch.get() != epoch) {
+            cache.invalidate(key);
         }
-        return result;
     }
 
-    private record CacheKey(LocalDateTime applicationDate, Long productId, Long brandId) {}
+    private record CacheKey(Long productId, Long brandId) {}
 }
@@ -0,0 +1,185 @@
+package com.inditex.pricing.adapter.out.cache;
+
+import com.inditex.pricing.application.port.out.KeyFilterMetricsPort;
+import com.inditex.pricing.application.port.out.KeyFilterMetricsPort.Outcome;
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Decorator for PriceRepositoryPort that answers lookups for product and brand pairs with no
+ * tariffs at all without calling the delegate. A Bloom filter of every pair in PRICES is built
+ * from a PriceBookSourcePort at startup; a pair it rules out is answered with an empty result
+ * valid at every date, and any other pair goes to the delegate.
+ *
+ * <p>A tariff write adds its pair to the filter. Bits cannot be removed, so a pair whose last
+ * tariff was deleted keeps passing the filter (a false positive) until the next bulk change
+ * rebuilds it from the source. Change notifications and close() are forwarded to the delegate when
+ * it keeps state of its own.
+ */
+public class KeyFilterPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(KeyFilterPriceRepositoryAdapter.class);
+
+    // Spare capacity so keys added between rebuilds do not push the rate over the target at once
+    private static final double GROWTH_HEADROOM = 1.25;
+    private static final ApplicablePrices NO_TARIFFS =
+            new ApplicablePrices(List.of(), LocalDateTime.MIN, LocalDateTime.MAX);
+
+    private final PriceRepositoryPort delegate;
+    private final PriceBookSourcePort source;
+    private final KeyFilterMetricsPort metrics;
+    private final double falsePositiveRate;
+    // Held while rebuilding so a key added meanwhile lands in the new filter, not the discarded one
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile PriceKeyBloomFilter filter;
+
+    public KeyFilterPriceRepositoryAdapter(PriceRepositoryPort delegate,
+                                           PriceBookSourcePort source,
+                                           KeyFilterMetricsPort metrics,
+                                           double falsePositiveRate) {
+        this.delegate = delegate;
+        this.source = source;
+        this.metrics = metrics;
+        this.falsePositiveRate = falsePositiveRate;
+        rebuild();
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return findApplicablePricesWithValidity(applicationDate, productId, brandId).prices();
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (!filter.mightContain(productId, brandId)) {
+            metrics.record(Outcome.REJECTED);
+            return NO_TARIFFS;
+        }
+        ApplicablePrices result = delegate.findApplicablePricesWithValidity(applicationDate, productId, brandId);
+        metrics.record(outcomeOf(result));
+        return result;
+    }
+
+    /**
+     * Answers the ruled-out queries directly and sends the rest to the delegate in one batch.
+     */
+    @Override
+    public Map<PriceQuery, ApplicablePrices> findApplicablePricesInBatch(Collection<PriceQuery> queries) {
+        PriceKeyBloomFilter current = filter;
+        Map<PriceQuery, ApplicablePrices> results = new HashMap<>();
+        List<PriceQuery> passed = new ArrayList<>(queries.size());
+        for (PriceQuery query : queries) {
+            if (current.mightContain(query.productId(), query.brandId())) {
+                passed.add(query);
+            } else if (results.put(query, NO_TARIFFS) == null) {
+                metrics.record(Outcome.REJECTED);
+            }
+        }
+        if (!passed.isEmpty()) {
+            delegate.findApplicablePricesInBatch(passed).forEach((query, result) -> {
+                metrics.record(outcomeOf(result));
+                results.put(query, result);
+            });
+        }
+        return results;
+    }
+
+    /**
+     * A pair with no tariffs resolves to an empty result open at both ends; a pair that has
+     * tariffs, even none applicable at the date, is always bounded by one of them.
+     */
+    private static Outcome outcomeOf(ApplicablePrices result) {
+        boolean unknownKey = result.prices().isEmpty()
+                && result.validFrom().equals(LocalDateTime.MIN)
+                && result.validUntil().equals(LocalDateTime.MAX);
+        return unknownKey ? Outcome.FALSE_POSITIVE : Outcome.FOUND;
+    }
+
+    /**
+     * Adds the written pair before the delegate drops its state, so the next lookup reaches the new tariffs.
+     */
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        writeLock.lock();
+        try {
+            filter.add(productId, brandId);
+            metrics.filterUpdated(filter.keys(), filter.expectedFalsePositiveRate());
+        } finally {
+            writeLock.unlock();
+        }
+        if (delegate instanceof PriceBookChangePort listener) {
+            listener.tariffsChanged(productId, brandId);
+        }
+    }
+
+    /**
+     * Rebuilds the filter from the source, which also drops the pairs of deleted tariffs.
+     */
+    @Override
+    public void priceBookChanged() {
+        rebuild();
+        if (delegate instanceof PriceBookChangePort listener) {
+            listener.priceBookChanged();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void rebuild() {
+        writeLock.lock();
+        try {
+            KeyBuffer buffer = new KeyBuffer();
+            source.forEachKey(buffer::add);
+            PriceKeyBloomFilter built = PriceKeyBloomFilter.create(
+                    (long) Math.ceil(buffer.size * GROWTH_HEADROOM), falsePositiveRate);
+            for (int i = 0; i < buffer.size; i++) {
+                built.add(buffer.productIds[i], buffer.brandIds[i]);
+            }
+            this.filter = built;
+            metrics.filterUpdated(built.keys(), built.expectedFalsePositiveRate());
+            log.info("Filtro de claves producto-marca construido: claves={}, falsos positivos esperados={}",
+                    built.keys(), built.expectedFalsePositiveRate());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Collects the pairs as primitives, so the filter can be sized before the first bit is set.
+     */
+    private static final class KeyBuffer {
+        private long[] productIds = new long[1024];
+        private long[] brandIds = new long[1024];
+        private int size;
+
+        void add(long productId, long brandId) {
+            if (size == productIds.length) {
+                productIds = Arrays.copyOf(productIds, size * 2);
+                brandIds = Arrays.copyOf(brandIds, size * 2);
+            }
+            productIds[size] = productId;
+            brandIds[size] = brandId;
+            size++;
+        }
+    }
+}
@@ -1,11 +1,27 @@
 package com.inditex.pricing.adapter.out.cache;
 
 import com.inditex.pricing.application.port.out.CacheMetricsRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of CacheMetricsRecorder.
+ * Publishes hits and misses as the {@code cache.gets} counter and derives the
+ * {@code cache.hit.ratio} gauge from them, one set of meters per cache name.
+ * Background reloads are timed as {@code cache.reloads} by result; reloads turned away by a
+ * saturated executor only count, as {@code cache.reloads.rejected}.
+ */
 public class MicrometerCacheMetricsAdapter implements CacheMetricsRecorder {
 
     private final MeterRegistry registry;
+    private final ConcurrentMap<String, CacheMeters> meters = new ConcurrentHashMap<>();
 
     public MicrometerCacheMetricsAdapter(MeterRegistry registry) {
         this.registry = registry;
@@ -13,11 +29,80 @@ public class MicrometerCacheMetricsAdapter implements CacheMetricsRecorder {
 
     @Override
     public void recordHit(String cacheName) {
-        registry.counter("cache.gets", "cache", cacheName, "result", "hit").increment();
+        meters(cacheName).hits().increment();
     }
 
     @Override
     public void recordMiss(String cacheName) {
-        registry.counter("cache.gets", "cache", cacheName, "result", "miss").increment();
+        meters(cacheName).misses().increment();
+    }
+
+    @Override
+    public void recordReload(String cacheName, ReloadResult result, long elapsedNanos) {
+        meters(cacheName).recordReload(result, elapsedNanos);
+    }
+
+    /**
+     * Registers the meters of the cache now and hands them out directly.
+     */
+    @Override
+    public BoundCacheMetrics bind(String cacheName) {
+        return meters(cacheName);
+    }
+
+    private CacheMeters meters(String cacheName) {
+        return meters.computeIfAbsent(cacheName, this::register);
+    }
+
+    private CacheMeters register(String cacheName) {
+        ReloadResult[] results = ReloadResult.values();
+        Timer[] reloads = new Timer[results.length];
+        for (ReloadResult result : results) {
+            if (result != ReloadResult.REJECTED) {
+                reloads[result.ordinal()] = Timer.builder("cache.reloads")
+                        .description("Background reloads of cached entries")
+                        .tags("cache", cacheName, "result", result.name().toLowerCase(Locale.ROOT))
+                        .register(registry);
+            }
+        }
+        CacheMeters cacheMeters = new CacheMeters(
+                registry.counter("cache.gets", "cache", cacheName, "result", "hit"),
+                registry.counter("cache.gets", "cache", cacheName, "result", "miss"),
+                reloads,
+                registry.counter("cache.reloads.rejected", "cache", cacheName));
+        Gauge.builder("cache.hit.ratio", cacheMeters, CacheMeters::hitRatio)
+                .tag("cache", cacheName)
+                .description("Fraction of lookups served from the cache")
+                .register(registry);
+        return cacheMeters;
+    }
+
+    private record CacheMeters(Counter hits, Counter misses, Timer[] reloads, Counter reloadsRejected)
+            implements BoundCacheMetrics {
+
+        @Override
+        public void recordHit() {
+            hits.increment();
+        }
+
+        @Override
+        public void recordMiss() {
+            misses.increment();
+        }
+
+        @Override
+        public void recordReload(ReloadResult result, long elapsedNanos) {
+            if (result == ReloadResult.REJECTED) {
+                reloadsRejected.increment();
+            } else {
+                reloads[result.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        double hitRatio() {
+            double hitCount = hits.count();
+            double total = hitCount + misses.count();
+            return total == 0 ? Double.NaN : hitCount / total;
+        }
     }
 }
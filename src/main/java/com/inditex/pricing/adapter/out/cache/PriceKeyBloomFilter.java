@@ -0,0 +1,104 @@
+package com.inditex.pricing.adapter.out.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter over (productId, brandId) pairs. {@link #mightContain} never answers false for an
+ * added pair; it answers true for an absent pair with a probability that grows with the number of
+ * pairs added. Bits are only ever set, so readers need no lock; adds must come from one thread at a time.
+ *
+ * <p>The k bit positions come from one 64-bit mix of the pair split into two 32-bit hashes
+ * (Kirsch-Mitzenmacher double hashing; the second is forced odd so the positions never collapse into
+ * one), so a probe costs one mix and k word reads.
+ */
+final class PriceKeyBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final int MAX_HASHES = 16;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+    private final AtomicLong keys = new AtomicLong();
+
+    private PriceKeyBloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray(Math.toIntExact((bits + 63) >>> 6));
+        this.bits = bits;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Sizes the filter so that {@code expectedKeys} pairs give the requested false-positive rate.
+     */
+    static PriceKeyBloomFilter create(long expectedKeys, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1 exclusive");
+        }
+        long n = Math.max(1, expectedKeys);
+        long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashes = (int) Math.max(1, Math.min(MAX_HASHES, Math.round((double) bits / n * LN2)));
+        return new PriceKeyBloomFilter(bits, hashes);
+    }
+
+    /**
+     * Adds the pair and counts it as a new key when it set at least one bit, so a pair added twice
+     * is counted once (a new pair whose bits were all set already is not counted either).
+     */
+    void add(long productId, long brandId) {
+        long hash = mix(productId, brandId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        boolean changed = false;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            if ((current & mask) == 0) {
+                words.set(word, current | mask);
+                changed = true;
+            }
+        }
+        if (changed) {
+            keys.incrementAndGet();
+        }
+    }
+
+    boolean mightContain(long productId, long brandId) {
+        long hash = mix(productId, brandId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long keys() {
+        return keys.get();
+    }
+
+    /**
+     * The false-positive probability predicted for the keys added so far, (1 - e^(-kn/m))^k.
+     */
+    double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashes * keys.get() / bits), hashes);
+    }
+
+    /**
+     * Murmur3 finalizer over both ids, so consecutive product ids land on unrelated bits.
+     */
+    private static long mix(long productId, long brandId) {
+        long h = productId * 0x9E3779B97F4A7C15L ^ brandId;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,96 @@
+package com.inditex.pricing.adapter.out.cache;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable set of cached results for one (productId, brandId), sorted by validFrom.
+ * Windows resolved from the same data never overlap, so a lookup is a binary search.
+ * The set remembers when its oldest window was loaded, which decides when it is refreshed.
+ */
+final class ValidityWindows {
+
+    /** Upper bound of windows kept per product; beyond it the set restarts from the newest window. */
+    static final int MAX_WINDOWS_PER_KEY = 64;
+
+    private final ApplicablePrices[] windows;
+    private final long loadedAt;
+
+    private ValidityWindows(ApplicablePrices[] windows, long loadedAt) {
+        this.windows = windows;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * @param loadedAt {@link System#nanoTime()} when the load of the window started
+     */
+    static ValidityWindows of(ApplicablePrices window, long loadedAt) {
+        return new ValidityWindows(new ApplicablePrices[]{window}, loadedAt);
+    }
+
+    /**
+     * Returns the cached result whose window covers the date, or null when none does.
+     */
+    ApplicablePrices find(LocalDateTime date) {
+        int lo = 0;
+        int hi = windows.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            ApplicablePrices window = windows[mid];
+            if (date.isBefore(window.validFrom())) {
+                hi = mid - 1;
+            } else if (!date.isBefore(window.validUntil())) {
+                lo = mid + 1;
+            } else {
+                return window;
+            }
+        }
+        return null;
+    }
+
+    int size() {
+        return windows.length;
+    }
+
+    long loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Returns one date inside each window, so reloading at those dates resolves every window again.
+     */
+    List<LocalDateTime> sampleDates() {
+        return Arrays.stream(windows)
+                .map(window -> !window.validFrom().equals(LocalDateTime.MIN) ? window.validFrom()
+                        : window.validUntil().equals(LocalDateTime.MAX) ? LocalDateTime.MIN
+                        : window.validUntil().minusNanos(1))
+                .toList();
+    }
+
+    /**
+     * Adds the windows of {@code added} that are not already covered by {@code current}.
+     * The result keeps the load time of {@code current}, the older of the two.
+     */
+    static ValidityWindows merge(ValidityWindows current, ValidityWindows added) {
+        ApplicablePrices[] merged = Arrays.copyOf(current.windows, current.windows.length + added.windows.length);
+        int size = current.windows.length;
+        for (ApplicablePrices window : added.windows) {
+            if (current.find(window.validFrom()) == null) {
+                merged[size++] = window;
+            }
+        }
+        if (size == current.windows.length) {
+            return current;
+        }
+        if (size > MAX_WINDOWS_PER_KEY) {
+            return new ValidityWindows(Arrays.copyOfRange(merged, current.windows.length, size), added.loadedAt);
+        }
+        ApplicablePrices[] sorted = Arrays.copyOf(merged, size);
+        Arrays.sort(sorted, Comparator.comparing(ApplicablePrices::validFrom));
+        return new ValidityWindows(sorted, current.loadedAt);
+    }
+}
@@ -0,0 +1,194 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel that hands each item to a callback once the wall clock reaches its deadline.
+ * Deadlines are rounded up to the next tick and hashed into a ring of buckets; every tick only the
+ * bucket of that tick is visited, so scheduling is O(1) and the cost of a tick does not depend on
+ * how many items are waiting elsewhere. Items due more than one turn ahead stay in their bucket and
+ * are skipped until their turn comes.
+ * <p>
+ * Items may be scheduled and cancelled from any thread; both are handed over through lock-free
+ * queues and the buckets are only touched by the ticking thread, which also runs the callback. A
+ * cancelled item is released at once and its slot leaves the bucket on the next tick, so replacing
+ * items does not keep the old ones until their deadline. An item fires up to one tick after its
+ * deadline, never before it. A wall clock set back only delays items.
+ */
+final class BoundaryTimerWheel<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundaryTimerWheel.class);
+
+    private final Clock clock;
+    private final long tickNanos;
+    private final List<Timeout<T>>[] buckets;
+    private final int mask;
+    private final Consumer<T> onDeadline;
+    private final Queue<Timeout<T>> scheduled = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<T>> cancelled = new ConcurrentLinkedQueue<>();
+    private final LocalDateTime origin;
+    private long lastTick;
+
+    /**
+     * @param tick       resolution of the wheel; an item fires at most this long after its deadline
+     * @param wheelSize  number of buckets, rounded up to a power of two; one turn lasts tick * wheelSize
+     * @param onDeadline receives each item on the ticking thread once its deadline has passed
+     */
+    @SuppressWarnings("unchecked")
+    BoundaryTimerWheel(Clock clock, Duration tick, int wheelSize, Consumer<T> onDeadline) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.clock = clock;
+        this.tickNanos = tick.toNanos();
+        this.buckets = new List[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+        this.onDeadline = onDeadline;
+        this.origin = LocalDateTime.now(clock);
+        this.lastTick = 0;
+    }
+
+    /**
+     * Starts ticking on the given executor, which should not run anything else.
+     */
+    void start(ScheduledExecutorService ticker) {
+        ticker.scheduleAtFixedRate(this::tickSafely, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Schedules an item for the given wall-clock date. The date must be less than about 290
+     * years after the wheel was created; callers clamp farther deadlines and schedule again.
+     *
+     * @return the handle that cancels this schedule
+     */
+    Timeout<T> schedule(T item, LocalDateTime deadline) {
+        Timeout<T> timeout = new Timeout<>(item, tickOf(deadline));
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Drops a scheduled item unless it has already fired. The callback may still receive it if
+     * its tick is running at the same time. Idempotent.
+     */
+    void cancel(Timeout<T> timeout) {
+        if (timeout.item != null) {
+            timeout.item = null;
+            cancelled.add(timeout);
+        }
+    }
+
+    /**
+     * Number of items waiting for their deadline, including cancelled ones the ticking thread has
+     * not removed yet. Exposed for tests.
+     */
+    int size() {
+        int size = scheduled.size();
+        for (List<Timeout<T>> bucket : buckets) {
+            size += bucket.size();
+        }
+        return size;
+    }
+
+    /**
+     * Fires every item due at the current wall-clock time. Called by the ticker; exposed for tests.
+     */
+    void tick() {
+        long now = Math.floorDiv(Duration.between(origin, LocalDateTime.now(clock)).toNanos(), tickNanos);
+        Timeout<T> timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            // No-op for an item still in the scheduled queue; it is skipped below
+            buckets[(int) (timeout.deadlineTick & mask)].remove(timeout);
+        }
+        while ((timeout = scheduled.poll()) != null) {
+            T item = timeout.item;
+            if (item == null) {
+                continue;
+            }
+            if (timeout.deadlineTick <= now) {
+                onDeadline.accept(item);
+            } else {
+                buckets[(int) (timeout.deadlineTick & mask)].add(timeout);
+            }
+        }
+        // After a long pause one full turn already visits every bucket
+        long from = Math.max(lastTick + 1, now - mask);
+        for (long tick = from; tick <= now; tick++) {
+            expire(buckets[(int) (tick & mask)], now);
+        }
+        lastTick = Math.max(lastTick, now);
+    }
+
+    private void expire(List<Timeout<T>> bucket, long now) {
+        List<T> due = null;
+        for (Iterator<Timeout<T>> it = bucket.iterator(); it.hasNext(); ) {
+            Timeout<T> timeout = it.next();
+            if (timeout.deadlineTick <= now) {
+                it.remove();
+                T item = timeout.item;
+                if (item == null) {
+                    continue;
+                }
+                timeout.item = null;
+                if (due == null) {
+                    due = new ArrayList<>();
+                }
+                due.add(item);
+            }
+        }
+        // Callbacks run after the bucket walk, since they usually schedule the item again
+        if (due != null) {
+            due.forEach(onDeadline);
+        }
+    }
+
+    /**
+     * An exception escaping a periodic task would silently cancel every later tick.
+     */
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.error("Error procesando la rueda de fronteras de tarifa", e);
+        }
+    }
+
+    /**
+     * Index of the first tick at or after the date, so an item never fires before its deadline.
+     */
+    private long tickOf(LocalDateTime deadline) {
+        return Math.max(0, -Math.floorDiv(-Duration.between(origin, deadline).toNanos(), tickNanos));
+    }
+
+    /**
+     * A scheduled item; compared by identity so a cancellation removes exactly this slot. The item
+     * is cleared once it fires or is cancelled.
+     */
+    static final class Timeout<T> {
+
+        private final long deadlineTick;
+        private volatile T item;
+
+        private Timeout(T item, long deadlineTick) {
+            this.item = item;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
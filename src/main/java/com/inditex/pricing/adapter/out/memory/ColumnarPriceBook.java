@@ -0,0 +1,323 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, column-oriented copy of the price book.
+ * Each tariff is a row index into parallel primitive arrays sorted by (productId, brandId, start):
+ * ids as longs, dates as UTC epoch seconds, amounts as unscaled longs plus their scale, and the
+ * currency as an index into a small dictionary. That is about 60 bytes per tariff with no object
+ * headers, against several hundred for a {@link Price} graph; {@code Price} instances are only
+ * created for the rows a lookup returns.
+ *
+ * <p>Tariff dates are stored with second precision; a date with a fractional second is rejected
+ * when the book is built.
+ */
+final class ColumnarPriceBook {
+
+    private static final ColumnarPriceBook EMPTY = new Builder(0).build();
+
+    private final long[] ids;
+    private final long[] productIds;
+    private final long[] brandIds;
+    private final long[] startSeconds;
+    private final long[] endSeconds;
+    private final int[] priceLists;
+    private final int[] priorities;
+    private final long[] unscaledAmounts;
+    private final byte[] amountScales;
+    private final short[] currencyCodes;
+    private final String[] currencies;
+
+    private ColumnarPriceBook(Builder builder, int[] order) {
+        int size = order.length;
+        this.ids = new long[size];
+        this.productIds = new long[size];
+        this.brandIds = new long[size];
+        this.startSeconds = new long[size];
+        this.endSeconds = new long[size];
+        this.priceLists = new int[size];
+        this.priorities = new int[size];
+        this.unscaledAmounts = new long[size];
+        this.amountScales = new byte[size];
+        this.currencyCodes = new short[size];
+        for (int row = 0; row < size; row++) {
+            int source = order[row];
+            ids[row] = builder.ids[source];
+            productIds[row] = builder.productIds[source];
+            brandIds[row] = builder.brandIds[source];
+            startSeconds[row] = builder.startSeconds[source];
+            endSeconds[row] = builder.endSeconds[source];
+            priceLists[row] = builder.priceLists[source];
+            priorities[row] = builder.priorities[source];
+            unscaledAmounts[row] = builder.unscaledAmounts[source];
+            amountScales[row] = builder.amountScales[source];
+            currencyCodes[row] = builder.currencyCodes[source];
+        }
+        this.currencies = builder.currencies.toArray(String[]::new);
+    }
+
+    static ColumnarPriceBook empty() {
+        return EMPTY;
+    }
+
+    static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the tariffs of the key whose [startDate, endDate] range contains the date.
+     */
+    List<Price> findContaining(LocalDateTime date, long productId, long brandId) {
+        int from = lowerBound(productId, brandId);
+        int to = keyEnd(from, productId, brandId);
+        long second = date.toEpochSecond(ZoneOffset.UTC);
+        int nano = date.getNano();
+        List<Price> matches = null;
+        for (int row = from; row < to && startSeconds[row] <= second; row++) {
+            if (endsAtOrAfter(row, second, nano)) {
+                if (matches == null) {
+                    matches = new ArrayList<>(2);
+                }
+                matches.add(toPrice(row));
+            }
+        }
+        return matches == null ? List.of() : List.copyOf(matches);
+    }
+
+    /**
+     * Resolves the tariffs of the key at the date together with the window in which that set
+     * does not change. Window points are encoded as {@code epochSecond * 2 + nano}, where nano
+     * is 0 for a start date and 1 for the nanosecond after an (inclusive) end date.
+     */
+    ApplicablePrices resolve(LocalDateTime date, long productId, long brandId) {
+        int from = lowerBound(productId, brandId);
+        int to = keyEnd(from, productId, brandId);
+        long second = date.toEpochSecond(ZoneOffset.UTC);
+        int nano = date.getNano();
+        long validFrom = Long.MIN_VALUE;
+        long validUntil = Long.MAX_VALUE;
+        List<Price> matches = null;
+        for (int row = from; row < to; row++) {
+            long start = startSeconds[row] * 2;
+            if (startSeconds[row] > second) {
+                validUntil = Math.min(validUntil, start);
+                break;
+            }
+            validFrom = Math.max(validFrom, start);
+            long endExclusive = endSeconds[row] * 2 + 1;
+            if (endsAtOrAfter(row, second, nano)) {
+                validUntil = Math.min(validUntil, endExclusive);
+                if (matches == null) {
+                    matches = new ArrayList<>(2);
+                }
+                matches.add(toPrice(row));
+            } else {
+                validFrom = Math.max(validFrom, endExclusive);
+            }
+        }
+        return new ApplicablePrices(
+                matches == null ? List.of() : List.copyOf(matches),
+                validFrom == Long.MIN_VALUE ? LocalDateTime.MIN : toDate(validFrom),
+                validUntil == Long.MAX_VALUE ? LocalDateTime.MAX : toDate(validUntil));
+    }
+
+    private boolean endsAtOrAfter(int row, long second, int nano) {
+        return endSeconds[row] > second || (endSeconds[row] == second && nano == 0);
+    }
+
+    private int keyEnd(int from, long productId, long brandId) {
+        int row = from;
+        while (row < productIds.length && productIds[row] == productId && brandIds[row] == brandId) {
+            row++;
+        }
+        return row;
+    }
+
+    /**
+     * First row whose (productId, brandId) is not lower than the given key.
+     */
+    private int lowerBound(long productId, long brandId) {
+        int low = 0;
+        int high = productIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = productIds[mid] != productId
+                    ? Long.compare(productIds[mid], productId)
+                    : Long.compare(brandIds[mid], brandId);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Price toPrice(int row) {
+        return new Price(
+                ids[row],
+                brandIds[row],
+                LocalDateTime.ofEpochSecond(startSeconds[row], 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(endSeconds[row], 0, ZoneOffset.UTC),
+                priceLists[row],
+                productIds[row],
+                priorities[row],
+                BigDecimal.valueOf(unscaledAmounts[row], amountScales[row]),
+                currencies[currencyCodes[row]]);
+    }
+
+    private static LocalDateTime toDate(long point) {
+        return LocalDateTime.ofEpochSecond(point >> 1, (int) (point & 1), ZoneOffset.UTC);
+    }
+
+    /**
+     * Accumulates tariffs in growable columns; rows may arrive in any order.
+     */
+    static final class Builder {
+
+        private int size;
+        private long[] ids;
+        private long[] productIds;
+        private long[] brandIds;
+        private long[] startSeconds;
+        private long[] endSeconds;
+        private int[] priceLists;
+        private int[] priorities;
+        private long[] unscaledAmounts;
+        private byte[] amountScales;
+        private short[] currencyCodes;
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Short> currencyDictionary = new HashMap<>();
+
+        private Builder(int expectedSize) {
+            allocate(Math.max(expectedSize, 16));
+        }
+
+        Builder add(Price price) {
+            if (price.id() == null) {
+                throw new IllegalArgumentException("Columnar price book requires persisted tariffs with an id");
+            }
+            BigDecimal amount = price.amount().scale() < 0 ? price.amount().setScale(0) : price.amount();
+            if (amount.unscaledValue().bitLength() > 63 || amount.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Amount does not fit a scaled long: " + price.amount());
+            }
+            if (size == ids.length) {
+                allocate(size * 2);
+            }
+            ids[size] = price.id();
+            productIds[size] = price.productId();
+            brandIds[size] = price.brandId();
+            startSeconds[size] = epochSecond(price.startDate());
+            endSeconds[size] = epochSecond(price.endDate());
+            priceLists[size] = price.priceList();
+            priorities[size] = price.priority();
+            unscaledAmounts[size] = amount.unscaledValue().longValueExact();
+            amountScales[size] = (byte) amount.scale();
+            currencyCodes[size] = currencyCode(price.currency());
+            size++;
+            return this;
+        }
+
+        ColumnarPriceBook build() {
+            int[] order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            if (!isSorted(order)) {
+                mergeSort(order, new int[size], 0, size);
+            }
+            return new ColumnarPriceBook(this, order);
+        }
+
+        private void allocate(int capacity) {
+            ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+            productIds = productIds == null ? new long[capacity] : Arrays.copyOf(productIds, capacity);
+            brandIds = brandIds == null ? new long[capacity] : Arrays.copyOf(brandIds, capacity);
+            startSeconds = startSeconds == null ? new long[capacity] : Arrays.copyOf(startSeconds, capacity);
+            endSeconds = endSeconds == null ? new long[capacity] : Arrays.copyOf(endSeconds, capacity);
+            priceLists = priceLists == null ? new int[capacity] : Arrays.copyOf(priceLists, capacity);
+            priorities = priorities == null ? new int[capacity] : Arrays.copyOf(priorities, capacity);
+            unscaledAmounts = unscaledAmounts == null ? new long[capacity] : Arrays.copyOf(unscaledAmounts, capacity);
+            amountScales = amountScales == null ? new byte[capacity] : Arrays.copyOf(amountScales, capacity);
+            currencyCodes = currencyCodes == null ? new short[capacity] : Arrays.copyOf(currencyCodes, capacity);
+        }
+
+        private short currencyCode(String currency) {
+            Short code = currencyDictionary.get(currency);
+            if (code != null) {
+                return code;
+            }
+            if (currencies.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct currencies for the columnar price book");
+            }
+            short added = (short) currencies.size();
+            currencies.add(currency);
+            currencyDictionary.put(currency, added);
+            return added;
+        }
+
+        private static long epochSecond(LocalDateTime date) {
+            if (date.getNano() != 0) {
+                throw new IllegalArgumentException("Columnar price book stores whole seconds, got " + date);
+            }
+            return date.toEpochSecond(ZoneOffset.UTC);
+        }
+
+        private int compare(int a, int b) {
+            int cmp = Long.compare(productIds[a], productIds[b]);
+            if (cmp == 0) {
+                cmp = Long.compare(brandIds[a], brandIds[b]);
+            }
+            return cmp != 0 ? cmp : Long.compare(startSeconds[a], startSeconds[b]);
+        }
+
+        private boolean isSorted(int[] order) {
+            for (int i = 1; i < order.length; i++) {
+                if (compare(order[i - 1], order[i]) > 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Sorts row indexes without boxing them; loaders that already deliver rows in key order skip this.
+         */
+        private void mergeSort(int[] order, int[] buffer, int from, int to) {
+            if (to - from < 2) {
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            mergeSort(order, buffer, from, mid);
+            mergeSort(order, buffer, mid, to);
+            if (compare(order[mid - 1], order[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(order, from, buffer, from, to - from);
+            int left = from;
+            int right = mid;
+            for (int i = from; i < to; i++) {
+                if (right >= to || (left < mid && compare(buffer[left], buffer[right]) <= 0)) {
+                    order[i] = buffer[left++];
+                } else {
+                    order[i] = buffer[right++];
+                }
+            }
+        }
+    }
+}
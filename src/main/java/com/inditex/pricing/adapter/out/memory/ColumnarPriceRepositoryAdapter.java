@@ -0,0 +1,71 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory implementation of PriceRepositoryPort backed by a {@link ColumnarPriceBook}.
+ * Trades the per-product interval index of InMemoryPriceRepositoryAdapter for a compact
+ * primitive layout: a lookup binary-searches the (productId, brandId) run and scans its
+ * tariffs, and only the matching rows are turned into {@link Price} objects.
+ * The book is immutable and swapped atomically on reload. Its sorted arrays cannot be patched in
+ * place, so a tariff write reloads the whole book; this mode suits catalogues that change in bulk.
+ */
+public class ColumnarPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarPriceRepositoryAdapter.class);
+
+    private final PriceBookSourcePort source;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile ColumnarPriceBook book = ColumnarPriceBook.empty();
+
+    public ColumnarPriceRepositoryAdapter(PriceBookSourcePort source) {
+        this.source = source;
+        reload();
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return book.findContaining(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return book.resolve(applicationDate, productId, brandId);
+    }
+
+    /**
+     * Reloads the full price book from the source and replaces the current columns.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            ColumnarPriceBook.Builder builder = ColumnarPriceBook.builder(book.size());
+            source.forEachPrice(builder::add);
+            ColumnarPriceBook loaded = builder.build();
+            this.book = loaded;
+            log.info("Catalogo columnar de precios cargado: {} tarifas", loaded.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        reload();
+    }
+
+    @Override
+    public void priceBookChanged() {
+        reload();
+    }
+}
@@ -0,0 +1,222 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * PriceRepositoryPort decorator that answers lookups at the current time from a precomputed
+ * (productId, brandId) to current-segment table, with one hash lookup and no database access.
+ * Each entry keeps the PriceTimeline of its key and is flipped to the next segment by a
+ * {@link BoundaryTimerWheel} when its current one ends.
+ * <p>
+ * A lookup is only served from the table when the entry's segment covers the requested date, so
+ * a flip that is still pending, or a date other than now, falls through to the delegate and the
+ * answer is exact in every case. Batches always go to the delegate.
+ * A tariff write rebuilds only the entry of the affected key, before the delegate is notified.
+ * Every entry that is replaced or removed has its wheel slot cancelled, so superseded timelines
+ * are released right away instead of when their boundary comes due.
+ * <p>
+ * The ticker passed in is owned by the adapter: close() shuts it down, then closes the delegate.
+ */
+public class CurrentPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(CurrentPriceRepositoryAdapter.class);
+
+    /**
+     * Farthest deadline handed to the wheel; an entry whose segment ends later, or never, is
+     * simply checked again then.
+     */
+    private static final Duration MAX_HORIZON = Duration.ofDays(365);
+
+    private final PriceRepositoryPort delegate;
+    private final PriceBookSourcePort source;
+    private final Clock clock;
+    private final BoundaryTimerWheel<Entry> wheel;
+    private final ScheduledExecutorService ticker;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Map<PriceBookKey, Entry> entries;
+
+    /**
+     * @param tick      resolution of the boundary wheel; a lookup right after a boundary may reach
+     *                  the delegate for up to this long
+     * @param wheelSize buckets of the wheel; tick * wheelSize should cover the usual distance
+     *                  between boundaries so most entries are visited only when they are due
+     */
+    public CurrentPriceRepositoryAdapter(PriceRepositoryPort delegate,
+                                         PriceBookSourcePort source,
+                                         Clock clock,
+                                         ScheduledExecutorService ticker,
+                                         Duration tick,
+                                         int wheelSize) {
+        this.delegate = delegate;
+        this.source = source;
+        this.clock = clock;
+        this.wheel = new BoundaryTimerWheel<>(clock, tick, wheelSize, this::flip);
+        this.ticker = ticker;
+        this.entries = build(source.loadAllPrices());
+        wheel.start(ticker);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        Entry entry = entries.get(new PriceBookKey(productId, brandId));
+        if (entry != null && entry.current.covers(applicationDate)) {
+            return entry.current.prices();
+        }
+        return delegate.findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        Entry entry = entries.get(new PriceBookKey(productId, brandId));
+        if (entry != null && entry.current.covers(applicationDate)) {
+            return entry.current;
+        }
+        return delegate.findApplicablePricesWithValidity(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Map<PriceQuery, ApplicablePrices> findApplicablePricesInBatch(Collection<PriceQuery> queries) {
+        return delegate.findApplicablePricesInBatch(queries);
+    }
+
+    /**
+     * Number of product and brand pairs in the table.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Rebuilds the entry of a single product and brand from the source, then lets the delegate
+     * drop its own state for the key.
+     */
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        writeLock.lock();
+        try {
+            PriceBookKey key = new PriceBookKey(productId, brandId);
+            List<Price> tariffs = source.loadPrices(productId, brandId);
+            Entry replaced;
+            if (tariffs.isEmpty()) {
+                replaced = entries.remove(key);
+            } else {
+                Entry entry = new Entry(key, PriceTimeline.of(tariffs), LocalDateTime.now(clock));
+                schedule(entry);
+                replaced = entries.put(key, entry);
+            }
+            if (replaced != null) {
+                wheel.cancel(replaced.timeout);
+            }
+            log.debug("Precio actual recalculado: productId={}, brandId={}, tarifas={}", productId, brandId, tariffs.size());
+        } finally {
+            writeLock.unlock();
+        }
+        if (delegate instanceof PriceBookChangePort listener) {
+            listener.tariffsChanged(productId, brandId);
+        }
+    }
+
+    /**
+     * Replaces the whole table and cancels every entry of the previous one.
+     */
+    @Override
+    public void priceBookChanged() {
+        writeLock.lock();
+        try {
+            Map<PriceBookKey, Entry> previous = entries;
+            this.entries = build(source.loadAllPrices());
+            previous.values().forEach(entry -> wheel.cancel(entry.timeout));
+        } finally {
+            writeLock.unlock();
+        }
+        if (delegate instanceof PriceBookChangePort listener) {
+            listener.priceBookChanged();
+        }
+    }
+
+    /**
+     * Stops the wheel; lookups keep being answered, but entries are no longer flipped and fall
+     * through to the delegate once their segment ends.
+     */
+    @Override
+    public void close() throws Exception {
+        ticker.shutdownNow();
+        if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * Moves an entry to the segment that covers now, unless a write has replaced it meanwhile;
+     * runs on the ticking thread. The next entry is scheduled before it is published, so a write
+     * that replaces it right away always finds its slot to cancel.
+     */
+    private void flip(Entry entry) {
+        Entry next = entry.at(LocalDateTime.now(clock));
+        schedule(next);
+        if (!entries.replace(entry.key, entry, next)) {
+            wheel.cancel(next.timeout);
+        }
+    }
+
+    private void schedule(Entry entry) {
+        LocalDateTime horizon = LocalDateTime.now(clock).plus(MAX_HORIZON);
+        LocalDateTime until = entry.current.validUntil();
+        entry.timeout = wheel.schedule(entry, until.isAfter(horizon) ? horizon : until);
+    }
+
+    private Map<PriceBookKey, Entry> build(List<Price> prices) {
+        Map<PriceBookKey, List<Price>> byKey = prices.stream()
+                .collect(Collectors.groupingBy(p -> new PriceBookKey(p.productId(), p.brandId())));
+        Map<PriceBookKey, Entry> built = new ConcurrentHashMap<>(byKey.size() * 4 / 3 + 1);
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (var tariffs : byKey.entrySet()) {
+            Entry entry = new Entry(tariffs.getKey(), PriceTimeline.of(tariffs.getValue()), now);
+            built.put(tariffs.getKey(), entry);
+            schedule(entry);
+        }
+        log.info("Tabla de precios actuales construida: {} tarifas, {} productos", prices.size(), built.size());
+        return built;
+    }
+
+    /**
+     * Current segment of one key. Compared by identity, so a flip can tell whether a write has
+     * replaced the entry it was scheduled for. The timeout is set before the entry is published.
+     */
+    private static final class Entry {
+
+        private final PriceBookKey key;
+        private final PriceTimeline timeline;
+        private final ApplicablePrices current;
+        private BoundaryTimerWheel.Timeout<Entry> timeout;
+
+        private Entry(PriceBookKey key, PriceTimeline timeline, LocalDateTime now) {
+            this.key = key;
+            this.timeline = timeline;
+            this.current = timeline.resolve(now);
+        }
+
+        private Entry at(LocalDateTime now) {
+            return new Entry(key, timeline, now);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of PriceRepositoryPort.
+ * Loads the whole price book from a PriceBookSourcePort and keeps one interval index per
+ * (productId, brandId), so lookups are answered in O(log n) without a JDBC round trip.
+ * Each per-key index is immutable: a full reload swaps the whole map, and a tariff write
+ * rebuilds and replaces only the index of the affected key.
+ */
+public class InMemoryPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryPriceRepositoryAdapter.class);
+
+    private final PriceBookSourcePort source;
+    // Held while reading from the source; a monitor would pin the carrier of a virtual thread
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Map<PriceBookKey, PriceIntervalIndex> indexes;
+
+    public InMemoryPriceRepositoryAdapter(PriceBookSourcePort source) {
+        this.source = source;
+        this.indexes = buildIndexes(source.loadAllPrices());
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceIntervalIndex index = indexes.get(new PriceBookKey(productId, brandId));
+        return index == null ? List.of() : index.findContaining(applicationDate);
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceIntervalIndex index = indexes.get(new PriceBookKey(productId, brandId));
+        return index == null
+                ? new ApplicablePrices(List.of(), LocalDateTime.MIN, LocalDateTime.MAX)
+                : index.resolve(applicationDate);
+    }
+
+    /**
+     * Reloads the full price book from the source and replaces the current index.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            this.indexes = buildIndexes(source.loadAllPrices());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void priceBookChanged() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index of a single product and brand from the source.
+     */
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        writeLock.lock();
+        try {
+            PriceBookKey key = new PriceBookKey(productId, brandId);
+            List<Price> tariffs = source.loadPrices(productId, brandId);
+            if (tariffs.isEmpty()) {
+                indexes.remove(key);
+            } else {
+                indexes.put(key, new PriceIntervalIndex(tariffs));
+            }
+            log.debug("Indice de precios en memoria actualizado: productId={}, brandId={}, tarifas={}",
+                    productId, brandId, tariffs.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private static Map<PriceBookKey, PriceIntervalIndex> buildIndexes(List<Price> prices) {
+        Map<PriceBookKey, List<Price>> byKey = prices.stream()
+                .collect(Collectors.groupingBy(p -> new PriceBookKey(p.productId(), p.brandId())));
+        Map<PriceBookKey, PriceIntervalIndex> built = new ConcurrentHashMap<>(byKey.size() * 4 / 3 + 1);
+        byKey.forEach((key, tariffs) -> built.put(key, new PriceIntervalIndex(tariffs)));
+        log.info("Indice de precios en memoria cargado: {} tarifas, {} productos", prices.size(), built.size());
+        return built;
+    }
+}
@@ -0,0 +1,27 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.application.port.out.ReactivePriceRepositoryPort;
+import com.inditex.pricing.domain.model.Price;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Exposes one of the in-memory PriceRepositoryPort implementations (memory, segments, columnar)
+ * through ReactivePriceRepositoryPort. Their lookups are CPU-only reads of an immutable index,
+ * so calling them on the subscribing event-loop thread does not block it.
+ */
+public class InMemoryReactivePriceRepositoryAdapter implements ReactivePriceRepositoryPort {
+
+    private final PriceRepositoryPort delegate;
+
+    public InMemoryReactivePriceRepositoryAdapter(PriceRepositoryPort delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Flux<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findApplicablePrices(applicationDate, productId, brandId)));
+    }
+}
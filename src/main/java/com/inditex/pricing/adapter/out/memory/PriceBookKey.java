@@ -0,0 +1,6 @@
+package com.inditex.pricing.adapter.out.memory;
+
+/**
+ * Identifies the tariffs of one product within one brand.
+ */
+record PriceBookKey(Long productId, Long brandId) {}
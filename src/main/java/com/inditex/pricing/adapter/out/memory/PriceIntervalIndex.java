@@ -0,0 +1,102 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Static interval tree over the tariffs of a single (productId, brandId).
+ * Tariffs are sorted by startDate and the sorted array is read as an implicit balanced
+ * binary tree (node = middle of the range), where every node also stores the latest
+ * endDate of its subtree. A stabbing query visits O(log n + k) nodes.
+ * A sorted array of every tariff start and exclusive end gives the validity window of a result.
+ */
+final class PriceIntervalIndex {
+
+    private final Price[] prices;
+    private final LocalDateTime[] maxEnd;
+    private final LocalDateTime[] boundaries;
+
+    PriceIntervalIndex(List<Price> tariffs) {
+        this.prices = tariffs.toArray(new Price[0]);
+        Arrays.sort(this.prices, Comparator.comparing(Price::startDate));
+        this.maxEnd = new LocalDateTime[prices.length];
+        buildMaxEnd(0, prices.length);
+        this.boundaries = tariffs.stream()
+                .flatMap(p -> Stream.of(p.startDate(), ApplicablePrices.endExclusive(p.endDate())))
+                .distinct()
+                .sorted()
+                .toArray(LocalDateTime[]::new);
+    }
+
+    /**
+     * Returns the tariffs containing the given date and the window between the surrounding boundaries.
+     */
+    ApplicablePrices resolve(LocalDateTime date) {
+        int index = Arrays.binarySearch(boundaries, date);
+        // Position of the first boundary strictly after the date
+        int next = index >= 0 ? index + 1 : -index - 1;
+        LocalDateTime from = next > 0 ? boundaries[next - 1] : LocalDateTime.MIN;
+        LocalDateTime until = next < boundaries.length ? boundaries[next] : LocalDateTime.MAX;
+        return new ApplicablePrices(findContaining(date), from, until);
+    }
+
+    /**
+     * Returns every tariff whose [startDate, endDate] range (inclusive) contains the given date.
+     */
+    List<Price> findContaining(LocalDateTime date) {
+        List<Price> result = new ArrayList<>(2);
+        collect(0, prices.length, date, result);
+        return result.isEmpty() ? List.of() : Collections.unmodifiableList(result);
+    }
+
+    int size() {
+        return prices.length;
+    }
+
+    private LocalDateTime buildMaxEnd(int lo, int hi) {
+        if (lo >= hi) {
+            return null;
+        }
+        int mid = (lo + hi) >>> 1;
+        LocalDateTime max = prices[mid].endDate();
+        LocalDateTime left = buildMaxEnd(lo, mid);
+        LocalDateTime right = buildMaxEnd(mid + 1, hi);
+        if (left != null && left.isAfter(max)) {
+            max = left;
+        }
+        if (right != null && right.isAfter(max)) {
+            max = right;
+        }
+        maxEnd[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, LocalDateTime date, List<Price> result) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid].isBefore(date)) {
+            // Every tariff in this subtree has already ended
+            return;
+        }
+        collect(lo, mid, date, result);
+        Price candidate = prices[mid];
+        if (candidate.startDate().isAfter(date)) {
+            // This tariff and every one to its right start after the date
+            return;
+        }
+        if (!candidate.endDate().isBefore(date)) {
+            result.add(candidate);
+        }
+        collect(mid + 1, hi, date, result);
+    }
+}
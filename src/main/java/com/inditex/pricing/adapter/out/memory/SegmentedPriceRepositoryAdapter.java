@@ -0,0 +1,117 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory implementation of PriceRepositoryPort backed by precomputed effective-price segments.
+ * At load time every product/brand's overlapping tariffs are flattened into a PriceTimeline, so a
+ * lookup is one hash lookup plus one binary search and returns the already-selected winner.
+ * Priority conflicts are detected and reported once while building; the affected segments keep
+ * the tied tariffs so the use case still rejects them at request time.
+ * A tariff write re-flattens only the timeline of the affected key.
+ */
+public class SegmentedPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort {
+
+    private static final Logger log = LoggerFactory.getLogger(SegmentedPriceRepositoryAdapter.class);
+
+    private final PriceBookSourcePort source;
+    private final PriceMetricsPort metricsPort;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Map<PriceBookKey, PriceTimeline> timelines;
+
+    public SegmentedPriceRepositoryAdapter(PriceBookSourcePort source, PriceMetricsPort metricsPort) {
+        this.source = source;
+        this.metricsPort = metricsPort;
+        this.timelines = buildTimelines(source.loadAllPrices());
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return findApplicablePricesWithValidity(applicationDate, productId, brandId).prices();
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        PriceTimeline timeline = timelines.get(new PriceBookKey(productId, brandId));
+        return (timeline == null ? PriceTimeline.empty() : timeline).resolve(applicationDate);
+    }
+
+    /**
+     * Reloads the full price book from the source and replaces the current segments.
+     */
+    public void reload() {
+        writeLock.lock();
+        try {
+            this.timelines = buildTimelines(source.loadAllPrices());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void priceBookChanged() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the timeline of a single product and brand from the source.
+     */
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        writeLock.lock();
+        try {
+            PriceBookKey key = new PriceBookKey(productId, brandId);
+            List<Price> tariffs = source.loadPrices(productId, brandId);
+            if (tariffs.isEmpty()) {
+                timelines.remove(key);
+            } else {
+                PriceTimeline timeline = PriceTimeline.of(tariffs);
+                timelines.put(key, timeline);
+                reportConflicts(key, timeline);
+            }
+            log.debug("Segmentos de precio actualizados: productId={}, brandId={}, tarifas={}",
+                    productId, brandId, tariffs.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Map<PriceBookKey, PriceTimeline> buildTimelines(List<Price> prices) {
+        Map<PriceBookKey, List<Price>> byKey = prices.stream()
+                .collect(Collectors.groupingBy(p -> new PriceBookKey(p.productId(), p.brandId())));
+        Map<PriceBookKey, PriceTimeline> built = new ConcurrentHashMap<>(byKey.size() * 4 / 3 + 1);
+        int segments = 0;
+        for (var entry : byKey.entrySet()) {
+            PriceTimeline timeline = PriceTimeline.of(entry.getValue());
+            built.put(entry.getKey(), timeline);
+            segments += timeline.segments().size();
+            reportConflicts(entry.getKey(), timeline);
+        }
+        log.info("Segmentos de precio precalculados: {} tarifas, {} productos, {} segmentos",
+                prices.size(), built.size(), segments);
+        return built;
+    }
+
+    private void reportConflicts(PriceBookKey key, PriceTimeline timeline) {
+        for (ApplicablePrices conflict : timeline.conflicts()) {
+            log.warn("Conflicto de prioridad en segmento [{}, {}): productId={}, brandId={}, tarifas={}",
+                    conflict.validFrom(), conflict.validUntil(), key.productId(), key.brandId(), conflict.prices().size());
+            metricsPort.recordPriorityConflict(key.productId(), key.brandId(), conflict.prices().size());
+        }
+    }
+}
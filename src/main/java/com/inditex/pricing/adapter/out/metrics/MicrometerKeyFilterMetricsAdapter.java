@@ -0,0 +1,57 @@
+package com.inditex.pricing.adapter.out.metrics;
+
+import com.inditex.pricing.application.port.out.KeyFilterMetricsPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Locale;
+
+/**
+ * Micrometer implementation of KeyFilterMetricsPort.
+ * Counts lookups as {@code prices.key.filter} tagged with the outcome, and publishes the observed
+ * false-positive ratio next to the rate the filter predicts for its current number of keys.
+ */
+public class MicrometerKeyFilterMetricsAdapter implements KeyFilterMetricsPort {
+
+    private final Counter[] outcomes;
+    private volatile long keys;
+    private volatile double expectedFalsePositiveRate = Double.NaN;
+
+    public MicrometerKeyFilterMetricsAdapter(MeterRegistry registry) {
+        Outcome[] values = Outcome.values();
+        this.outcomes = new Counter[values.length];
+        for (Outcome outcome : values) {
+            outcomes[outcome.ordinal()] = Counter.builder("prices.key.filter")
+                    .description("Lookups checked against the filter of known product and brand pairs")
+                    .tag("result", outcome.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        Gauge.builder("prices.key.filter.keys", this, adapter -> adapter.keys)
+                .description("Product and brand pairs in the filter")
+                .register(registry);
+        Gauge.builder("prices.key.filter.expected.fpp", this, adapter -> adapter.expectedFalsePositiveRate)
+                .description("False-positive probability predicted for the pairs in the filter")
+                .register(registry);
+        Gauge.builder("prices.key.filter.false.positive.ratio", this, MicrometerKeyFilterMetricsAdapter::falsePositiveRatio)
+                .description("Fraction of lookups for unknown pairs that the filter let through")
+                .register(registry);
+    }
+
+    @Override
+    public void record(Outcome outcome) {
+        outcomes[outcome.ordinal()].increment();
+    }
+
+    @Override
+    public void filterUpdated(long keys, double expectedFalsePositiveRate) {
+        this.keys = keys;
+        this.expectedFalsePositiveRate = expectedFalsePositiveRate;
+    }
+
+    private double falsePositiveRatio() {
+        double falsePositives = outcomes[Outcome.FALSE_POSITIVE.ordinal()].count();
+        double unknown = falsePositives + outcomes[Outcome.REJECTED.ordinal()].count();
+        return unknown == 0 ? Double.NaN : falsePositives / unknown;
+    }
+}
@@ -1,22 +1,23 @@
 package com.inditex.pricing.adapter.out.metrics;
 
 import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 
 /**
  * Micrometer implementation of PriceMetricsPort.
- * Records business-level price metrics as Prometheus-compatible counters.
+ * Records business-level price metrics as Prometheus-compatible counters, registered up front.
  */
 public class MicrometerPriceMetricsAdapter implements PriceMetricsPort {
 
-    private final MeterRegistry registry;
+    private final Counter priorityConflicts;
 
     public MicrometerPriceMetricsAdapter(MeterRegistry registry) {
-        this.registry = registry;
+        this.priorityConflicts = registry.counter("prices.priority.conflicts");
     }
 
     @Override
     public void recordPriorityConflict(Long productId, Long brandId, int conflictingCount) {
-        registry.counter("prices.priority.conflicts").increment();
+        priorityConflicts.increment();
     }
 }
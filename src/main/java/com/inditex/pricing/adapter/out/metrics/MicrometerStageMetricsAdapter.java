@@ -0,0 +1,38 @@
+package com.inditex.pricing.adapter.out.metrics;
+
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer implementation of StageMetricsPort.
+ * Registers one {@code prices.lookup.stage} timer per stage up front, tagged with the stage name,
+ * with a percentile histogram and the configured SLO buckets. Recording indexes an array by the
+ * stage ordinal, so it does no registry lookup and allocates nothing.
+ */
+public class MicrometerStageMetricsAdapter implements StageMetricsPort {
+
+    private final Timer[] timers;
+
+    public MicrometerStageMetricsAdapter(MeterRegistry registry, Duration... serviceLevelObjectives) {
+        Stage[] stages = Stage.values();
+        this.timers = new Timer[stages.length];
+        for (Stage stage : stages) {
+            timers[stage.ordinal()] = Timer.builder("prices.lookup.stage")
+                    .description("Latency of one stage of the price lookup pipeline")
+                    .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+                    .publishPercentileHistogram()
+                    .serviceLevelObjectives(serviceLevelObjectives)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void record(Stage stage, long elapsedNanos) {
+        timers[stage.ordinal()].record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,122 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceBookStreamPort;
+import com.inditex.pricing.domain.model.Price;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of PriceBookStreamPort and PriceBookSourcePort.
+ * Reads tariffs through a forward-only cursor and hands each row to the caller as soon as it is
+ * mapped, so no list of rows or JPA entities is ever built. The brand export ordering is served by
+ * IDX_PRICES_BRAND_EXPORT; the full scan is ordered by (PRODUCT_ID, BRAND_ID) so columnar loaders
+ * and the snapshot writer receive the rows of each key together (served by IDX_PRICES_PRIORITY),
+ * and the distinct key scan reads the leading columns of that same index.
+ */
+public class JdbcPriceBookStreamAdapter implements PriceBookStreamPort, PriceBookSourcePort {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcPriceBookStreamAdapter.class);
+
+    private static final String APPLICABLE_BY_BRAND_SQL = "SELECT " + PriceRowMapper.COLUMNS + """
+             FROM PRICES
+            WHERE BRAND_ID = ?
+              AND START_DATE <= ?
+              AND END_DATE >= ?
+            ORDER BY PRODUCT_ID, PRIORITY DESC
+            """;
+
+    private static final String ALL_SQL = "SELECT " + PriceRowMapper.COLUMNS + """
+             FROM PRICES
+            ORDER BY PRODUCT_ID, BRAND_ID
+            """;
+
+    private static final String KEYS_SQL = """
+            SELECT DISTINCT PRODUCT_ID, BRAND_ID
+              FROM PRICES
+            """;
+
+    // Order-independent sum of a hash per row, so any insert, update or delete changes it
+    private static final String FINGERPRINT_SQL = """
+            SELECT COUNT(*),
+                   COALESCE(SUM(ORA_HASH(CONCAT_WS('|', ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST,
+                                                 PRODUCT_ID, PRIORITY, PRICE, CURR))), 0)
+              FROM PRICES
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public JdbcPriceBookStreamAdapter(JdbcTemplate jdbcTemplate, int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void forEachApplicablePrice(Long brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        log.debug("Abriendo cursor de exportacion: brandId={}, fecha={}", brandId, applicationDate);
+        int[] rowNum = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    APPLICABLE_BY_BRAND_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, brandId);
+            ps.setObject(2, applicationDate);
+            ps.setObject(3, applicationDate);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(PriceRowMapper.INSTANCE.mapRow(rs, rowNum[0]++)));
+        log.debug("Cursor de exportacion cerrado: brandId={}, filas={}", brandId, rowNum[0]);
+    }
+
+    @Override
+    public List<Price> loadAllPrices() {
+        List<Price> prices = new ArrayList<>();
+        forEachPrice(prices::add);
+        return prices;
+    }
+
+    @Override
+    public void forEachPrice(Consumer<Price> action) {
+        int[] rowNum = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    ALL_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(PriceRowMapper.INSTANCE.mapRow(rs, rowNum[0]++)));
+        log.debug("Cursor del catalogo completo cerrado: filas={}", rowNum[0]);
+    }
+
+    @Override
+    public void forEachKey(KeyConsumer action) {
+        int[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    KEYS_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            action.accept(rs.getLong(1), rs.getLong(2));
+            rows[0]++;
+        });
+        log.debug("Cursor de claves producto-marca cerrado: claves={}", rows[0]);
+    }
+
+    /**
+     * Computed by the database in one aggregate query, without sending the rows to the JVM.
+     */
+    @Override
+    public long fingerprint() {
+        return jdbcTemplate.queryForObject(FINGERPRINT_SQL,
+                (rs, rowNum) -> rs.getLong(1) * 0x9E3779B97F4A7C15L + rs.getLong(2));
+    }
+}
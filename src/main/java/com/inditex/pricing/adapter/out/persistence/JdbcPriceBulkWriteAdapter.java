@@ -0,0 +1,48 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.application.port.out.PriceBulkWritePort;
+import com.inditex.pricing.domain.model.Price;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of PriceBulkWritePort.
+ * Inserts go straight through a batched PreparedStatement: JPA {@code save} cannot batch
+ * PriceEntity inserts because IDENTITY ids force one round trip per row, whereas here the
+ * generated ids are simply not read back.
+ */
+public class JdbcPriceBulkWriteAdapter implements PriceBulkWritePort {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public JdbcPriceBulkWriteAdapter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public int insertAll(List<Price> prices) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, prices, batchSize, (ps, price) -> {
+                    ps.setLong(1, price.brandId());
+                    ps.setObject(2, price.startDate());
+                    ps.setObject(3, price.endDate());
+                    ps.setInt(4, price.priceList());
+                    ps.setLong(5, price.productId());
+                    ps.setInt(6, price.priority());
+                    ps.setBigDecimal(7, price.amount());
+                    ps.setString(8, price.currency());
+                }));
+        return prices.size();
+    }
+}
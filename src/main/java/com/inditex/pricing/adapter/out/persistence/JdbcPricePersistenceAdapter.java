@@ -0,0 +1,233 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.application.port.out.PriceWritePort;
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import com.inditex.pricing.application.port.out.StageMetricsPort.Stage;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC counterpart of PricePersistenceAdapter, implementing the same output ports without JPA.
+ * Each lookup is one constant SQL string bound by position, and every row is mapped straight from
+ * the ResultSet to {@link Price} by PriceRowMapper: there is no entity, no persistence context and no
+ * dirty checking. Because the SQL text never changes, the driver's statement cache (H2's per-session
+ * query cache, server-side prepared statements elsewhere) reuses the parsed plan on every call.
+ *
+ * <p>Mapping happens while the cursor is read, so lookups record a single DB_QUERY stage that
+ * covers both. Used by the {@code lean} profile, which does not start Hibernate at all.
+ */
+public class JdbcPricePersistenceAdapter implements PriceRepositoryPort, PriceBookSourcePort, PriceWritePort {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcPricePersistenceAdapter.class);
+
+    private static final String APPLICABLE_SQL = "SELECT " + PriceRowMapper.COLUMNS + """
+             FROM PRICES
+            WHERE PRODUCT_ID = ?
+              AND BRAND_ID = ?
+              AND START_DATE <= ?
+              AND END_DATE >= ?
+            ORDER BY PRIORITY DESC
+            FETCH FIRST %d ROWS ONLY""".formatted(TOP_CANDIDATES);
+
+    // Aggregates over the leading columns of IDX_PRICES_PRIORITY instead of returning every tariff
+    private static final String BOUNDARIES_SQL = """
+            SELECT MAX(CASE WHEN START_DATE <= ? THEN START_DATE END),
+                   MAX(CASE WHEN END_DATE < ? THEN END_DATE END),
+                   MIN(CASE WHEN START_DATE > ? THEN START_DATE END),
+                   MIN(CASE WHEN END_DATE >= ? THEN END_DATE END)
+              FROM PRICES
+             WHERE PRODUCT_ID = ?
+               AND BRAND_ID = ?
+            """;
+
+    private static final String BY_KEY_SQL = "SELECT " + PriceRowMapper.COLUMNS + """
+             FROM PRICES
+            WHERE PRODUCT_ID = ?
+              AND BRAND_ID = ?
+            """;
+
+    private static final String BY_BRAND_SQL = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES WHERE BRAND_ID = ?";
+
+    private static final String BY_ID_SQL = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES WHERE ID = ?";
+
+    private static final String ALL_SQL = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO PRICES (BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE PRICES
+               SET BRAND_ID = ?, START_DATE = ?, END_DATE = ?, PRICE_LIST = ?, PRODUCT_ID = ?, PRIORITY = ?, PRICE = ?, CURR = ?
+             WHERE ID = ?
+            """;
+
+    private static final String DELETE_SQL = "DELETE FROM PRICES WHERE ID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StageMetricsPort stageMetrics;
+
+    public JdbcPricePersistenceAdapter(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, StageMetricsPort.NONE);
+    }
+
+    public JdbcPricePersistenceAdapter(JdbcTemplate jdbcTemplate, StageMetricsPort stageMetrics) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stageMetrics = stageMetrics;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        List<Price> prices = jdbcTemplate.query(APPLICABLE_SQL, PriceRowMapper.INSTANCE,
+                productId, brandId, applicationDate, applicationDate);
+        stageMetrics.record(Stage.DB_QUERY, System.nanoTime() - started);
+        return prices;
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        List<Price> prices = jdbcTemplate.query(APPLICABLE_SQL, PriceRowMapper.INSTANCE,
+                productId, brandId, applicationDate, applicationDate);
+        TariffBoundaries boundaries = jdbcTemplate.queryForObject(BOUNDARIES_SQL, (rs, rowNum) -> new TariffBoundaries(
+                        rs.getObject(1, LocalDateTime.class),
+                        rs.getObject(2, LocalDateTime.class),
+                        rs.getObject(3, LocalDateTime.class),
+                        rs.getObject(4, LocalDateTime.class)),
+                applicationDate, applicationDate, applicationDate, applicationDate, productId, brandId);
+        stageMetrics.record(Stage.DB_QUERY, System.nanoTime() - started);
+        return boundaries.window(prices);
+    }
+
+    /**
+     * Same strategy as PricePersistenceAdapter: one query matching the product and brand id sets
+     * independently, with rows of pairs that were not requested discarded while grouping.
+     */
+    @Override
+    public Map<PriceQuery, ApplicablePrices> findApplicablePricesInBatch(Collection<PriceQuery> queries) {
+        if (queries.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> productIds = queries.stream().map(PriceQuery::productId).collect(Collectors.toSet());
+        Set<Long> brandIds = queries.stream().map(PriceQuery::brandId).collect(Collectors.toSet());
+        String sql = "SELECT " + PriceRowMapper.COLUMNS + " FROM PRICES WHERE PRODUCT_ID IN (" + placeholders(productIds.size())
+                + ") AND BRAND_ID IN (" + placeholders(brandIds.size()) + ")";
+        Object[] args = new Object[productIds.size() + brandIds.size()];
+        int i = 0;
+        for (Long productId : productIds) {
+            args[i++] = productId;
+        }
+        for (Long brandId : brandIds) {
+            args[i++] = brandId;
+        }
+
+        long started = System.nanoTime();
+        Map<ProductBrand, List<Price>> tariffsByKey = jdbcTemplate.query(sql, PriceRowMapper.INSTANCE, args).stream()
+                .collect(Collectors.groupingBy(p -> new ProductBrand(p.productId(), p.brandId())));
+        stageMetrics.record(Stage.DB_QUERY, System.nanoTime() - started);
+
+        Map<PriceQuery, ApplicablePrices> results = new HashMap<>();
+        for (PriceQuery query : queries) {
+            List<Price> tariffs = tariffsByKey.getOrDefault(new ProductBrand(query.productId(), query.brandId()), List.of());
+            results.computeIfAbsent(query, q -> ApplicablePrices.resolve(tariffs, q.applicationDate()));
+        }
+        return results;
+    }
+
+    @Override
+    public List<Price> loadAllPrices() {
+        log.debug("Cargando todas las tarifas desde BD por JDBC");
+        return jdbcTemplate.query(ALL_SQL, PriceRowMapper.INSTANCE);
+    }
+
+    @Override
+    public List<Price> loadPrices(Long productId, Long brandId) {
+        log.debug("Cargando tarifas desde BD por JDBC: productId={}, brandId={}", productId, brandId);
+        return jdbcTemplate.query(BY_KEY_SQL, PriceRowMapper.INSTANCE, productId, brandId);
+    }
+
+    @Override
+    public List<Price> loadBrandPrices(Long brandId) {
+        log.debug("Cargando tarifas de la marca desde BD por JDBC: brandId={}", brandId);
+        return jdbcTemplate.query(BY_BRAND_SQL, PriceRowMapper.INSTANCE, brandId);
+    }
+
+    @Override
+    public void forEachPrice(Consumer<Price> action) {
+        int[] rowNum = {0};
+        jdbcTemplate.query(ALL_SQL, (RowCallbackHandler) rs -> action.accept(PriceRowMapper.INSTANCE.mapRow(rs, rowNum[0]++)));
+    }
+
+    @Override
+    public Price insert(Price price) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_SQL, new String[]{"ID"});
+            bind(ps, price);
+            return ps;
+        }, keyHolder);
+        Number id = keyHolder.getKey();
+        return new Price(id.longValue(), price.brandId(), price.startDate(), price.endDate(), price.priceList(),
+                price.productId(), price.priority(), price.amount(), price.currency());
+    }
+
+    @Override
+    public Optional<Price> findById(Long id) {
+        return jdbcTemplate.query(BY_ID_SQL, PriceRowMapper.INSTANCE, id).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Price> update(Price price) {
+        int updated = jdbcTemplate.update(UPDATE_SQL, ps -> {
+            bind(ps, price);
+            ps.setLong(9, price.id());
+        });
+        return updated == 0 ? Optional.empty() : Optional.of(price);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    private static void bind(PreparedStatement ps, Price price) throws SQLException {
+        ps.setLong(1, price.brandId());
+        ps.setObject(2, price.startDate());
+        ps.setObject(3, price.endDate());
+        ps.setInt(4, price.priceList());
+        ps.setLong(5, price.productId());
+        ps.setInt(6, price.priority());
+        ps.setBigDecimal(7, price.amount());
+        ps.setString(8, price.currency());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private record ProductBrand(Long productId, Long brandId) {}
+}
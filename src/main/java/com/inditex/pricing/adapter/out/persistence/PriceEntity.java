@@ -64,6 +64,16 @@ public class PriceEntity {
         this.currency = currency;
     }
 
+    /**
+     * Maps a domain price to a JPA entity. A non-null id makes {@code save} update that row.
+     */
+    static PriceEntity fromDomain(Price price) {
+        PriceEntity entity = new PriceEntity(price.brandId(), price.startDate(), price.endDate(),
+                price.priceList(), price.productId(), price.priority(), price.amount(), price.currency());
+        entity.id = price.id();
+        return entity;
+    }
+
     /**
      * Maps this JPA entity to the domain model.
      */
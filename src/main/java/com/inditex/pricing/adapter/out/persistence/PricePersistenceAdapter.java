@@ -1,35 +1,171 @@
 package com.inditex.pricing.adapter.out.persistence;
 
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceWritePort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
 import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import com.inditex.pricing.application.port.out.StageMetricsPort.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
- * Persistence adapter implementing the output port.
- * Bridges the domain's PriceRepositoryPort with Spring Data JPA.
+ * Persistence adapter implementing the output ports.
+ * Bridges the domain's PriceRepositoryPort, PriceBookSourcePort and PriceWritePort with Spring Data JPA.
+ * Each write runs in the repository's own transaction, so it is committed when the method returns.
  */
-public class PricePersistenceAdapter implements PriceRepositoryPort {
+public class PricePersistenceAdapter implements PriceRepositoryPort, PriceBookSourcePort, PriceWritePort {
 
     private static final Logger log = LoggerFactory.getLogger(PricePersistenceAdapter.class);
 
     private final SpringDataPriceRepository repository;
+    private final StageMetricsPort stageMetrics;
 
     public PricePersistenceAdapter(SpringDataPriceRepository repository) {
+        this(repository, StageMetricsPort.NONE);
+    }
+
+    public PricePersistenceAdapter(SpringDataPriceRepository repository, StageMetricsPort stageMetrics) {
         this.repository = repository;
+        this.stageMetrics = stageMetrics;
     }
 
     @Override
     public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
-        log.debug("Consultando BD: productId={}, brandId={}, fecha={}", productId, brandId, applicationDate);
-        var prices = repository.findApplicablePrices(applicationDate, productId, brandId)
+        if (log.isDebugEnabled()) {
+            log.debug("Consultando BD: productId={}, brandId={}, fecha={}", productId, brandId, applicationDate);
+        }
+        long started = System.nanoTime();
+        List<PriceEntity> entities = repository.findTopApplicablePrices(applicationDate, productId, brandId,
+                Limit.of(TOP_CANDIDATES));
+        var prices = toDomain(entities, started);
+        log.debug("Filas encontradas en BD: {}", prices.size());
+        return prices;
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (log.isDebugEnabled()) {
+            log.debug("Consultando tarifas en BD para ventana de validez: productId={}, brandId={}, fecha={}",
+                    productId, brandId, applicationDate);
+        }
+        long started = System.nanoTime();
+        List<PriceEntity> entities = repository.findTopApplicablePrices(applicationDate, productId, brandId,
+                Limit.of(TOP_CANDIDATES));
+        TariffBoundaries boundaries = repository.findTariffBoundaries(applicationDate, productId, brandId);
+        var result = boundaries.window(toDomain(entities, started));
+        if (log.isDebugEnabled()) {
+            log.debug("Tarifas aplicables: {}, validez: [{}, {})",
+                    result.prices().size(), result.validFrom(), result.validUntil());
+        }
+        return result;
+    }
+
+    /**
+     * Fetches the tariffs of every product and brand in the batch with a single query and resolves
+     * each lookup in memory. The query matches the product and brand id sets independently, so rows
+     * of pairs that were not requested are discarded while grouping.
+     */
+    @Override
+    public Map<PriceQuery, ApplicablePrices> findApplicablePricesInBatch(Collection<PriceQuery> queries) {
+        Set<Long> productIds = queries.stream().map(PriceQuery::productId).collect(Collectors.toSet());
+        Set<Long> brandIds = queries.stream().map(PriceQuery::brandId).collect(Collectors.toSet());
+        if (log.isDebugEnabled()) {
+            log.debug("Consultando BD en lote: {} consultas, {} productos, {} marcas",
+                    queries.size(), productIds.size(), brandIds.size());
+        }
+
+        Map<ProductBrand, List<Price>> tariffsByKey = repository.findByProductIdInAndBrandIdIn(productIds, brandIds)
                 .stream()
+                .map(PriceEntity::toDomain)
+                .collect(Collectors.groupingBy(p -> new ProductBrand(p.productId(), p.brandId())));
+
+        Map<PriceQuery, ApplicablePrices> results = new HashMap<>();
+        for (PriceQuery query : queries) {
+            List<Price> tariffs = tariffsByKey.getOrDefault(new ProductBrand(query.productId(), query.brandId()), List.of());
+            results.computeIfAbsent(query, q -> ApplicablePrices.resolve(tariffs, q.applicationDate()));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Filas encontradas en BD para el lote: {}", tariffsByKey.values().stream().mapToInt(List::size).sum());
+        }
+        return results;
+    }
+
+    /**
+     * Maps the entities of a lookup, recording the query time (up to {@code started}) and the mapping time.
+     */
+    private List<Price> toDomain(List<PriceEntity> entities, long started) {
+        long queried = System.nanoTime();
+        stageMetrics.record(Stage.DB_QUERY, queried - started);
+        List<Price> prices = entities.stream()
                 .map(PriceEntity::toDomain)
                 .toList();
-        log.debug("Filas encontradas en BD: {}", prices.size());
+        stageMetrics.record(Stage.ENTITY_MAPPING, System.nanoTime() - queried);
         return prices;
     }
+
+    @Override
+    public List<Price> loadAllPrices() {
+        log.debug("Cargando todas las tarifas desde BD");
+        return repository.findAll()
+                .stream()
+                .map(PriceEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Price> loadPrices(Long productId, Long brandId) {
+        log.debug("Cargando tarifas desde BD: productId={}, brandId={}", productId, brandId);
+        return repository.findByProductIdAndBrandId(productId, brandId)
+                .stream()
+                .map(PriceEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Price> loadBrandPrices(Long brandId) {
+        log.debug("Cargando tarifas de la marca desde BD: brandId={}", brandId);
+        return repository.findByBrandId(brandId)
+                .stream()
+                .map(PriceEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Price insert(Price price) {
+        PriceEntity entity = new PriceEntity(price.brandId(), price.startDate(), price.endDate(),
+                price.priceList(), price.productId(), price.priority(), price.amount(), price.currency());
+        return repository.save(entity).toDomain();
+    }
+
+    @Override
+    public Optional<Price> findById(Long id) {
+        return repository.findById(id).map(PriceEntity::toDomain);
+    }
+
+    @Override
+    public Optional<Price> update(Price price) {
+        int updated = repository.updateById(price.id(), price.brandId(), price.startDate(), price.endDate(),
+                price.priceList(), price.productId(), price.priority(), price.amount(), price.currency());
+        return updated == 0 ? Optional.empty() : Optional.of(price);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        repository.deleteById(id);
+    }
+
+    private record ProductBrand(Long productId, Long brandId) {}
 }
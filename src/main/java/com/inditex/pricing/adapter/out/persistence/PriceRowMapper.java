@@ -0,0 +1,36 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.domain.model.Price;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Maps a PRICES row straight to the domain model, without going through PriceEntity.
+ * Expects the columns selected by {@link #COLUMNS}.
+ */
+final class PriceRowMapper implements RowMapper<Price> {
+
+    static final PriceRowMapper INSTANCE = new PriceRowMapper();
+
+    static final String COLUMNS = "ID, BRAND_ID, START_DATE, END_DATE, PRICE_LIST, PRODUCT_ID, PRIORITY, PRICE, CURR";
+
+    private PriceRowMapper() {
+    }
+
+    @Override
+    public Price mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new Price(
+                rs.getLong(1),
+                rs.getLong(2),
+                rs.getObject(3, LocalDateTime.class),
+                rs.getObject(4, LocalDateTime.class),
+                rs.getInt(5),
+                rs.getLong(6),
+                rs.getInt(7),
+                rs.getBigDecimal(8),
+                rs.getString(9));
+    }
+}
@@ -0,0 +1,70 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.application.port.out.ReactivePriceRepositoryPort;
+import com.inditex.pricing.domain.model.Price;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC implementation of ReactivePriceRepositoryPort.
+ * Runs the same top-priority range query as the JPA adapter over a pooled R2DBC connection and maps each row
+ * straight to the domain model. The connection is released when the result completes, fails or
+ * is cancelled.
+ *
+ * <p>The pool is owned by this adapter instead of being exposed as a ConnectionFactory bean,
+ * which would make Spring Boot back off from the JDBC DataSource used by Flyway and JPA.
+ */
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepositoryPort, AutoCloseable {
+
+    private static final String APPLICABLE_SQL = "SELECT " + PriceRowMapper.COLUMNS + """
+             FROM PRICES
+            WHERE PRODUCT_ID = $1
+              AND BRAND_ID = $2
+              AND START_DATE <= $3
+              AND END_DATE >= $3
+            ORDER BY PRIORITY DESC
+            FETCH FIRST %d ROWS ONLY""".formatted(PriceRepositoryPort.TOP_CANDIDATES);
+
+    private final ConnectionPool connectionPool;
+
+    public R2dbcPriceRepositoryAdapter(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public Flux<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return Flux.usingWhen(
+                connectionPool.create(),
+                connection -> Flux.from(connection.createStatement(APPLICABLE_SQL)
+                                .bind(0, productId)
+                                .bind(1, brandId)
+                                .bind(2, applicationDate)
+                                .execute())
+                        .flatMap(result -> result.map(R2dbcPriceRepositoryAdapter::toPrice)),
+                Connection::close);
+    }
+
+    private static Price toPrice(Readable row) {
+        return new Price(
+                row.get(0, Long.class),
+                row.get(1, Long.class),
+                row.get(2, LocalDateTime.class),
+                row.get(3, LocalDateTime.class),
+                row.get(4, Integer.class),
+                row.get(5, Long.class),
+                row.get(6, Integer.class),
+                row.get(7, BigDecimal.class),
+                row.get(8, String.class));
+    }
+
+    @Override
+    public void close() {
+        connectionPool.dispose();
+    }
+}
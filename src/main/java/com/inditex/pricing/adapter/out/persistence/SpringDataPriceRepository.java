@@ -1,16 +1,26 @@
 package com.inditex.pricing.adapter.out.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
  * Spring Data JPA repository for PriceEntity.
- * The query filters prices where the application date falls within the tariff's date range.
+ * The range query filters prices where the application date falls within the tariff's date range
+ * and returns them by priority, highest first, up to the given limit (served by IDX_PRICES_PRIORITY);
+ * findTariffBoundaries aggregates the tariff starts and ends nearest to the date that delimit its
+ * validity window, findByProductIdAndBrandId returns every tariff of a product and brand,
+ * findByProductIdInAndBrandIdIn does the same for many products in one query and findByBrandId
+ * for a whole brand. updateById rewrites a tariff in place and reports how many rows it touched,
+ * so an update racing with a delete is detected instead of re-inserting the row through a merge.
  */
 public interface SpringDataPriceRepository extends JpaRepository<PriceEntity, Long> {
 
@@ -21,10 +31,58 @@ public interface SpringDataPriceRepository extends JpaRepository<PriceEntity, Lo
               AND p.brandId = :brandId
               AND p.startDate <= :applicationDate
               AND p.endDate >= :applicationDate
+            ORDER BY p.priority DESC
             """)
-    List<PriceEntity> findApplicablePrices(
+    List<PriceEntity> findTopApplicablePrices(
+            @Param("applicationDate") LocalDateTime applicationDate,
+            @Param("productId") Long productId,
+            @Param("brandId") Long brandId,
+            Limit limit
+    );
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.inditex.pricing.adapter.out.persistence.TariffBoundaries(
+                   MAX(CASE WHEN p.startDate <= :applicationDate THEN p.startDate END),
+                   MAX(CASE WHEN p.endDate < :applicationDate THEN p.endDate END),
+                   MIN(CASE WHEN p.startDate > :applicationDate THEN p.startDate END),
+                   MIN(CASE WHEN p.endDate >= :applicationDate THEN p.endDate END))
+              FROM PriceEntity p
+             WHERE p.productId = :productId
+               AND p.brandId = :brandId
+            """)
+    TariffBoundaries findTariffBoundaries(
             @Param("applicationDate") LocalDateTime applicationDate,
             @Param("productId") Long productId,
             @Param("brandId") Long brandId
     );
+
+    @Transactional(readOnly = true)
+    List<PriceEntity> findByProductIdAndBrandId(Long productId, Long brandId);
+
+    @Transactional(readOnly = true)
+    List<PriceEntity> findByBrandId(Long brandId);
+
+    @Transactional(readOnly = true)
+    List<PriceEntity> findByProductIdInAndBrandIdIn(Collection<Long> productIds, Collection<Long> brandIds);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE PriceEntity p
+               SET p.brandId = :brandId, p.startDate = :startDate, p.endDate = :endDate, p.priceList = :priceList,
+                   p.productId = :productId, p.priority = :priority, p.price = :price, p.currency = :currency
+             WHERE p.id = :id
+            """)
+    int updateById(
+            @Param("id") Long id,
+            @Param("brandId") Long brandId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("priceList") Integer priceList,
+            @Param("productId") Long productId,
+            @Param("priority") Integer priority,
+            @Param("price") BigDecimal price,
+            @Param("currency") String currency
+    );
 }
@@ -0,0 +1,24 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The tariff boundaries of one product and brand nearest to an application date, as aggregated by
+ * a single query over the leading columns of IDX_PRICES_PRIORITY. Each one is null when no tariff
+ * falls on that side. See {@link ApplicablePrices#bounded} for how they delimit the validity window.
+ */
+public record TariffBoundaries(
+        LocalDateTime latestStart,
+        LocalDateTime latestEnd,
+        LocalDateTime earliestStart,
+        LocalDateTime earliestEnd
+) {
+
+    ApplicablePrices window(List<Price> prices) {
+        return ApplicablePrices.bounded(prices, latestStart, latestEnd, earliestStart, earliestEnd);
+    }
+}
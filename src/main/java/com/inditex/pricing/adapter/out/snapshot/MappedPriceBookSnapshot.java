@@ -0,0 +1,224 @@
+package com.inditex.pricing.adapter.out.snapshot;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only view of a price book snapshot file, mapped into memory.
+ *
+ * <p>The file holds the resolved price book: for every (productId, brandId), the effective-price
+ * segments of its {@link com.inditex.pricing.domain.model.PriceTimeline}, one fixed-width record per
+ * winning tariff, sorted by (productId, brandId, validFrom). Tied tariffs of a priority conflict are
+ * adjacent records with the same window; gaps between segments are not stored. Layout, big-endian:
+ * <pre>
+ *   header   magic:long version:int recordSize:int recordCount:long currencyOffset:long fingerprint:long
+ *   records  productId:long brandId:long validFrom:long validUntil:long id:long
+ *            startSecond:long endSecond:long unscaledAmount:long priceList:int priority:int
+ *            currency:short scale:byte padding:byte
+ *   trailer  currencyCount:int then, per currency, length:byte and its UTF-8 bytes
+ * </pre>
+ * The fingerprint is the {@link com.inditex.pricing.application.port.out.PriceBookSourcePort#fingerprint()}
+ * of the source the file was written from, read before the tariffs were streamed.
+ * Window points are encoded as {@code epochSecond * 2}, plus 1 for the nanosecond after an inclusive
+ * end date, with Long.MIN_VALUE / Long.MAX_VALUE for open ends.
+ *
+ * <p>Lookups read the mapped pages in place and only build {@link Price} objects for the records
+ * returned. The mapping is backed by the OS page cache, so every JVM on the host that maps the same
+ * file shares one copy of it. One mapping is limited to 2 GB, about 26 million records.
+ */
+final class MappedPriceBookSnapshot {
+
+    static final long MAGIC = 0x5052494345534E50L; // "PRICESNP"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 40;
+    static final int RECORD_SIZE = 80;
+
+    static final int PRODUCT_ID = 0;
+    static final int BRAND_ID = 8;
+    static final int VALID_FROM = 16;
+    static final int VALID_UNTIL = 24;
+    static final int ID = 32;
+    static final int START_SECOND = 40;
+    static final int END_SECOND = 48;
+    static final int UNSCALED_AMOUNT = 56;
+    static final int PRICE_LIST = 64;
+    static final int PRIORITY = 68;
+    static final int CURRENCY = 72;
+    static final int SCALE = 74;
+
+    private final ByteBuffer records;
+    private final int recordCount;
+    private final String[] currencies;
+    private final long fingerprint;
+
+    private MappedPriceBookSnapshot(ByteBuffer records, int recordCount, String[] currencies, long fingerprint) {
+        this.records = records;
+        this.recordCount = recordCount;
+        this.currencies = currencies;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Maps the snapshot file read-only. The mapping stays valid after the file is replaced, since a
+     * new snapshot is moved into place under a new inode.
+     *
+     * @throws IllegalStateException if the file is not a snapshot of this version
+     */
+    static MappedPriceBookSnapshot open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.capacity() < HEADER_SIZE || mapped.getLong(0) != MAGIC) {
+                throw new IllegalStateException("Not a price book snapshot: " + file);
+            }
+            if (mapped.getInt(8) != VERSION || mapped.getInt(12) != RECORD_SIZE) {
+                throw new IllegalStateException("Unsupported price book snapshot version " + mapped.getInt(8) + ": " + file);
+            }
+            int recordCount = Math.toIntExact(mapped.getLong(16));
+            int currencyOffset = Math.toIntExact(mapped.getLong(24));
+            String[] currencies = new String[mapped.getInt(currencyOffset)];
+            int position = currencyOffset + Integer.BYTES;
+            for (int i = 0; i < currencies.length; i++) {
+                byte[] code = new byte[mapped.get(position++)];
+                mapped.get(position, code);
+                position += code.length;
+                currencies[i] = new String(code, StandardCharsets.UTF_8);
+            }
+            ByteBuffer records = mapped.slice(HEADER_SIZE, Math.multiplyExact(recordCount, RECORD_SIZE));
+            return new MappedPriceBookSnapshot(records, recordCount, currencies, mapped.getLong(32));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot map price book snapshot " + file, ex);
+        }
+    }
+
+    int size() {
+        return recordCount;
+    }
+
+    long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the winning tariffs at the date with the window in which they stay the winners, or an
+     * empty result bounded by the neighbouring segments when the date falls in a gap.
+     */
+    ApplicablePrices resolve(LocalDateTime date, long productId, long brandId) {
+        long point = encode(date);
+        int last = lastAtOrBefore(productId, brandId, point);
+        boolean sameKey = last >= 0 && isKey(last, productId, brandId);
+        if (sameKey && point < records.getLong(offset(last) + VALID_UNTIL)) {
+            long validFrom = records.getLong(offset(last) + VALID_FROM);
+            List<Price> winners = new ArrayList<>(1);
+            for (int row = last; row >= 0 && isKey(row, productId, brandId)
+                    && records.getLong(offset(row) + VALID_FROM) == validFrom; row--) {
+                winners.add(toPrice(row));
+            }
+            return new ApplicablePrices(List.copyOf(winners), decode(validFrom),
+                    decode(records.getLong(offset(last) + VALID_UNTIL)));
+        }
+        long gapFrom = sameKey ? records.getLong(offset(last) + VALID_UNTIL) : Long.MIN_VALUE;
+        int next = last + 1;
+        long gapUntil = next < recordCount && isKey(next, productId, brandId)
+                ? records.getLong(offset(next) + VALID_FROM)
+                : Long.MAX_VALUE;
+        return new ApplicablePrices(List.of(), decode(gapFrom), decode(gapUntil));
+    }
+
+    /**
+     * Last record ordered at or before (productId, brandId, point), or -1 if there is none.
+     */
+    private int lastAtOrBefore(long productId, long brandId, long point) {
+        int low = 0;
+        int high = recordCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int base = offset(mid);
+            long rowProduct = records.getLong(base + PRODUCT_ID);
+            long rowBrand = records.getLong(base + BRAND_ID);
+            int cmp = rowProduct != productId ? Long.compare(rowProduct, productId)
+                    : rowBrand != brandId ? Long.compare(rowBrand, brandId)
+                    : Long.compare(records.getLong(base + VALID_FROM), point);
+            if (cmp <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low - 1;
+    }
+
+    private boolean isKey(int row, long productId, long brandId) {
+        int base = offset(row);
+        return records.getLong(base + PRODUCT_ID) == productId && records.getLong(base + BRAND_ID) == brandId;
+    }
+
+    private Price toPrice(int row) {
+        int base = offset(row);
+        return new Price(
+                records.getLong(base + ID),
+                records.getLong(base + BRAND_ID),
+                LocalDateTime.ofEpochSecond(records.getLong(base + START_SECOND), 0, ZoneOffset.UTC),
+                LocalDateTime.ofEpochSecond(records.getLong(base + END_SECOND), 0, ZoneOffset.UTC),
+                records.getInt(base + PRICE_LIST),
+                records.getLong(base + PRODUCT_ID),
+                records.getInt(base + PRIORITY),
+                BigDecimal.valueOf(records.getLong(base + UNSCALED_AMOUNT), records.get(base + SCALE)),
+                currencies[records.getShort(base + CURRENCY)]);
+    }
+
+    private static int offset(int row) {
+        return row * RECORD_SIZE;
+    }
+
+    /**
+     * Encodes a lookup date so that it compares correctly against window points: any fraction of a
+     * second places it at or after the "one nanosecond later" point of that second.
+     */
+    private static long encode(LocalDateTime date) {
+        if (date.equals(LocalDateTime.MIN)) {
+            return Long.MIN_VALUE;
+        }
+        if (date.equals(LocalDateTime.MAX)) {
+            return Long.MAX_VALUE;
+        }
+        return date.toEpochSecond(ZoneOffset.UTC) * 2 + (date.getNano() == 0 ? 0 : 1);
+    }
+
+    static long encodeBoundary(LocalDateTime boundary) {
+        if (boundary.equals(LocalDateTime.MIN)) {
+            return Long.MIN_VALUE;
+        }
+        if (boundary.equals(LocalDateTime.MAX)) {
+            return Long.MAX_VALUE;
+        }
+        int nano = boundary.getNano();
+        if (nano > 1) {
+            throw new IllegalArgumentException("Price book snapshot stores whole-second tariff dates, got " + boundary);
+        }
+        return boundary.toEpochSecond(ZoneOffset.UTC) * 2 + nano;
+    }
+
+    private static LocalDateTime decode(long point) {
+        if (point == Long.MIN_VALUE) {
+            return LocalDateTime.MIN;
+        }
+        if (point == Long.MAX_VALUE) {
+            return LocalDateTime.MAX;
+        }
+        return LocalDateTime.ofEpochSecond(point >> 1, (int) (point & 1), ZoneOffset.UTC);
+    }
+}
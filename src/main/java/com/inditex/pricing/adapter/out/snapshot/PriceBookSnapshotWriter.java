@@ -0,0 +1,223 @@
+package com.inditex.pricing.adapter.out.snapshot;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceTimeline;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Writes the resolved price book to a snapshot file in the layout read by {@link MappedPriceBookSnapshot}.
+ * Tariffs are streamed from the source and flattened one (productId, brandId) at a time, so only the
+ * tariffs of one key are held in memory. The source must deliver them grouped by key in ascending
+ * (productId, brandId) order, as JdbcPriceBookStreamAdapter does.
+ *
+ * <p>The file is written next to the target and moved into place atomically: a JVM that already
+ * mapped the previous snapshot keeps reading it, and one that opens the path sees either file whole.
+ */
+final class PriceBookSnapshotWriter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private PriceBookSnapshotWriter() {
+    }
+
+    /**
+     * @param fingerprint      fingerprint of the source, stored in the header
+     * @param conflictListener receives every segment in which several tariffs share the highest priority
+     * @return the number of records written
+     */
+    static long write(PriceBookSourcePort source, Path target, long fingerprint, ConflictListener conflictListener) {
+        try {
+            Path directory = target.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+            try {
+                long records;
+                try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                    records = writeTo(channel, source, fingerprint, conflictListener);
+                    channel.force(true);
+                }
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return records;
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot write price book snapshot " + target, ex);
+        }
+    }
+
+    private static long writeTo(FileChannel channel, PriceBookSourcePort source, long fingerprint,
+                                ConflictListener conflictListener) throws IOException {
+        // The header is written last, once the record count and the currency table offset are known
+        channel.position(MappedPriceBookSnapshot.HEADER_SIZE);
+        RecordSink sink = new RecordSink(channel, conflictListener);
+        source.forEachPrice(sink);
+        sink.flushKey();
+
+        long currencyOffset = MappedPriceBookSnapshot.HEADER_SIZE + sink.records * MappedPriceBookSnapshot.RECORD_SIZE;
+        sink.ensure(Integer.BYTES);
+        sink.buffer.putInt(sink.currencies.size());
+        for (String currency : sink.currencies) {
+            byte[] code = currency.getBytes(StandardCharsets.UTF_8);
+            sink.ensure(1 + code.length);
+            sink.buffer.put((byte) code.length).put(code);
+        }
+        sink.drain();
+
+        ByteBuffer header = ByteBuffer.allocate(MappedPriceBookSnapshot.HEADER_SIZE)
+                .putLong(MappedPriceBookSnapshot.MAGIC)
+                .putInt(MappedPriceBookSnapshot.VERSION)
+                .putInt(MappedPriceBookSnapshot.RECORD_SIZE)
+                .putLong(sink.records)
+                .putLong(currencyOffset)
+                .putLong(fingerprint)
+                .flip();
+        channel.write(header, 0);
+        return sink.records;
+    }
+
+    @FunctionalInterface
+    interface ConflictListener {
+
+        void onConflict(long productId, long brandId, ApplicablePrices segment);
+    }
+
+    /**
+     * Groups the streamed tariffs by key and appends the segments of each finished key to the buffer.
+     */
+    private static final class RecordSink implements Consumer<Price> {
+
+        private final FileChannel channel;
+        private final ConflictListener conflictListener;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Short> currencyCodes = new HashMap<>();
+        private final List<Price> keyTariffs = new ArrayList<>();
+        private long records;
+
+        private RecordSink(FileChannel channel, ConflictListener conflictListener) {
+            this.channel = channel;
+            this.conflictListener = conflictListener;
+        }
+
+        @Override
+        public void accept(Price price) {
+            if (!keyTariffs.isEmpty()) {
+                Price previous = keyTariffs.get(0);
+                int order = previous.productId().equals(price.productId())
+                        ? Long.compare(previous.brandId(), price.brandId())
+                        : Long.compare(previous.productId(), price.productId());
+                if (order > 0) {
+                    throw new IllegalArgumentException("Price book source must deliver tariffs ordered by productId and brandId");
+                }
+                if (order < 0) {
+                    flushKey();
+                }
+            }
+            keyTariffs.add(price);
+        }
+
+        void flushKey() {
+            if (keyTariffs.isEmpty()) {
+                return;
+            }
+            long productId = keyTariffs.get(0).productId();
+            long brandId = keyTariffs.get(0).brandId();
+            for (ApplicablePrices segment : PriceTimeline.of(keyTariffs).segments()) {
+                if (segment.prices().size() > 1) {
+                    conflictListener.onConflict(productId, brandId, segment);
+                }
+                for (Price price : segment.prices()) {
+                    putRecord(segment, price);
+                }
+            }
+            keyTariffs.clear();
+        }
+
+        private void putRecord(ApplicablePrices segment, Price price) {
+            if (price.id() == null) {
+                throw new IllegalArgumentException("Price book snapshot requires persisted tariffs with an id");
+            }
+            BigDecimal amount = price.amount().scale() < 0 ? price.amount().setScale(0) : price.amount();
+            if (amount.unscaledValue().bitLength() > 63 || amount.scale() > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Amount does not fit a scaled long: " + price.amount());
+            }
+            ensure(MappedPriceBookSnapshot.RECORD_SIZE);
+            int base = buffer.position();
+            buffer.putLong(base + MappedPriceBookSnapshot.PRODUCT_ID, price.productId())
+                    .putLong(base + MappedPriceBookSnapshot.BRAND_ID, price.brandId())
+                    .putLong(base + MappedPriceBookSnapshot.VALID_FROM, MappedPriceBookSnapshot.encodeBoundary(segment.validFrom()))
+                    .putLong(base + MappedPriceBookSnapshot.VALID_UNTIL, MappedPriceBookSnapshot.encodeBoundary(segment.validUntil()))
+                    .putLong(base + MappedPriceBookSnapshot.ID, price.id())
+                    .putLong(base + MappedPriceBookSnapshot.START_SECOND, epochSecond(price.startDate()))
+                    .putLong(base + MappedPriceBookSnapshot.END_SECOND, epochSecond(price.endDate()))
+                    .putLong(base + MappedPriceBookSnapshot.UNSCALED_AMOUNT, amount.unscaledValue().longValueExact())
+                    .putInt(base + MappedPriceBookSnapshot.PRICE_LIST, price.priceList())
+                    .putInt(base + MappedPriceBookSnapshot.PRIORITY, price.priority())
+                    .putShort(base + MappedPriceBookSnapshot.CURRENCY, currencyCode(price.currency()))
+                    .put(base + MappedPriceBookSnapshot.SCALE, (byte) amount.scale())
+                    .put(base + MappedPriceBookSnapshot.SCALE + 1, (byte) 0);
+            buffer.position(base + MappedPriceBookSnapshot.RECORD_SIZE);
+            records++;
+        }
+
+        void ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        void drain() {
+            try {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private short currencyCode(String currency) {
+            Short code = currencyCodes.get(currency);
+            if (code != null) {
+                return code;
+            }
+            byte[] bytes = currency.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > Byte.MAX_VALUE || currencies.size() > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Currency does not fit the snapshot dictionary: " + currency);
+            }
+            short added = (short) currencies.size();
+            currencies.add(currency);
+            currencyCodes.put(currency, added);
+            return added;
+        }
+
+        private static long epochSecond(LocalDateTime date) {
+            if (date.getNano() != 0) {
+                throw new IllegalArgumentException("Price book snapshot stores whole seconds, got " + date);
+            }
+            return date.toEpochSecond(ZoneOffset.UTC);
+        }
+    }
+}
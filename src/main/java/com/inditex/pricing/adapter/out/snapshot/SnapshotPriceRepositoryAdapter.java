@@ -0,0 +1,186 @@
+package com.inditex.pricing.adapter.out.snapshot;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PriceRepositoryPort served from a memory-mapped snapshot of the resolved price book.
+ * At startup an existing snapshot file is mapped without streaming the tariffs, so the node serves
+ * at full speed as soon as the context is up; the OS pages the file in on first touch. The file is
+ * only kept if the fingerprint in its header matches the source's current one. If it does not, or
+ * the file is missing or unreadable, or {@code rebuildOnStart} is set, it is written from the source.
+ * The fingerprint is read before the tariffs are streamed, so a write racing with a rebuild leaves
+ * an older fingerprint in the file and the next start rebuilds it rather than trusting it.
+ *
+ * <p>A tariff write on this node schedules a rewrite of the snapshot from the source on the rebuild
+ * executor, {@code rebuildDelay} later, and returns at once; writes arriving in the meantime are
+ * folded into the same rewrite. Until the new file is mapped, lookups keep answering from the
+ * previous one. The rebuild executor is owned by the adapter and shut down by close(). Like
+ * the segments mode, lookups return the precomputed winners; priority conflicts are reported once
+ * while writing and still rejected by the use case at request time.
+ */
+public class SnapshotPriceRepositoryAdapter implements PriceRepositoryPort, PriceBookChangePort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotPriceRepositoryAdapter.class);
+
+    private final PriceBookSourcePort source;
+    private final PriceMetricsPort metricsPort;
+    private final Path file;
+    private final ScheduledExecutorService rebuilder;
+    private final long rebuildDelayNanos;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private volatile MappedPriceBookSnapshot snapshot;
+
+    /**
+     * @param rebuilder    runs the rewrites that follow tariff writes
+     * @param rebuildDelay time a write waits for further writes before the snapshot is rewritten once for all
+     */
+    public SnapshotPriceRepositoryAdapter(PriceBookSourcePort source, PriceMetricsPort metricsPort,
+                                          Path file, boolean rebuildOnStart,
+                                          ScheduledExecutorService rebuilder, Duration rebuildDelay) {
+        this.source = source;
+        this.metricsPort = metricsPort;
+        this.file = file;
+        this.rebuilder = rebuilder;
+        this.rebuildDelayNanos = rebuildDelay.toNanos();
+        if (rebuildOnStart || !Files.exists(file) || !mapIfCurrent()) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return findApplicablePricesWithValidity(applicationDate, productId, brandId).prices();
+    }
+
+    @Override
+    public ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return snapshot.resolve(applicationDate, productId, brandId);
+    }
+
+    /**
+     * Maps the current snapshot file again, e.g. after another process replaced it.
+     */
+    public void remap() {
+        writeLock.lock();
+        try {
+            long started = System.nanoTime();
+            MappedPriceBookSnapshot mapped = MappedPriceBookSnapshot.open(file);
+            this.snapshot = mapped;
+            log.info("Snapshot del catalogo mapeado: fichero={}, registros={}, ms={}",
+                    file, mapped.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes a new snapshot from the source, replaces the file and maps it.
+     */
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            long started = System.nanoTime();
+            long records = PriceBookSnapshotWriter.write(source, file, source.fingerprint(), this::reportConflict);
+            log.info("Snapshot del catalogo escrito: fichero={}, registros={}, ms={}",
+                    file, records, (System.nanoTime() - started) / 1_000_000);
+            remap();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Maps the existing file if it was written from the price book the source holds now.
+     */
+    private boolean mapIfCurrent() {
+        long started = System.nanoTime();
+        MappedPriceBookSnapshot existing;
+        try {
+            existing = MappedPriceBookSnapshot.open(file);
+        } catch (IllegalStateException | UncheckedIOException ex) {
+            log.warn("Snapshot del catalogo ilegible, se reescribe: fichero={}, causa={}", file, ex.getMessage());
+            return false;
+        }
+        if (existing.fingerprint() != source.fingerprint()) {
+            log.info("Snapshot del catalogo desactualizado respecto a la BD, se reescribe: fichero={}", file);
+            return false;
+        }
+        this.snapshot = existing;
+        log.info("Snapshot del catalogo mapeado: fichero={}, registros={}, ms={}",
+                file, existing.size(), (System.nanoTime() - started) / 1_000_000);
+        return true;
+    }
+
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        scheduleRebuild();
+    }
+
+    @Override
+    public void priceBookChanged() {
+        scheduleRebuild();
+    }
+
+    /**
+     * Drops a pending rewrite and interrupts one in progress; the mapped snapshot stays readable.
+     */
+    @Override
+    public void close() {
+        rebuilder.shutdownNow();
+    }
+
+    /**
+     * Schedules a rewrite unless one is already waiting. The flag is cleared when the rewrite
+     * starts, so a write that arrives while it runs schedules the next one.
+     */
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuilder.schedule(this::runScheduledRebuild, rebuildDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException ex) {
+            rebuildScheduled.set(false);
+            log.debug("Reescritura del snapshot descartada al cerrar: fichero={}", file);
+        }
+    }
+
+    private void runScheduledRebuild() {
+        rebuildScheduled.set(false);
+        try {
+            rebuild();
+        } catch (RuntimeException ex) {
+            if (rebuilder.isShutdown()) {
+                log.debug("Reescritura del snapshot interrumpida al cerrar: fichero={}", file);
+            } else {
+                log.error("Error reescribiendo el snapshot del catalogo, se sigue sirviendo el anterior: fichero={}", file, ex);
+            }
+        }
+    }
+
+    private void reportConflict(long productId, long brandId, ApplicablePrices segment) {
+        log.warn("Conflicto de prioridad en segmento [{}, {}): productId={}, brandId={}, tarifas={}",
+                segment.validFrom(), segment.validUntil(), productId, brandId, segment.prices().size());
+        metricsPort.recordPriorityConflict(productId, brandId, segment.prices().size());
+    }
+}
@@ -4,11 +4,64 @@ package com.inditex.pricing.application.port.out;
  * Output port for recording cache metrics.
  * Defined in the application layer so that adapters (e.g. CachingPriceRepositoryAdapter)
  * can depend on the abstraction without creating adapter-to-adapter dependencies.
- * Implementations live in adapter/out/cache/.
+ * Implementations live in adapter/out/cache/ and are expected to publish the hit ratio
+ * derived from the recorded hits and misses.
  */
 public interface CacheMetricsRecorder {
 
     void recordHit(String cacheName);
 
     void recordMiss(String cacheName);
+
+    /**
+     * Records the end of a background reload of a cached entry. The default discards it, for
+     * recorders of caches that never reload.
+     *
+     * @param elapsedNanos time spent reloading; 0 for {@link ReloadResult#REJECTED}
+     */
+    default void recordReload(String cacheName, ReloadResult result, long elapsedNanos) {
+    }
+
+    /**
+     * Returns a recorder bound to one cache, so callers on the lookup path skip resolving the
+     * meters by name on every call. The default delegates to the name-based methods.
+     */
+    default BoundCacheMetrics bind(String cacheName) {
+        return new BoundCacheMetrics() {
+            @Override
+            public void recordHit() {
+                CacheMetricsRecorder.this.recordHit(cacheName);
+            }
+
+            @Override
+            public void recordMiss() {
+                CacheMetricsRecorder.this.recordMiss(cacheName);
+            }
+
+            @Override
+            public void recordReload(ReloadResult result, long elapsedNanos) {
+                CacheMetricsRecorder.this.recordReload(cacheName, result, elapsedNanos);
+            }
+        };
+    }
+
+    enum ReloadResult {
+        /** The reloaded value replaced the cached one. */
+        SUCCESS,
+        /** The reload failed; the cached value is kept until it expires. */
+        FAILURE,
+        /** A write or a newer load changed the entry meanwhile, so the reloaded value was dropped. */
+        DISCARDED,
+        /** The reload executor was saturated; the reload was not started. */
+        REJECTED
+    }
+
+    interface BoundCacheMetrics {
+
+        void recordHit();
+
+        void recordMiss();
+
+        void recordReload(ReloadResult result, long elapsedNanos);
+    }
 }
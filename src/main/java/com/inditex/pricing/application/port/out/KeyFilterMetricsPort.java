@@ -0,0 +1,42 @@
+package com.inditex.pricing.application.port.out;
+
+/**
+ * Output port for recording how the known-key filter in front of PriceRepositoryPort performs.
+ * The false-positive rate is derived from the recorded outcomes: lookups the filter let through
+ * for a key that has no tariffs, over every lookup for such a key. Implementations live in
+ * adapter/out/metrics/.
+ */
+public interface KeyFilterMetricsPort {
+
+    /**
+     * Discards every measurement; used where the filter metrics are not wired.
+     */
+    KeyFilterMetricsPort NONE = new KeyFilterMetricsPort() {
+        @Override
+        public void record(Outcome outcome) {
+        }
+
+        @Override
+        public void filterUpdated(long keys, double expectedFalsePositiveRate) {
+        }
+    };
+
+    enum Outcome {
+        /** The filter proved the key absent; the repository was not called. */
+        REJECTED,
+        /** The filter let the lookup through and the key has tariffs. */
+        FOUND,
+        /** The filter let the lookup through but the key has no tariffs. */
+        FALSE_POSITIVE
+    }
+
+    void record(Outcome outcome);
+
+    /**
+     * Reports the filter state after a rebuild or an added key.
+     *
+     * @param keys                      product and brand pairs added since the last rebuild
+     * @param expectedFalsePositiveRate false-positive probability predicted for that many keys
+     */
+    void filterUpdated(long keys, double expectedFalsePositiveRate);
+}
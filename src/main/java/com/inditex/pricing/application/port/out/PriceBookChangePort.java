@@ -0,0 +1,25 @@
+package com.inditex.pricing.application.port.out;
+
+/**
+ * Output port notified after tariffs have been written.
+ * Lets read-side adapters that keep prices in memory (cache, interval indexes, segments)
+ * drop or rebuild only the affected product and brand instead of flushing everything;
+ * bulk changes are announced once, at the end.
+ * Implemented by the PriceRepositoryPort adapters in adapter/out/cache/ and adapter/out/memory/.
+ */
+public interface PriceBookChangePort {
+
+    /**
+     * Signals that the tariffs of a product and brand changed and have been committed.
+     *
+     * @param productId the product identifier
+     * @param brandId   the brand identifier
+     */
+    void tariffsChanged(Long productId, Long brandId);
+
+    /**
+     * Signals that an unknown set of tariffs changed, e.g. after a bulk import, so every
+     * product and brand must be reloaded.
+     */
+    void priceBookChanged();
+}
@@ -0,0 +1,91 @@
+package com.inditex.pricing.application.port.out;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Output port for bulk-loading the whole price book.
+ * Used by adapters that index every tariff up front instead of querying per request
+ * (e.g. InMemoryPriceRepositoryAdapter). Implementations live in adapter/out/persistence/.
+ */
+public interface PriceBookSourcePort {
+
+    /**
+     * Loads every tariff currently stored.
+     *
+     * @return all prices (may be empty), unordered
+     */
+    List<Price> loadAllPrices();
+
+    /**
+     * Loads every tariff of one product and brand, used to rebuild a single key after a write.
+     * The default filters {@link #loadAllPrices()}; implementations backed by a store should
+     * query the key directly.
+     *
+     * @return the tariffs of the product and brand (may be empty), unordered
+     */
+    default List<Price> loadPrices(Long productId, Long brandId) {
+        return loadAllPrices().stream()
+                .filter(p -> p.productId().equals(productId) && p.brandId().equals(brandId))
+                .toList();
+    }
+
+    /**
+     * Loads every tariff of one brand, used to find the products a brand-wide subscriber watches.
+     * The default filters {@link #loadAllPrices()}; implementations backed by a store should
+     * query the brand directly.
+     *
+     * @return the tariffs of the brand (may be empty), unordered
+     */
+    default List<Price> loadBrandPrices(Long brandId) {
+        return loadAllPrices().stream()
+                .filter(p -> p.brandId().equals(brandId))
+                .toList();
+    }
+
+    /**
+     * Hands every tariff currently stored to the action, one at a time.
+     * Implementations that can stream should override this so callers that copy the tariffs into
+     * a compact structure never hold the whole book as {@link Price} objects.
+     * The default materializes {@link #loadAllPrices()}.
+     */
+    default void forEachPrice(Consumer<Price> action) {
+        loadAllPrices().forEach(action);
+    }
+
+    /**
+     * Hands every distinct product and brand pair that has at least one tariff to the action.
+     * Used by filters that only need to know which keys exist. The default walks
+     * {@link #forEachPrice(Consumer)} and may repeat a pair; implementations backed by a store
+     * should select the distinct pairs directly.
+     */
+    default void forEachKey(KeyConsumer action) {
+        forEachPrice(price -> action.accept(price.productId(), price.brandId()));
+    }
+
+    /**
+     * Returns a value that changes whenever the stored tariffs change, used to tell whether a copy
+     * of the price book saved earlier still matches the store. The default hashes every tariff
+     * through {@link #forEachPrice(Consumer)}; implementations backed by a store should aggregate
+     * in the store instead of streaming the rows out.
+     */
+    default long fingerprint() {
+        long[] sum = {0, 0};
+        forEachPrice(price -> {
+            sum[0]++;
+            sum[1] += price.hashCode();
+        });
+        return sum[0] * 0x9E3779B97F4A7C15L + sum[1];
+    }
+
+    /**
+     * Receives one product and brand pair without boxing.
+     */
+    @FunctionalInterface
+    interface KeyConsumer {
+
+        void accept(long productId, long brandId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.inditex.pricing.application.port.out;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Output port for streaming the tariffs of a whole brand without materializing them.
+ * Defined in the application layer because the export use case is its sole consumer.
+ * Implementations live in adapter/out/persistence/.
+ */
+public interface PriceBookStreamPort {
+
+    /**
+     * Streams every tariff of the brand that applies at the given date (startDate and endDate inclusive),
+     * ordered by productId ascending and then by priority descending.
+     * The action is invoked while the underlying cursor is open, one row at a time.
+     *
+     * @param brandId         the brand identifier
+     * @param applicationDate the date/time to check
+     * @param action          receives each applicable tariff in order
+     */
+    void forEachApplicablePrice(Long brandId, LocalDateTime applicationDate, Consumer<Price> action);
+}
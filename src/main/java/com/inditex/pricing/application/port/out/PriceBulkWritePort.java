@@ -0,0 +1,21 @@
+package com.inditex.pricing.application.port.out;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.util.List;
+
+/**
+ * Output port for inserting many tariffs at once.
+ * Each call is one transaction, so callers size their chunks to bound transaction length.
+ * Implementations live in adapter/out/persistence/.
+ */
+public interface PriceBulkWritePort {
+
+    /**
+     * Inserts every tariff of the chunk in a single transaction; ids are generated by the store.
+     *
+     * @param prices the tariffs to insert
+     * @return the number of rows inserted
+     */
+    int insertAll(List<Price> prices);
+}
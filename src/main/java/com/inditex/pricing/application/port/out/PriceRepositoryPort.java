@@ -1,9 +1,14 @@
 package com.inditex.pricing.application.port.out;
 
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Output port for retrieving prices from the persistence layer.
@@ -14,13 +19,53 @@ import java.util.List;
 public interface PriceRepositoryPort {
 
     /**
-     * Finds all prices that apply for the given product, brand, and date.
+     * Number of candidates a database-backed lookup returns at most: the winner and the runner-up,
+     * which is enough to tell a clear winner from a tie at the top priority.
+     */
+    int TOP_CANDIDATES = 2;
+
+    /**
+     * Finds the prices that apply for the given product, brand, and date.
      * A price applies when the applicationDate falls between startDate and endDate (inclusive).
+     * Adapters that query a database may return only the {@link #TOP_CANDIDATES} highest-priority
+     * ones, ordered by priority descending, so the rows moved do not grow with the overlap depth.
      *
      * @param applicationDate the date/time to check
      * @param productId       the product identifier
      * @param brandId         the brand identifier
-     * @return list of matching prices (may be empty), unordered
+     * @return matching prices (may be empty), unordered unless limited to the top candidates
      */
     List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the applicable prices together with the window in which that same result holds,
+     * so callers can reuse it for any other date inside the window.
+     * The default implementation only vouches for the exact applicationDate; adapters that can
+     * see the neighbouring tariff boundaries of the product and brand should override it.
+     *
+     * @param applicationDate the date/time to check
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return matching prices (may be empty) and their validity window
+     */
+    default ApplicablePrices findApplicablePricesWithValidity(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return ApplicablePrices.at(applicationDate, findApplicablePrices(applicationDate, productId, brandId));
+    }
+
+    /**
+     * Finds the applicable prices, with their validity windows, for several lookups at once.
+     * The default implementation resolves each query on its own; adapters backed by a remote
+     * store should override it to fetch every missing product and brand in a single round trip.
+     *
+     * @param queries the lookups to resolve
+     * @return the result of every distinct query, keyed by query; a query left out has no applicable price
+     */
+    default Map<PriceQuery, ApplicablePrices> findApplicablePricesInBatch(Collection<PriceQuery> queries) {
+        Map<PriceQuery, ApplicablePrices> results = new HashMap<>();
+        for (PriceQuery query : queries) {
+            results.computeIfAbsent(query, q ->
+                    findApplicablePricesWithValidity(q.applicationDate(), q.productId(), q.brandId()));
+        }
+        return results;
+    }
 }
@@ -0,0 +1,45 @@
+package com.inditex.pricing.application.port.out;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.util.Optional;
+
+/**
+ * Output port for creating, changing and removing tariffs in the persistence layer.
+ * Kept apart from PriceRepositoryPort so read-side decorators (cache, in-memory indexes)
+ * never see write operations. Implementations live in adapter/out/persistence/.
+ */
+public interface PriceWritePort {
+
+    /**
+     * Stores a new tariff.
+     *
+     * @param price the tariff to store; its id is ignored
+     * @return the stored tariff with its generated id
+     */
+    Price insert(Price price);
+
+    /**
+     * Finds a tariff by its identifier.
+     *
+     * @param id the tariff identifier
+     * @return the tariff, or empty if it does not exist
+     */
+    Optional<Price> findById(Long id);
+
+    /**
+     * Replaces every field of an existing tariff in a single conditional write, so a tariff
+     * deleted concurrently is never stored again.
+     *
+     * @param price the new state of the tariff
+     * @return the stored tariff, or empty if no tariff with that id exists any more
+     */
+    Optional<Price> update(Price price);
+
+    /**
+     * Removes a tariff.
+     *
+     * @param id the tariff identifier
+     */
+    void deleteById(Long id);
+}
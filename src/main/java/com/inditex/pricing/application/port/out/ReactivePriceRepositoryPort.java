@@ -0,0 +1,26 @@
+package com.inditex.pricing.application.port.out;
+
+import com.inditex.pricing.domain.model.Price;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking variant of {@link PriceRepositoryPort}, consumed by ReactiveFindApplicablePriceService.
+ * Implementations must not block the subscribing thread, which is usually an event-loop thread.
+ */
+public interface ReactivePriceRepositoryPort {
+
+    /**
+     * Emits the prices that apply for the given product, brand, and date.
+     * A price applies when the applicationDate falls between startDate and endDate (inclusive).
+     * As with {@link PriceRepositoryPort#findApplicablePrices}, database-backed adapters may emit only
+     * the {@link PriceRepositoryPort#TOP_CANDIDATES} highest-priority ones.
+     *
+     * @param applicationDate the date/time to check
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return matching prices (may be empty), unordered unless limited to the top candidates
+     */
+    Flux<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId);
+}
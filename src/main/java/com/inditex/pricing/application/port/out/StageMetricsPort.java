@@ -0,0 +1,32 @@
+package com.inditex.pricing.application.port.out;
+
+/**
+ * Output port for recording how long each stage of a price lookup takes.
+ * Called on every request, so implementations must record without allocating or resolving
+ * meters by name. Implementations live in adapter/out/metrics/.
+ */
+public interface StageMetricsPort {
+
+    /**
+     * Discards every measurement; used where stage timing is not wired.
+     */
+    StageMetricsPort NONE = (stage, elapsedNanos) -> {
+    };
+
+    enum Stage {
+        /** Controller method, from bound parameters to the response DTO. */
+        CONTROLLER,
+        /** Use case, including the repository call and the priority selection. */
+        USE_CASE,
+        /** Cache probe, hit or miss. */
+        CACHE_LOOKUP,
+        /** Database query, up to the loaded entities. */
+        DB_QUERY,
+        /** Entity to domain model mapping. */
+        ENTITY_MAPPING,
+        /** Encoding of a found price into the negotiated response body, excluding the write to the client. */
+        SERIALIZATION
+    }
+
+    void record(Stage stage, long elapsedNanos);
+}
@@ -0,0 +1,86 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookStreamPort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.in.ExportApplicablePricesUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Application service implementing the ExportApplicablePrices use case.
+ * Consumes the brand's applicable tariffs in (productId, priority desc) order in a single pass:
+ * the first tariff of each product is the winner, and a second tariff with the same priority
+ * means a priority conflict. Only the current product is kept in memory.
+ */
+public class ExportApplicablePricesService implements ExportApplicablePricesUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportApplicablePricesService.class);
+
+    private final PriceBookStreamPort priceBookStreamPort;
+    private final PriceMetricsPort metricsPort;
+
+    public ExportApplicablePricesService(PriceBookStreamPort priceBookStreamPort, PriceMetricsPort metricsPort) {
+        this.priceBookStreamPort = priceBookStreamPort;
+        this.metricsPort = metricsPort;
+    }
+
+    @Override
+    public long exportApplicablePrices(Long brandId, LocalDateTime applicationDate, Consumer<Price> sink) {
+        log.info("Exportando precios aplicables: brandId={}, fecha={}", brandId, applicationDate);
+        ProductCursor cursor = new ProductCursor(brandId, sink);
+        priceBookStreamPort.forEachApplicablePrice(brandId, applicationDate, cursor::accept);
+        cursor.flush();
+        log.info("Exportacion finalizada: brandId={}, precios={}, conflictos={}", brandId, cursor.exported, cursor.conflicts);
+        return cursor.exported;
+    }
+
+    /**
+     * Tracks the winner of the product currently being streamed.
+     */
+    private final class ProductCursor {
+
+        private final Long brandId;
+        private final Consumer<Price> sink;
+        private Price winner;
+        private int ties;
+        private long exported;
+        private long conflicts;
+
+        private ProductCursor(Long brandId, Consumer<Price> sink) {
+            this.brandId = brandId;
+            this.sink = sink;
+        }
+
+        void accept(Price price) {
+            if (winner != null && winner.productId().equals(price.productId())) {
+                if (winner.priority().equals(price.priority())) {
+                    ties++;
+                }
+                return;
+            }
+            flush();
+            winner = price;
+            ties = 1;
+        }
+
+        void flush() {
+            if (winner == null) {
+                return;
+            }
+            if (ties > 1) {
+                conflicts++;
+                metricsPort.recordPriorityConflict(winner.productId(), brandId, ties);
+                log.warn("Conflicto de prioridad en exportacion, producto omitido: productId={}, brandId={}, tarifas={}",
+                        winner.productId(), brandId, ties);
+            } else {
+                sink.accept(winner);
+                exported++;
+            }
+            winner = null;
+        }
+    }
+}
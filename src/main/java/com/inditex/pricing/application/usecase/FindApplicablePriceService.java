@@ -2,60 +2,111 @@ package com.inditex.pricing.application.usecase;
 
 import com.inditex.pricing.application.port.out.PriceMetricsPort;
 import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.ResolvedPrice;
 import com.inditex.pricing.domain.port.in.FindApplicablePriceUseCase;
 import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.application.port.out.StageMetricsPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Application service implementing the FindApplicablePrice use case.
  * Retrieves all matching prices from the repository and selects the one with
- * the highest priority as the disambiguation rule.
+ * the highest priority as the disambiguation rule (see {@link PriceSelection}).
  */
 public class FindApplicablePriceService implements FindApplicablePriceUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(FindApplicablePriceService.class);
+    // A query the repository left out of a batch result is reported as not found
+    private static final ApplicablePrices NO_CANDIDATES =
+            new ApplicablePrices(List.of(), LocalDateTime.MIN, LocalDateTime.MAX);
 
     private final PriceRepositoryPort priceRepositoryPort;
-    private final PriceMetricsPort metricsPort;
+    private final PriceSelection selection;
+    private final StageMetricsPort stageMetrics;
 
     public FindApplicablePriceService(PriceRepositoryPort priceRepositoryPort, PriceMetricsPort metricsPort) {
+        this(priceRepositoryPort, metricsPort, StageMetricsPort.NONE);
+    }
+
+    public FindApplicablePriceService(PriceRepositoryPort priceRepositoryPort,
+                                      PriceMetricsPort metricsPort,
+                                      StageMetricsPort stageMetrics) {
         this.priceRepositoryPort = priceRepositoryPort;
-        this.metricsPort = metricsPort;
+        this.selection = new PriceSelection(metricsPort);
+        this.stageMetrics = stageMetrics;
     }
 
     @Override
     public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
-        log.debug("Buscando precio aplicable: productId={}, brandId={}, fecha={}", productId, brandId, applicationDate);
+        long started = System.nanoTime();
+        if (log.isDebugEnabled()) {
+            log.debug("Buscando precio aplicable: productId={}, brandId={}, fecha={}", productId, brandId, applicationDate);
+        }
 
-        Map<Integer, List<Price>> byPriority = priceRepositoryPort
-                .findApplicablePrices(applicationDate, productId, brandId)
-                .stream()
-                .collect(Collectors.groupingBy(Price::priority));
+        List<Price> candidates = priceRepositoryPort.findApplicablePrices(applicationDate, productId, brandId);
+        Optional<Price> result = selection.select(candidates, productId, brandId);
 
-        if (byPriority.isEmpty()) {
-            log.debug("Resultado: ninguno");
-            return Optional.empty();
+        logResult(result);
+        stageMetrics.record(StageMetricsPort.Stage.USE_CASE, System.nanoTime() - started);
+        return result;
+    }
+
+    /**
+     * Same selection over the repository's windowed lookup. The window is where the same set of
+     * tariffs applies, so the winner cannot change inside it either.
+     */
+    @Override
+    public ResolvedPrice resolveApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        long started = System.nanoTime();
+        if (log.isDebugEnabled()) {
+            log.debug("Resolviendo precio aplicable con vigencia: productId={}, brandId={}, fecha={}",
+                    productId, brandId, applicationDate);
         }
 
-        int maxPriority = byPriority.keySet().stream().max(Comparator.naturalOrder()).orElseThrow();
-        List<Price> topPrices = byPriority.get(maxPriority);
+        ApplicablePrices candidates = priceRepositoryPort.findApplicablePricesWithValidity(applicationDate, productId, brandId);
+        Optional<Price> result = selection.select(candidates.prices(), productId, brandId);
 
-        if (topPrices.size() > 1) {
-            metricsPort.recordPriorityConflict(productId, brandId, topPrices.size());
-            throw new PriorityConflictException(productId, brandId, topPrices.size(), maxPriority);
+        logResult(result);
+        stageMetrics.record(StageMetricsPort.Stage.USE_CASE, System.nanoTime() - started);
+        return new ResolvedPrice(result.orElse(null), candidates.validFrom(), candidates.validUntil());
+    }
+
+    private static void logResult(Optional<Price> result) {
+        if (result.isEmpty()) {
+            log.debug("Resultado: ninguno");
+        } else {
+            log.debug("Resultado: priceList={} priority={}", result.get().priceList(), result.get().priority());
         }
+    }
 
-        Price result = topPrices.get(0);
-        log.debug("Resultado: priceList={} priority={}", result.priceList(), result.priority());
-        return Optional.of(result);
+    @Override
+    public List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries) {
+        log.debug("Buscando precios aplicables en lote: {} consultas", queries.size());
+
+        Map<PriceQuery, ApplicablePrices> candidatesByQuery = priceRepositoryPort.findApplicablePricesInBatch(queries);
+
+        List<PriceLookupResult> results = new ArrayList<>(queries.size());
+        for (PriceQuery query : queries) {
+            List<Price> candidates = candidatesByQuery.getOrDefault(query, NO_CANDIDATES).prices();
+            try {
+                results.add(selection.select(candidates, query.productId(), query.brandId())
+                        .map(price -> PriceLookupResult.found(query, price))
+                        .orElseGet(() -> PriceLookupResult.notFound(query)));
+            } catch (PriorityConflictException ex) {
+                results.add(PriceLookupResult.priorityConflict(query, ex.getMessage()));
+            }
+        }
+        return results;
     }
 }
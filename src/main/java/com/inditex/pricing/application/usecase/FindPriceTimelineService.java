@@ -0,0 +1,70 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.exception.InvalidDateRangeException;
+import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.port.in.FindPriceTimelineUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application service implementing the FindPriceTimeline use case.
+ * Loads the tariffs of the product and brand once, keeps those that overlap the range and flattens
+ * them with {@link PriceTimeline} in a single sweep, so each segment already holds only the tariffs
+ * with the highest priority. A segment with more than one of them is reported as a conflict.
+ */
+public class FindPriceTimelineService implements FindPriceTimelineUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(FindPriceTimelineService.class);
+
+    private final PriceBookSourcePort priceBookSourcePort;
+    private final PriceMetricsPort metricsPort;
+
+    public FindPriceTimelineService(PriceBookSourcePort priceBookSourcePort, PriceMetricsPort metricsPort) {
+        this.priceBookSourcePort = priceBookSourcePort;
+        this.metricsPort = metricsPort;
+    }
+
+    @Override
+    public List<PriceSegment> findPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidDateRangeException(from, to);
+        }
+        log.debug("Calculando linea temporal de precios: productId={}, brandId={}, desde={}, hasta={}",
+                productId, brandId, from, to);
+
+        List<Price> tariffs = priceBookSourcePort.loadPrices(productId, brandId).stream()
+                .filter(p -> p.startDate().isBefore(to) && ApplicablePrices.endExclusive(p.endDate()).isAfter(from))
+                .toList();
+
+        List<PriceSegment> timeline = new ArrayList<>();
+        for (ApplicablePrices segment : PriceTimeline.of(tariffs).segments()) {
+            LocalDateTime segmentFrom = segment.validFrom().isBefore(from) ? from : segment.validFrom();
+            LocalDateTime segmentUntil = segment.validUntil().isAfter(to) ? to : segment.validUntil();
+            if (!segmentFrom.isBefore(segmentUntil)) {
+                // A tariff that overlaps the range can still produce segments entirely outside it
+                continue;
+            }
+            List<Price> winners = segment.prices();
+            if (winners.size() == 1) {
+                timeline.add(PriceSegment.found(segmentFrom, segmentUntil, winners.get(0)));
+            } else {
+                int priority = winners.get(0).priority();
+                metricsPort.recordPriorityConflict(productId, brandId, winners.size());
+                timeline.add(PriceSegment.priorityConflict(segmentFrom, segmentUntil,
+                        PriorityConflictException.messageOf(productId, brandId, winners.size(), priority)));
+            }
+        }
+        log.debug("Linea temporal: tarifas={}, segmentos={}", tariffs.size(), timeline.size());
+        return timeline;
+    }
+}
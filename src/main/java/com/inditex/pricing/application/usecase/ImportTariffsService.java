@@ -0,0 +1,182 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBulkWritePort;
+import com.inditex.pricing.domain.exception.TariffImportException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.TariffImportReport;
+import com.inditex.pricing.domain.model.TariffImportReport.RejectedRow;
+import com.inditex.pricing.domain.port.in.ImportTariffsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Application service implementing the ImportTariffs use case as a three-stage pipeline:
+ * the calling thread reads the file into chunks of lines, the executor parses and validates
+ * chunks in parallel, and the calling thread inserts each parsed chunk, in file order, as one
+ * batched transaction. At most {@code maxChunksInFlight} chunks are held at once, so memory
+ * stays bounded whatever the file size.
+ *
+ * <p>Rows become visible to direct database reads chunk by chunk; read-side caches and in-memory
+ * indexes are refreshed once, after the last chunk, through PriceBookChangePort.
+ *
+ * <p>An ExecutorService given as parse executor is owned by the service and shut down by close().
+ */
+public class ImportTariffsService implements ImportTariffsUseCase, AutoCloseable {
+
+    static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(ImportTariffsService.class);
+
+    private final PriceBulkWritePort priceBulkWritePort;
+    private final PriceBookChangePort priceBookChangePort;
+    private final Executor parseExecutor;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+
+    public ImportTariffsService(PriceBulkWritePort priceBulkWritePort,
+                                PriceBookChangePort priceBookChangePort,
+                                Executor parseExecutor,
+                                int chunkSize,
+                                int maxChunksInFlight) {
+        this.priceBulkWritePort = priceBulkWritePort;
+        this.priceBookChangePort = priceBookChangePort;
+        this.parseExecutor = parseExecutor;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    @Override
+    public TariffImportReport importTariffs(Reader csv) {
+        long started = System.nanoTime();
+        BufferedReader reader = csv instanceof BufferedReader buffered ? buffered : new BufferedReader(csv, 1 << 16);
+        TariffCsvParser parser = TariffCsvParser.fromHeader(readHeader(reader));
+        Progress progress = new Progress();
+        Deque<CompletableFuture<ParsedChunk>> inFlight = new ArrayDeque<>();
+        try {
+            long lineNumber = 1;
+            List<String> lines = new ArrayList<>(chunkSize);
+            long firstLine = lineNumber + 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    submit(parser, new RawChunk(firstLine, lines), inFlight, progress);
+                    lines = new ArrayList<>(chunkSize);
+                    firstLine = lineNumber + 1;
+                }
+            }
+            if (!lines.isEmpty()) {
+                submit(parser, new RawChunk(firstLine, lines), inFlight, progress);
+            }
+            while (!inFlight.isEmpty()) {
+                insert(inFlight.poll().join(), progress);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            inFlight.forEach(future -> future.cancel(false));
+            if (progress.imported > 0) {
+                priceBookChangePort.priceBookChanged();
+            }
+        }
+        TariffImportReport report = new TariffImportReport(progress.read, progress.imported, progress.rejected,
+                Duration.ofNanos(System.nanoTime() - started), progress.rejectedSample);
+        log.info("Importacion de tarifas finalizada: leidas={}, importadas={}, rechazadas={}, filas/s={}",
+                report.rowsRead(), report.rowsImported(), report.rowsRejected(), Math.round(report.rowsPerSecond()));
+        return report;
+    }
+
+    @Override
+    public void close() {
+        if (parseExecutor instanceof ExecutorService pool) {
+            pool.shutdown();
+        }
+    }
+
+    private static String readHeader(BufferedReader reader) {
+        try {
+            String header = reader.readLine();
+            if (header == null || header.isBlank()) {
+                throw new TariffImportException("The CSV file is empty; a header line is required");
+            }
+            // Drop a UTF-8 byte order mark left by spreadsheet exports
+            return header.charAt(0) == '\uFEFF' ? header.substring(1) : header;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Hands a chunk to the parse executor, first inserting the oldest parsed chunk if the window is full.
+     */
+    private void submit(TariffCsvParser parser, RawChunk chunk,
+                        Deque<CompletableFuture<ParsedChunk>> inFlight, Progress progress) {
+        if (inFlight.size() >= maxChunksInFlight) {
+            insert(inFlight.poll().join(), progress);
+        }
+        inFlight.add(CompletableFuture.supplyAsync(() -> parse(parser, chunk), parseExecutor));
+    }
+
+    private static ParsedChunk parse(TariffCsvParser parser, RawChunk chunk) {
+        List<Price> prices = new ArrayList<>(chunk.lines().size());
+        List<RejectedRow> rejected = new ArrayList<>();
+        int read = 0;
+        for (int i = 0; i < chunk.lines().size(); i++) {
+            String line = chunk.lines().get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            read++;
+            try {
+                prices.add(parser.parse(line));
+            } catch (IllegalArgumentException ex) {
+                rejected.add(new RejectedRow(chunk.firstLine() + i, ex.getMessage()));
+            }
+        }
+        return new ParsedChunk(read, prices, rejected);
+    }
+
+    private void insert(ParsedChunk chunk, Progress progress) {
+        if (!chunk.prices().isEmpty()) {
+            progress.imported += priceBulkWritePort.insertAll(chunk.prices());
+        }
+        progress.read += chunk.read();
+        progress.rejected += chunk.rejected().size();
+        for (RejectedRow row : chunk.rejected()) {
+            if (progress.rejectedSample.size() == MAX_REPORTED_REJECTIONS) {
+                break;
+            }
+            progress.rejectedSample.add(row);
+        }
+        log.debug("Bloque de tarifas importado: importadas={}, rechazadas={}", progress.imported, progress.rejected);
+    }
+
+    private record RawChunk(long firstLine, List<String> lines) {}
+
+    private record ParsedChunk(int read, List<Price> prices, List<RejectedRow> rejected) {}
+
+    /**
+     * Running totals; only touched by the importing thread.
+     */
+    private static final class Progress {
+        private long read;
+        private long imported;
+        private long rejected;
+        private final List<RejectedRow> rejectedSample = new ArrayList<>();
+    }
+}
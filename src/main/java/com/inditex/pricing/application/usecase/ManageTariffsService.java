@@ -0,0 +1,61 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceWritePort;
+import com.inditex.pricing.domain.exception.TariffNotFoundException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.in.ManageTariffsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Application service implementing the ManageTariffs use case.
+ * Each write is committed by the write port first and only then announced to the change port,
+ * once per affected (productId, brandId), so read-side caches never repopulate from
+ * uncommitted data.
+ */
+public class ManageTariffsService implements ManageTariffsUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ManageTariffsService.class);
+
+    private final PriceWritePort priceWritePort;
+    private final PriceBookChangePort priceBookChangePort;
+
+    public ManageTariffsService(PriceWritePort priceWritePort, PriceBookChangePort priceBookChangePort) {
+        this.priceWritePort = priceWritePort;
+        this.priceBookChangePort = priceBookChangePort;
+    }
+
+    @Override
+    public Price createTariff(Price price) {
+        Price created = priceWritePort.insert(withId(null, price));
+        log.info("Tarifa creada: id={}, productId={}, brandId={}", created.id(), created.productId(), created.brandId());
+        priceBookChangePort.tariffsChanged(created.productId(), created.brandId());
+        return created;
+    }
+
+    @Override
+    public Price updateTariff(Long id, Price price) {
+        Price previous = priceWritePort.findById(id).orElseThrow(() -> new TariffNotFoundException(id));
+        Price updated = priceWritePort.update(withId(id, price)).orElseThrow(() -> new TariffNotFoundException(id));
+        log.info("Tarifa actualizada: id={}, productId={}, brandId={}", id, updated.productId(), updated.brandId());
+        priceBookChangePort.tariffsChanged(previous.productId(), previous.brandId());
+        if (!previous.productId().equals(updated.productId()) || !previous.brandId().equals(updated.brandId())) {
+            priceBookChangePort.tariffsChanged(updated.productId(), updated.brandId());
+        }
+        return updated;
+    }
+
+    @Override
+    public void deleteTariff(Long id) {
+        Price previous = priceWritePort.findById(id).orElseThrow(() -> new TariffNotFoundException(id));
+        priceWritePort.deleteById(id);
+        log.info("Tarifa eliminada: id={}, productId={}, brandId={}", id, previous.productId(), previous.brandId());
+        priceBookChangePort.tariffsChanged(previous.productId(), previous.brandId());
+    }
+
+    private static Price withId(Long id, Price price) {
+        return new Price(id, price.brandId(), price.startDate(), price.endDate(), price.priceList(),
+                price.productId(), price.priority(), price.amount(), price.currency());
+    }
+}
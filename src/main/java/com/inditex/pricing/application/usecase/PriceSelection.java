@@ -0,0 +1,53 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.Price;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Disambiguation rule shared by the blocking and reactive lookup services: among the tariffs that
+ * apply, the highest priority wins, and a tie at the top is a priority conflict. Repositories that
+ * already resolve the winner return a single candidate, which is taken as-is; those that return only
+ * the top two candidates still expose a tie, although the reported count is then capped at two.
+ */
+final class PriceSelection {
+
+    private final PriceMetricsPort metricsPort;
+
+    PriceSelection(PriceMetricsPort metricsPort) {
+        this.metricsPort = metricsPort;
+    }
+
+    Optional<Price> select(List<Price> candidates, Long productId, Long brandId) {
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.size() == 1
+                ? candidates.get(0)
+                : selectHighestPriority(candidates, productId, brandId));
+    }
+
+    /**
+     * Single pass over the candidates keeping the highest priority and how many tariffs share it.
+     */
+    private Price selectHighestPriority(List<Price> candidates, Long productId, Long brandId) {
+        Price best = null;
+        int ties = 0;
+        for (Price candidate : candidates) {
+            if (best == null || candidate.priority() > best.priority()) {
+                best = candidate;
+                ties = 1;
+            } else if (candidate.priority().equals(best.priority())) {
+                ties++;
+            }
+        }
+        if (ties > 1) {
+            metricsPort.recordPriorityConflict(productId, brandId, ties);
+            throw new PriorityConflictException(productId, brandId, ties, best.priority());
+        }
+        return best;
+    }
+}
@@ -0,0 +1,33 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.application.port.out.ReactivePriceRepositoryPort;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.port.in.ReactiveFindApplicablePriceUseCase;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Application service implementing the ReactiveFindApplicablePrice use case.
+ * Collects the candidates emitted by the repository and applies the same {@link PriceSelection}
+ * as the blocking FindApplicablePriceService, so both stacks resolve prices identically.
+ */
+public class ReactiveFindApplicablePriceService implements ReactiveFindApplicablePriceUseCase {
+
+    private final ReactivePriceRepositoryPort priceRepositoryPort;
+    private final PriceSelection selection;
+
+    public ReactiveFindApplicablePriceService(ReactivePriceRepositoryPort priceRepositoryPort,
+                                              PriceMetricsPort metricsPort) {
+        this.priceRepositoryPort = priceRepositoryPort;
+        this.selection = new PriceSelection(metricsPort);
+    }
+
+    @Override
+    public Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return priceRepositoryPort.findApplicablePrices(applicationDate, productId, brandId)
+                .collectList()
+                .flatMap(candidates -> Mono.justOrEmpty(selection.select(candidates, productId, brandId)));
+    }
+}
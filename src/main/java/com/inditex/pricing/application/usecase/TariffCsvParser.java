@@ -0,0 +1,140 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.domain.exception.TariffImportException;
+import com.inditex.pricing.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Parses tariff CSV rows in the PRICES column layout.
+ * Columns are located by header name, so their order is free and an ID column is ignored.
+ * Dates are accepted as {@code 2020-06-14 15:00:00} or {@code 2020-06-14T15:00:00}.
+ * Instances are immutable and safe to share between parsing threads.
+ */
+final class TariffCsvParser {
+
+    static final List<String> REQUIRED_COLUMNS =
+            List.of("BRAND_ID", "START_DATE", "END_DATE", "PRICE_LIST", "PRODUCT_ID", "PRIORITY", "PRICE", "CURR");
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd[ ]['T']HH:mm:ss", Locale.ROOT);
+    private static final Pattern CURRENCY = Pattern.compile("[A-Z]{3}");
+    private static final int MAX_AMOUNT_SCALE = 2;
+    private static final int MAX_AMOUNT_PRECISION = 20;
+
+    private final int columns;
+    private final int brandId;
+    private final int startDate;
+    private final int endDate;
+    private final int priceList;
+    private final int productId;
+    private final int priority;
+    private final int price;
+    private final int currency;
+
+    private TariffCsvParser(int columns, Map<String, Integer> positions) {
+        this.columns = columns;
+        this.brandId = positions.get("BRAND_ID");
+        this.startDate = positions.get("START_DATE");
+        this.endDate = positions.get("END_DATE");
+        this.priceList = positions.get("PRICE_LIST");
+        this.productId = positions.get("PRODUCT_ID");
+        this.priority = positions.get("PRIORITY");
+        this.price = positions.get("PRICE");
+        this.currency = positions.get("CURR");
+    }
+
+    static TariffCsvParser fromHeader(String header) {
+        String[] names = header.strip().split(",", -1);
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            positions.put(names[i].strip().toUpperCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !positions.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new TariffImportException("Missing CSV columns: " + String.join(", ", missing)
+                    + " (header: " + Arrays.toString(names) + ")");
+        }
+        return new TariffCsvParser(names.length, positions);
+    }
+
+    /**
+     * Parses and validates one data row.
+     *
+     * @throws IllegalArgumentException with the rejection reason if the row is invalid
+     */
+    Price parse(String line) {
+        String[] fields = line.split(",", -1);
+        if (fields.length != columns) {
+            throw new IllegalArgumentException("expected " + columns + " columns, found " + fields.length);
+        }
+        BigDecimal amount = decimal(fields, price, "PRICE");
+        if (amount.signum() < 0 || amount.scale() > MAX_AMOUNT_SCALE
+                || amount.precision() - amount.scale() > MAX_AMOUNT_PRECISION - MAX_AMOUNT_SCALE) {
+            throw new IllegalArgumentException("PRICE out of range for DECIMAL(20, 2): " + amount);
+        }
+        String curr = fields[currency].strip();
+        if (!CURRENCY.matcher(curr).matches()) {
+            throw new IllegalArgumentException("CURR is not an ISO 4217 code: " + curr);
+        }
+        // The Price constructor enforces the remaining domain invariants (e.g. startDate <= endDate)
+        return new Price(
+                null,
+                longAtLeast(fields, brandId, "BRAND_ID", 1),
+                date(fields, startDate, "START_DATE"),
+                date(fields, endDate, "END_DATE"),
+                intAtLeast(fields, priceList, "PRICE_LIST", 1),
+                longAtLeast(fields, productId, "PRODUCT_ID", 1),
+                intAtLeast(fields, priority, "PRIORITY", 0),
+                amount,
+                curr);
+    }
+
+    private static long longAtLeast(String[] fields, int index, String column, long min) {
+        try {
+            long value = Long.parseLong(fields[index].strip());
+            if (value < min) {
+                throw new IllegalArgumentException(column + " must be at least " + min + ": " + value);
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + " is not a number: " + fields[index]);
+        }
+    }
+
+    private static int intAtLeast(String[] fields, int index, String column, int min) {
+        try {
+            int value = Integer.parseInt(fields[index].strip());
+            if (value < min) {
+                throw new IllegalArgumentException(column + " must be at least " + min + ": " + value);
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + " is not a number: " + fields[index]);
+        }
+    }
+
+    private static BigDecimal decimal(String[] fields, int index, String column) {
+        try {
+            return new BigDecimal(fields[index].strip());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(column + " is not a decimal: " + fields[index]);
+        }
+    }
+
+    private static LocalDateTime date(String[] fields, int index, String column) {
+        try {
+            return LocalDateTime.parse(fields[index].strip(), DATE_FORMAT);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(column + " is not a date: " + fields[index]);
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceSegment;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import com.inditex.pricing.domain.model.PriceTransition;
+import com.inditex.pricing.domain.port.in.WatchPriceTransitionsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Application service implementing the WatchPriceTransitions use case.
+ * Keeps the {@link PriceTimeline} of every watched product and brand and one scheduled task per key,
+ * due at the end of its current segment, so an idle subscriber costs a map entry rather than a thread.
+ * Tariff writes arrive through {@link PriceBookChangePort} and rebuild the affected timelines.
+ * <p>
+ * The watched state is only modified on the single timer thread. Listeners are called on the
+ * dispatcher, one transition at a time per subscription, so a slow client never delays the timer.
+ * A dispatcher that starts a thread per task, such as a virtual-thread executor, also keeps a
+ * client whose write blocks from delaying the other subscriptions.
+ * Each subscription queues at most {@code maxPending} transitions; one that falls further behind
+ * is dropped rather than buffered without limit, and its owner is told so it can resubscribe.
+ * "Now" is the wall clock of the given {@link Clock}, whose zone must be the one the tariff dates are in.
+ * <p>
+ * The timer and an ExecutorService dispatcher are owned by the service and stopped by close();
+ * work submitted after that, such as the cancellation of a stream closed during shutdown, is dropped.
+ */
+public class WatchPriceTransitionsService implements WatchPriceTransitionsUseCase, PriceBookChangePort, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WatchPriceTransitionsService.class);
+
+    /**
+     * Longest wait before a key is checked again, even if its segment ends later; also absorbs
+     * wall-clock adjustments, which the timer does not see.
+     */
+    private static final Duration MAX_WAIT = Duration.ofHours(1);
+
+    private final PriceBookSourcePort priceBookSourcePort;
+    private final PriceMetricsPort metricsPort;
+    private final ScheduledExecutorService timer;
+    private final Executor dispatcher;
+    private final Clock clock;
+    private final int maxPending;
+
+    // Concurrent only so subscribe() can skip loading what is already watched; written on the timer thread
+    private final Map<Key, WatchedKey> watched = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Listener>> brandListeners = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriptions = new AtomicInteger();
+
+    public WatchPriceTransitionsService(PriceBookSourcePort priceBookSourcePort,
+                                        PriceMetricsPort metricsPort,
+                                        ScheduledExecutorService timer,
+                                        Executor dispatcher,
+                                        Clock clock,
+                                        int maxPending) {
+        this.priceBookSourcePort = priceBookSourcePort;
+        this.metricsPort = metricsPort;
+        this.timer = timer;
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Loads the tariffs of the keys that are not watched yet on the caller's thread, so a failing
+     * query surfaces to the caller and the timer thread never waits on a new subscriber.
+     */
+    @Override
+    public Subscription subscribe(Long brandId, Set<Long> productIds, Consumer<PriceTransition> listener,
+                                  Runnable onDropped) {
+        Map<Key, List<Price>> loaded = new HashMap<>();
+        if (productIds.isEmpty()) {
+            if (!brandListeners.containsKey(brandId)) {
+                loaded.putAll(loadBrand(brandId));
+            }
+        } else {
+            for (Long productId : productIds) {
+                Key key = new Key(productId, brandId);
+                if (!watched.containsKey(key)) {
+                    loaded.put(key, priceBookSourcePort.loadPrices(productId, brandId));
+                }
+            }
+        }
+        Listener subscriber = new Listener(brandId, Set.copyOf(productIds), listener, onDropped);
+        subscriptions.incrementAndGet();
+        log.debug("Nueva suscripcion a cambios de precio: brandId={}, productIds={}", brandId, productIds);
+        onTimer(() -> register(subscriber, loaded));
+        return subscriber;
+    }
+
+    @Override
+    public void tariffsChanged(Long productId, Long brandId) {
+        onTimer(() -> {
+            Key key = new Key(productId, brandId);
+            if (watched.containsKey(key) || brandListeners.containsKey(brandId)) {
+                refresh(key, priceBookSourcePort.loadPrices(productId, brandId));
+            }
+        });
+    }
+
+    @Override
+    public void priceBookChanged() {
+        onTimer(() -> {
+            Map<Key, List<Price>> reloaded = new HashMap<>();
+            for (Long brandId : brandListeners.keySet()) {
+                reloaded.putAll(loadBrand(brandId));
+            }
+            for (Key key : watched.keySet()) {
+                if (!reloaded.containsKey(key)) {
+                    reloaded.put(key, priceBookSourcePort.loadPrices(key.productId(), key.brandId()));
+                }
+            }
+            log.info("Recargando lineas temporales vigiladas: claves={}", reloaded.size());
+            reloaded.forEach(this::refresh);
+        });
+    }
+
+    /**
+     * Stops following boundaries and interrupts the writes in progress; open streams are left to
+     * the web server to close.
+     */
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        if (dispatcher instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of open subscriptions.
+     */
+    public int subscriptionCount() {
+        return subscriptions.get();
+    }
+
+    /**
+     * Returns the number of product and brand pairs whose boundaries are being followed.
+     */
+    public int watchedKeyCount() {
+        return watched.size();
+    }
+
+    private void register(Listener listener, Map<Key, List<Price>> loaded) {
+        if (listener.productIds.isEmpty()) {
+            if (!brandListeners.containsKey(listener.brandId)) {
+                // Nothing preloaded if the brand was still watched when subscribe() checked
+                (loaded.isEmpty() ? loadBrand(listener.brandId) : loaded).forEach(this::watch);
+            }
+            brandListeners.computeIfAbsent(listener.brandId, b -> new HashSet<>()).add(listener);
+            for (WatchedKey key : watched.values()) {
+                if (key.key.brandId().equals(listener.brandId)) {
+                    listener.deliver(key.transition);
+                }
+            }
+        } else {
+            for (Long productId : listener.productIds) {
+                Key key = new Key(productId, listener.brandId);
+                WatchedKey watchedKey = watched.get(key);
+                if (watchedKey == null) {
+                    // Not preloaded if the key was still watched when subscribe() checked
+                    List<Price> tariffs = loaded.get(key);
+                    watchedKey = watch(key, tariffs != null ? tariffs : priceBookSourcePort.loadPrices(productId, listener.brandId));
+                }
+                watchedKey.listeners.add(listener);
+                listener.deliver(watchedKey.transition);
+            }
+        }
+    }
+
+    private void unregister(Listener listener) {
+        if (listener.productIds.isEmpty()) {
+            Set<Listener> sameBrand = brandListeners.get(listener.brandId);
+            if (sameBrand != null && sameBrand.remove(listener) && sameBrand.isEmpty()) {
+                brandListeners.remove(listener.brandId);
+                watched.values().removeIf(key -> key.key.brandId().equals(listener.brandId) && stopIfIdle(key));
+            }
+        } else {
+            for (Long productId : listener.productIds) {
+                WatchedKey key = watched.get(new Key(productId, listener.brandId));
+                if (key != null && key.listeners.remove(listener) && stopIfIdle(key)) {
+                    watched.remove(key.key);
+                }
+            }
+        }
+    }
+
+    private boolean stopIfIdle(WatchedKey key) {
+        if (!key.listeners.isEmpty() || brandListeners.containsKey(key.key.brandId())) {
+            return false;
+        }
+        key.cancelTimer();
+        return true;
+    }
+
+    /**
+     * Starts following a key unless it already is; an existing key keeps its current state.
+     */
+    private WatchedKey watch(Key key, List<Price> tariffs) {
+        WatchedKey existing = watched.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        WatchedKey watchedKey = new WatchedKey(key, PriceTimeline.of(tariffs));
+        watched.put(key, watchedKey);
+        advance(watchedKey, false);
+        return watchedKey;
+    }
+
+    private void refresh(Key key, List<Price> tariffs) {
+        WatchedKey watchedKey = watched.get(key);
+        if (watchedKey == null) {
+            if (brandListeners.containsKey(key.brandId())) {
+                // First tariff of a product of a brand being watched as a whole
+                publish(watch(key, tariffs));
+            }
+            return;
+        }
+        watchedKey.timeline = PriceTimeline.of(tariffs);
+        advance(watchedKey, true);
+    }
+
+    /**
+     * Resolves the current segment of a key, publishes it if it differs from the last one and
+     * schedules the next check at the end of the segment.
+     */
+    private void advance(WatchedKey key, boolean publishChange) {
+        if (watched.get(key.key) != key) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        ApplicablePrices slice = key.timeline.resolve(now);
+        if (!slice.equals(key.current)) {
+            key.current = slice;
+            key.transition = new PriceTransition(key.key.productId(), key.key.brandId(), segmentOf(key.key, slice));
+            if (publishChange) {
+                publish(key);
+            }
+        }
+        key.cancelTimer();
+        LocalDateTime until = slice.validUntil();
+        Duration wait = until.isAfter(now.plus(MAX_WAIT)) ? MAX_WAIT : Duration.between(now, until);
+        key.next = timer.schedule(guarded(() -> advance(key, true)), wait.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void publish(WatchedKey key) {
+        log.debug("Cambio de precio: productId={}, brandId={}, estado={}",
+                key.key.productId(), key.key.brandId(), key.transition.segment().outcome());
+        for (Listener listener : key.listeners) {
+            listener.deliver(key.transition);
+        }
+        for (Listener listener : brandListeners.getOrDefault(key.key.brandId(), Set.of())) {
+            listener.deliver(key.transition);
+        }
+    }
+
+    private PriceSegment segmentOf(Key key, ApplicablePrices slice) {
+        List<Price> winners = slice.prices();
+        if (winners.isEmpty()) {
+            return PriceSegment.notFound(slice.validFrom(), slice.validUntil());
+        }
+        if (winners.size() == 1) {
+            return PriceSegment.found(slice.validFrom(), slice.validUntil(), winners.get(0));
+        }
+        metricsPort.recordPriorityConflict(key.productId(), key.brandId(), winners.size());
+        return PriceSegment.priorityConflict(slice.validFrom(), slice.validUntil(),
+                PriorityConflictException.messageOf(key.productId(), key.brandId(), winners.size(), winners.get(0).priority()));
+    }
+
+    private Map<Key, List<Price>> loadBrand(Long brandId) {
+        return priceBookSourcePort.loadBrandPrices(brandId).stream()
+                .collect(Collectors.groupingBy(p -> new Key(p.productId(), brandId)));
+    }
+
+    private void onTimer(Runnable task) {
+        execute(timer, guarded(task));
+    }
+
+    /**
+     * Runs a task on an executor, dropping it once the service is closed.
+     */
+    private void execute(Executor executor, Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (!timer.isShutdown()) {
+                throw e;
+            }
+            log.debug("Tarea descartada al cerrar el seguimiento de cambios de precio");
+        }
+    }
+
+    /**
+     * An exception thrown by a timer task would be kept in its future and never reported. A task
+     * that cannot schedule its follow-up because the service is closing is not an error.
+     */
+    private Runnable guarded(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (RejectedExecutionException e) {
+                if (!timer.isShutdown()) {
+                    log.error("Error actualizando las lineas temporales vigiladas", e);
+                }
+            } catch (RuntimeException e) {
+                log.error("Error actualizando las lineas temporales vigiladas", e);
+            }
+        };
+    }
+
+    private record Key(Long productId, Long brandId) {}
+
+    private static final class WatchedKey {
+
+        private final Key key;
+        private final Set<Listener> listeners = new HashSet<>();
+        private PriceTimeline timeline;
+        private ApplicablePrices current;
+        private PriceTransition transition;
+        private ScheduledFuture<?> next;
+
+        private WatchedKey(Key key, PriceTimeline timeline) {
+            this.key = key;
+            this.timeline = timeline;
+        }
+
+        private void cancelTimer() {
+            if (next != null) {
+                next.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Subscription that queues its transitions and drains them on the dispatcher with at most one
+     * task in flight, which keeps them in order without a thread per subscriber. Once cancelled the
+     * drain flag stays set, so the last drain, or one scheduled by the overflow, is the only task
+     * that can still run and it calls onDropped after any write in progress has returned.
+     */
+    private final class Listener implements Subscription {
+
+        private final Long brandId;
+        private final Set<Long> productIds;
+        private final Consumer<PriceTransition> consumer;
+        private final Runnable onDropped;
+        private final BlockingQueue<PriceTransition> pending = new LinkedBlockingQueue<>(maxPending);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicBoolean dropped = new AtomicBoolean();
+
+        private Listener(Long brandId, Set<Long> productIds, Consumer<PriceTransition> consumer, Runnable onDropped) {
+            this.brandId = brandId;
+            this.productIds = productIds;
+            this.consumer = consumer;
+            this.onDropped = onDropped;
+        }
+
+        private void deliver(PriceTransition transition) {
+            if (cancelled.get()) {
+                return;
+            }
+            if (!pending.offer(transition)) {
+                drop();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                execute(dispatcher, this::drain);
+            }
+        }
+
+        private void drop() {
+            log.debug("Suscripcion descartada por no consumir a tiempo: brandId={}, pendientes={}", brandId, maxPending);
+            dropped.set(true);
+            cancel();
+            if (draining.compareAndSet(false, true)) {
+                execute(dispatcher, this::drain);
+            }
+        }
+
+        private void drain() {
+            PriceTransition transition;
+            while (!cancelled.get() && (transition = pending.poll()) != null) {
+                try {
+                    consumer.accept(transition);
+                } catch (RuntimeException e) {
+                    log.debug("Suscripcion cerrada al fallar el envio: {}", e.getMessage());
+                    cancel();
+                }
+            }
+            if (cancelled.get()) {
+                if (dropped.compareAndSet(true, false)) {
+                    onDropped.run();
+                }
+                return;
+            }
+            draining.set(false);
+            // A transition queued, or an overflow, after the last poll but before the flag was cleared
+            if ((cancelled.get() || !pending.isEmpty()) && draining.compareAndSet(false, true)) {
+                execute(dispatcher, this::drain);
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled.compareAndSet(false, true)) {
+                pending.clear();
+                subscriptions.decrementAndGet();
+                onTimer(() -> unregister(this));
+            }
+        }
+    }
+}
@@ -1,29 +1,112 @@
 package com.inditex.pricing.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.adapter.in.web.AccessLog;
+import com.inditex.pricing.adapter.in.web.AccessLogFilter;
+import com.inditex.pricing.adapter.in.web.HttpCachePolicy;
+import com.inditex.pricing.adapter.in.web.PriceResponseBodies;
+import com.inditex.pricing.adapter.in.web.ReactiveAccessLogFilter;
+import com.inditex.pricing.adapter.in.web.ResponseFormat;
 import com.inditex.pricing.application.port.out.CacheMetricsRecorder;
 import com.inditex.pricing.adapter.out.cache.CachingPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.cache.KeyFilterPriceRepositoryAdapter;
 import com.inditex.pricing.adapter.out.cache.MicrometerCacheMetricsAdapter;
+import com.inditex.pricing.adapter.out.memory.ColumnarPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.memory.CurrentPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.memory.InMemoryPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.memory.InMemoryReactivePriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.memory.SegmentedPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.metrics.MicrometerKeyFilterMetricsAdapter;
 import com.inditex.pricing.adapter.out.metrics.MicrometerPriceMetricsAdapter;
+import com.inditex.pricing.adapter.out.metrics.MicrometerStageMetricsAdapter;
+import com.inditex.pricing.adapter.out.metrics.VirtualThreadPinningMonitor;
+import com.inditex.pricing.adapter.out.persistence.JdbcPriceBookStreamAdapter;
+import com.inditex.pricing.adapter.out.persistence.JdbcPriceBulkWriteAdapter;
+import com.inditex.pricing.adapter.out.persistence.JdbcPricePersistenceAdapter;
 import com.inditex.pricing.adapter.out.persistence.PricePersistenceAdapter;
+import com.inditex.pricing.adapter.out.persistence.R2dbcPriceRepositoryAdapter;
 import com.inditex.pricing.adapter.out.persistence.SpringDataPriceRepository;
+import com.inditex.pricing.adapter.out.snapshot.SnapshotPriceRepositoryAdapter;
+import com.inditex.pricing.application.port.out.KeyFilterMetricsPort;
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceBookStreamPort;
+import com.inditex.pricing.application.port.out.PriceBulkWritePort;
 import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.application.port.out.PriceWritePort;
+import com.inditex.pricing.application.port.out.ReactivePriceRepositoryPort;
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import com.inditex.pricing.application.usecase.ExportApplicablePricesService;
 import com.inditex.pricing.application.usecase.FindApplicablePriceService;
+import com.inditex.pricing.application.usecase.FindPriceTimelineService;
+import com.inditex.pricing.application.usecase.ImportTariffsService;
+import com.inditex.pricing.application.usecase.ManageTariffsService;
+import com.inditex.pricing.application.usecase.ReactiveFindApplicablePriceService;
+import com.inditex.pricing.application.usecase.WatchPriceTransitionsService;
+import com.inditex.pricing.domain.port.in.ExportApplicablePricesUseCase;
 import com.inditex.pricing.domain.port.in.FindApplicablePriceUseCase;
+import com.inditex.pricing.domain.port.in.FindPriceTimelineUseCase;
+import com.inditex.pricing.domain.port.in.ImportTariffsUseCase;
+import com.inditex.pricing.domain.port.in.ManageTariffsUseCase;
+import com.inditex.pricing.domain.port.in.ReactiveFindApplicablePriceUseCase;
 import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.MeterRegistryCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Spring configuration that wires the hexagonal architecture together.
  * This is the only place where concrete adapter implementations are bound to port interfaces.
+ * The blocking ports are always wired; {@link ReactiveWiring} adds the non-blocking lookup path
+ * when the application starts as a reactive web application.
  */
 @Configuration
 public class BeanConfiguration {
 
+    /**
+     * Wall clock that defines "now" for lookups without a date, the current-price table and the
+     * price transition stream. Tariff dates carry no zone, so they are read in
+     * {@code pricing.time-zone} rather than whatever zone the host happens to run in.
+     */
+    @Bean
+    public Clock clock(@Value("${pricing.time-zone:UTC}") ZoneId timeZone) {
+        return Clock.system(timeZone);
+    }
+
     @Bean
     public PriceMetricsPort priceMetricsPort(MeterRegistry meterRegistry) {
         return new MicrometerPriceMetricsAdapter(meterRegistry);
@@ -34,23 +117,378 @@ public class BeanConfiguration {
         return new MicrometerCacheMetricsAdapter(meterRegistry);
     }
 
+    /**
+     * Tags every meter with the request execution mode ({@code spring.threads.virtual.enabled}),
+     * so runs of the same load in both modes can be compared side by side.
+     */
+    @Bean
+    public MeterRegistryCustomizer<MeterRegistry> threadModeTag(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        return registry -> registry.config().commonTags("threads", virtualThreads ? "virtual" : "platform");
+    }
+
+    @Bean(initMethod = "start")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${pricing.threads.pinned-threshold:20ms}") Duration threshold) {
+        return new VirtualThreadPinningMonitor(meterRegistry, threshold);
+    }
+
+    @Bean
+    public StageMetricsPort stageMetricsPort(
+            MeterRegistry meterRegistry,
+            @Value("${pricing.metrics.stage-slos:1ms,5ms,10ms,25ms,50ms,100ms,250ms}") Duration[] serviceLevelObjectives) {
+        return new MicrometerStageMetricsAdapter(meterRegistry, serviceLevelObjectives);
+    }
+
+    @Bean
+    public KeyFilterMetricsPort keyFilterMetricsPort(MeterRegistry meterRegistry) {
+        return new MicrometerKeyFilterMetricsAdapter(meterRegistry);
+    }
+
+    /**
+     * CBOR and Smile converters for the batch endpoint, built from the auto-configured ObjectMapper so
+     * binary bodies carry the same fields and date formats as JSON. Spring MVC's defaults use a mapper
+     * of their own; they are replaced and kept after the JSON converter, which stays the default.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public WebMvcConfigurer binaryResponseFormats(ObjectMapper objectMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                        || converter instanceof MappingJackson2SmileHttpMessageConverter);
+                converters.add(new MappingJackson2CborHttpMessageConverter(ResponseFormat.CBOR.mapperFrom(objectMapper)));
+                converters.add(new MappingJackson2SmileHttpMessageConverter(ResponseFormat.SMILE.mapperFrom(objectMapper)));
+            }
+        };
+    }
+
+    @Bean
+    public HttpCachePolicy httpCachePolicy(@Value("${pricing.http-cache.max-age:5m}") Duration maxAge) {
+        return new HttpCachePolicy(maxAge);
+    }
+
+    @Bean
+    public PriceResponseBodies priceResponseBodies(ObjectMapper objectMapper,
+                                                   HttpCachePolicy httpCachePolicy,
+                                                   @Value("${pricing.response-bodies.max-size:10000}") long maxSize) {
+        return new PriceResponseBodies(objectMapper, httpCachePolicy, maxSize);
+    }
+
+    @Bean
+    public AccessLog accessLog(@Value("${pricing.access-log.sample-rate:0.01}") double sampleRate,
+                               @Value("${pricing.access-log.slow-threshold:250ms}") Duration slowThreshold,
+                               @Value("${pricing.access-log.always-log-status:500}") int alwaysLogStatus) {
+        return new AccessLog(sampleRate, slowThreshold, alwaysLogStatus);
+    }
+
+    /**
+     * Registered first in the chain so the logged duration covers every other filter.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public FilterRegistrationBean<AccessLogFilter> accessLogFilter(AccessLog accessLog) {
+        FilterRegistrationBean<AccessLogFilter> registration = new FilterRegistrationBean<>(new AccessLogFilter(accessLog));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Selects the price lookup strategy with {@code pricing.repository.mode}:
+     * <ul>
+     *   <li>{@code jpa} (default): JPA range query behind the Caffeine cache (refreshed ahead of expiry on a
+     *       bounded pool), and behind a Bloom filter
+     *       of the known product and brand pairs unless {@code pricing.key-filter.enabled=false}.</li>
+     *   <li>{@code memory}: whole price book loaded at startup into per-product interval indexes.</li>
+     *   <li>{@code segments}: whole price book flattened at startup into non-overlapping winner segments.</li>
+     *   <li>{@code columnar}: whole price book streamed at startup into primitive column arrays.</li>
+     *   <li>{@code snapshot}: resolved price book memory-mapped from {@code pricing.snapshot.path},
+     *       written from the database only when the file is missing, does not match the database's
+     *       fingerprint or a rebuild is requested; tariff writes rewrite it in the background.</li>
+     * </ul>
+     * The in-memory modes answer an unknown pair with a single hash lookup already, so the filter is
+     * only placed in front of the database-backed mode.
+     * Database reads go through Spring Data JPA, or straight through JDBC with
+     * {@code pricing.persistence.adapter=jdbc}; the latter is the only one available when the
+     * {@code lean} profile leaves Hibernate out.
+     * With {@code pricing.current-prices.enabled=true}, the selected strategy sits behind the
+     * current-price table, which answers lookups at the current time itself.
+     */
     @Bean
     public PriceRepositoryPort priceRepositoryPort(
-            SpringDataPriceRepository springDataPriceRepository,
+            ObjectProvider<SpringDataPriceRepository> springDataPriceRepository,
+            JdbcTemplate jdbcTemplate,
             CacheMetricsRecorder cacheMetricsRecorder,
+            PriceMetricsPort priceMetricsPort,
+            StageMetricsPort stageMetricsPort,
+            KeyFilterMetricsPort keyFilterMetricsPort,
+            Clock clock,
+            @Value("${pricing.repository.mode:jpa}") String repositoryMode,
+            @Value("${pricing.persistence.adapter:jpa}") String persistenceAdapter,
             @Value("${pricing.cache.prices.max-size:1000}") int cacheMaxSize,
-            @Value("${pricing.cache.prices.ttl-hours:1}") int cacheTtlHours) {
-        PriceRepositoryPort persistence = new PricePersistenceAdapter(springDataPriceRepository);
-        return new CachingPriceRepositoryAdapter(
-                persistence,
-                cacheMetricsRecorder,
-                cacheMaxSize,
-                Duration.ofHours(cacheTtlHours));
+            @Value("${pricing.cache.prices.ttl-hours:1}") int cacheTtlHours,
+            @Value("${pricing.cache.prices.refresh-after:45m}") Duration cacheRefreshAfter,
+            @Value("${pricing.cache.prices.refresh-threads:2}") int cacheRefreshThreads,
+            @Value("${pricing.cache.prices.refresh-queue-size:256}") int cacheRefreshQueueSize,
+            @Value("${pricing.export.fetch-size:1000}") int fetchSize,
+            @Value("${pricing.key-filter.enabled:true}") boolean keyFilterEnabled,
+            @Value("${pricing.key-filter.false-positive-rate:0.01}") double keyFilterFalsePositiveRate,
+            @Value("${pricing.snapshot.path:${java.io.tmpdir}/price-api/price-book.snapshot}") Path snapshotPath,
+            @Value("${pricing.snapshot.rebuild-on-start:false}") boolean snapshotRebuildOnStart,
+            @Value("${pricing.snapshot.rebuild-delay:1s}") Duration snapshotRebuildDelay,
+            @Value("${pricing.current-prices.enabled:false}") boolean currentPricesEnabled,
+            @Value("${pricing.current-prices.tick:1s}") Duration currentPricesTick,
+            @Value("${pricing.current-prices.wheel-size:4096}") int currentPricesWheelSize) {
+        PriceRepositoryPort lookups;
+        PriceBookSourcePort source;
+        if ("jdbc".equals(persistenceAdapter)) {
+            JdbcPricePersistenceAdapter jdbc = new JdbcPricePersistenceAdapter(jdbcTemplate, stageMetricsPort);
+            lookups = jdbc;
+            source = jdbc;
+        } else {
+            PricePersistenceAdapter jpa = new PricePersistenceAdapter(springDataPriceRepository.getObject(), stageMetricsPort);
+            lookups = jpa;
+            source = jpa;
+        }
+        PriceRepositoryPort selected = switch (repositoryMode) {
+            case "jpa" -> {
+                PriceRepositoryPort cached = new CachingPriceRepositoryAdapter(
+                        lookups,
+                        cacheMetricsRecorder,
+                        stageMetricsPort,
+                        cacheMaxSize,
+                        Duration.ofHours(cacheTtlHours),
+                        cacheRefreshAfter,
+                        boundedDaemonPool("price-cache-refresh-", cacheRefreshThreads, cacheRefreshQueueSize));
+                yield keyFilterEnabled
+                        ? new KeyFilterPriceRepositoryAdapter(cached, new JdbcPriceBookStreamAdapter(jdbcTemplate, fetchSize),
+                                keyFilterMetricsPort, keyFilterFalsePositiveRate)
+                        : cached;
+            }
+            case "memory" -> new InMemoryPriceRepositoryAdapter(source);
+            case "segments" -> new SegmentedPriceRepositoryAdapter(source, priceMetricsPort);
+            case "columnar" -> new ColumnarPriceRepositoryAdapter(new JdbcPriceBookStreamAdapter(jdbcTemplate, fetchSize));
+            case "snapshot" -> new SnapshotPriceRepositoryAdapter(new JdbcPriceBookStreamAdapter(jdbcTemplate, fetchSize),
+                    priceMetricsPort, snapshotPath, snapshotRebuildOnStart,
+                    Executors.newSingleThreadScheduledExecutor(daemonThreads("price-snapshot-rebuild-")), snapshotRebuildDelay);
+            default -> throw new IllegalStateException("Unknown pricing.repository.mode: " + repositoryMode);
+        };
+        return currentPricesEnabled
+                ? new CurrentPriceRepositoryAdapter(selected, source, clock,
+                        Executors.newSingleThreadScheduledExecutor(daemonThreads("price-boundary-wheel-")),
+                        currentPricesTick, currentPricesWheelSize)
+                : selected;
     }
 
     @Bean
     public FindApplicablePriceUseCase findApplicablePriceUseCase(PriceRepositoryPort priceRepositoryPort,
-                                                                  PriceMetricsPort priceMetricsPort) {
-        return new FindApplicablePriceService(priceRepositoryPort, priceMetricsPort);
+                                                                  PriceMetricsPort priceMetricsPort,
+                                                                  StageMetricsPort stageMetricsPort) {
+        return new FindApplicablePriceService(priceRepositoryPort, priceMetricsPort, stageMetricsPort);
+    }
+
+    @Bean
+    public PriceBookStreamPort priceBookStreamPort(JdbcTemplate jdbcTemplate,
+                                                   @Value("${pricing.export.fetch-size:1000}") int fetchSize) {
+        return new JdbcPriceBookStreamAdapter(jdbcTemplate, fetchSize);
+    }
+
+    @Bean
+    public ExportApplicablePricesUseCase exportApplicablePricesUseCase(PriceBookStreamPort priceBookStreamPort,
+                                                                        PriceMetricsPort priceMetricsPort) {
+        return new ExportApplicablePricesService(priceBookStreamPort, priceMetricsPort);
+    }
+
+    /**
+     * The timeline reads the tariffs of one key straight from the database whatever the repository
+     * mode, so it always sees every boundary regardless of how lookups are indexed or cached.
+     */
+    @Bean
+    public FindPriceTimelineUseCase findPriceTimelineUseCase(ObjectProvider<SpringDataPriceRepository> springDataPriceRepository,
+                                                             JdbcTemplate jdbcTemplate,
+                                                             PriceMetricsPort priceMetricsPort,
+                                                             @Value("${pricing.persistence.adapter:jpa}") String persistenceAdapter) {
+        return new FindPriceTimelineService(keySourceOf(springDataPriceRepository, jdbcTemplate, persistenceAdapter),
+                priceMetricsPort);
+    }
+
+    /**
+     * Like the timeline, the watched timelines are loaded straight from the database. One timer
+     * thread follows every watched key; the events are written to the clients on a virtual thread
+     * per subscription, so a client whose socket write blocks only holds up its own stream.
+     */
+    @Bean
+    public WatchPriceTransitionsService watchPriceTransitionsService(
+            ObjectProvider<SpringDataPriceRepository> springDataPriceRepository,
+            JdbcTemplate jdbcTemplate,
+            PriceMetricsPort priceMetricsPort,
+            MeterRegistry meterRegistry,
+            Clock clock,
+            @Value("${pricing.persistence.adapter:jpa}") String persistenceAdapter,
+            @Value("${pricing.transitions.max-pending:64}") int maxPending) {
+        WatchPriceTransitionsService service = new WatchPriceTransitionsService(
+                keySourceOf(springDataPriceRepository, jdbcTemplate, persistenceAdapter),
+                priceMetricsPort,
+                Executors.newSingleThreadScheduledExecutor(daemonThreads("price-transition-timer-")),
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("price-transition-dispatch-", 1).factory()),
+                clock,
+                maxPending);
+        Gauge.builder("prices.transitions.subscriptions", service, WatchPriceTransitionsService::subscriptionCount)
+                .register(meterRegistry);
+        Gauge.builder("prices.transitions.watched.keys", service, WatchPriceTransitionsService::watchedKeyCount)
+                .register(meterRegistry);
+        return service;
+    }
+
+    @Bean
+    public PriceWritePort priceWritePort(ObjectProvider<SpringDataPriceRepository> springDataPriceRepository,
+                                         JdbcTemplate jdbcTemplate,
+                                         @Value("${pricing.persistence.adapter:jpa}") String persistenceAdapter) {
+        return "jdbc".equals(persistenceAdapter)
+                ? new JdbcPricePersistenceAdapter(jdbcTemplate)
+                : new PricePersistenceAdapter(springDataPriceRepository.getObject());
+    }
+
+    @Bean
+    public ManageTariffsUseCase manageTariffsUseCase(PriceWritePort priceWritePort,
+                                                     PriceRepositoryPort priceRepositoryPort,
+                                                     WatchPriceTransitionsService watchPriceTransitionsService) {
+        return new ManageTariffsService(priceWritePort, changePortOf(priceRepositoryPort, watchPriceTransitionsService));
+    }
+
+    @Bean
+    public PriceBulkWritePort priceBulkWritePort(JdbcTemplate jdbcTemplate,
+                                                 PlatformTransactionManager transactionManager,
+                                                 @Value("${pricing.import.batch-size:500}") int batchSize) {
+        return new JdbcPriceBulkWriteAdapter(jdbcTemplate, new TransactionTemplate(transactionManager), batchSize);
+    }
+
+    /**
+     * The parse pool is kept private to the use case rather than exposed as an Executor bean,
+     * which would replace Spring Boot's task executor used by async MVC responses. The use case
+     * shuts it down through close(), which Spring calls when the context closes.
+     */
+    @Bean
+    public ImportTariffsUseCase importTariffsUseCase(PriceBulkWritePort priceBulkWritePort,
+                                                     PriceRepositoryPort priceRepositoryPort,
+                                                     WatchPriceTransitionsService watchPriceTransitionsService,
+                                                     @Value("${pricing.import.chunk-size:5000}") int chunkSize,
+                                                     @Value("${pricing.import.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ImportTariffsService(priceBulkWritePort, changePortOf(priceRepositoryPort, watchPriceTransitionsService),
+                daemonPool("tariff-import-", threads), chunkSize, threads * 2);
+    }
+
+    /**
+     * Tariff writes are announced to the selected PriceRepositoryPort so it can evict or rebuild
+     * the affected keys; a repository without in-memory state needs no notification. The
+     * transition subscribers are told afterwards, once the repository already serves the change.
+     */
+    private static PriceBookChangePort changePortOf(PriceRepositoryPort priceRepositoryPort,
+                                                    PriceBookChangePort transitions) {
+        if (!(priceRepositoryPort instanceof PriceBookChangePort listener)) {
+            return transitions;
+        }
+        return new PriceBookChangePort() {
+            @Override
+            public void tariffsChanged(Long productId, Long brandId) {
+                listener.tariffsChanged(productId, brandId);
+                transitions.tariffsChanged(productId, brandId);
+            }
+
+            @Override
+            public void priceBookChanged() {
+                listener.priceBookChanged();
+                transitions.priceBookChanged();
+            }
+        };
+    }
+
+    /**
+     * Source of the tariffs of single keys, read from the database through the configured adapter.
+     */
+    private static PriceBookSourcePort keySourceOf(ObjectProvider<SpringDataPriceRepository> springDataPriceRepository,
+                                                   JdbcTemplate jdbcTemplate,
+                                                   String persistenceAdapter) {
+        return "jdbc".equals(persistenceAdapter)
+                ? new JdbcPricePersistenceAdapter(jdbcTemplate)
+                : new PricePersistenceAdapter(springDataPriceRepository.getObject());
+    }
+
+    private static ExecutorService daemonPool(String namePrefix, int threads) {
+        return Executors.newFixedThreadPool(threads, daemonThreads(namePrefix));
+    }
+
+    /**
+     * Fixed pool whose queue holds at most {@code queueSize} tasks; beyond that execute() throws
+     * RejectedExecutionException instead of letting the backlog grow.
+     */
+    private static ExecutorService boundedDaemonPool(String namePrefix, int threads, int queueSize) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), daemonThreads(namePrefix), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Reactive lookup path, active with {@code spring.main.web-application-type=reactive}.
+     * In {@code jpa} mode lookups go to R2DBC; the in-memory modes are served from the same
+     * PriceRepositoryPort as the blocking stack, since their lookups never block.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveWiring {
+
+        /**
+         * Tomcat is also on the classpath and would otherwise be preferred; Netty serves the
+         * reactive stack on one event loop per core.
+         */
+        @Bean
+        public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+            return new NettyReactiveWebServerFactory();
+        }
+
+        @Bean
+        public ReactiveAccessLogFilter reactiveAccessLogFilter(AccessLog accessLog) {
+            return new ReactiveAccessLogFilter(accessLog);
+        }
+
+        @Bean
+        public ReactivePriceRepositoryPort reactivePriceRepositoryPort(
+                PriceRepositoryPort priceRepositoryPort,
+                @Value("${pricing.repository.mode:jpa}") String repositoryMode,
+                @Value("${pricing.r2dbc.url}") String r2dbcUrl,
+                @Value("${spring.datasource.username:}") String username,
+                @Value("${spring.datasource.password:}") String password,
+                @Value("${pricing.r2dbc.pool-size:10}") int poolSize) {
+            if (!"jpa".equals(repositoryMode)) {
+                return new InMemoryReactivePriceRepositoryAdapter(priceRepositoryPort);
+            }
+            ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                    .option(ConnectionFactoryOptions.USER, username)
+                    .option(ConnectionFactoryOptions.PASSWORD, password)
+                    .build();
+            ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                    .maxSize(poolSize)
+                    .build());
+            return new R2dbcPriceRepositoryAdapter(pool);
+        }
+
+        @Bean
+        public ReactiveFindApplicablePriceUseCase reactiveFindApplicablePriceUseCase(
+                ReactivePriceRepositoryPort reactivePriceRepositoryPort,
+                PriceMetricsPort priceMetricsPort) {
+            return new ReactiveFindApplicablePriceService(reactivePriceRepositoryPort, priceMetricsPort);
+        }
     }
 }
@@ -0,0 +1,28 @@
+package com.inditex.pricing.config.logging;
+
+import ch.qos.logback.core.rolling.RollingFileAppender;
+
+/**
+ * Rolling file appender that only starts when it is given a file name.
+ * logback-spring.xml passes it Spring Boot's LOG_FILE, which is only set when logging.file.name or
+ * logging.file.path is configured, so the file output can be declared unconditionally without
+ * Janino. Without a file the appender stays stopped and ignores events silently.
+ */
+public class OptionalRollingFileAppender<E> extends RollingFileAppender<E> {
+
+    @Override
+    public void start() {
+        String file = getFile();
+        if (file == null || file.isBlank()) {
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public void doAppend(E event) {
+        if (isStarted()) {
+            super.doAppend(event);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.inditex.pricing.domain.exception;
+
+import java.time.LocalDateTime;
+
+public class InvalidDateRangeException extends RuntimeException {
+
+    public InvalidDateRangeException(LocalDateTime from, LocalDateTime to) {
+        super("Rango de fechas vacio: from=" + from + " debe ser anterior a to=" + to);
+    }
+}
@@ -3,7 +3,14 @@ package com.inditex.pricing.domain.exception;
 public class PriorityConflictException extends RuntimeException {
 
     public PriorityConflictException(Long productId, Long brandId, int count, int priority) {
-        super("Integridad de datos violada: " + count + " precios activos con prioridad " + priority
-                + " para productId=" + productId + ", brandId=" + brandId);
+        super(messageOf(productId, brandId, count, priority));
+    }
+
+    /**
+     * Describes the conflict without creating the exception, for callers that report it as data.
+     */
+    public static String messageOf(Long productId, Long brandId, int count, int priority) {
+        return "Integridad de datos violada: " + count + " precios activos con prioridad " + priority
+                + " para productId=" + productId + ", brandId=" + brandId;
     }
 }
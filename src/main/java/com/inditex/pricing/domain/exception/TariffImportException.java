@@ -0,0 +1,8 @@
+package com.inditex.pricing.domain.exception;
+
+public class TariffImportException extends RuntimeException {
+
+    public TariffImportException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.inditex.pricing.domain.exception;
+
+public class TariffNotFoundException extends RuntimeException {
+
+    public TariffNotFoundException(Long id) {
+        super("No existe la tarifa con id=" + id);
+    }
+}
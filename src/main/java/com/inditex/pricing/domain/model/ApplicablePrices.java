@@ -0,0 +1,105 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The tariffs that apply to a product and brand at a given instant, together with the
+ * half-open window [validFrom, validUntil) during which exactly the same tariffs apply.
+ * The window is delimited by the nearest tariff start or end around that instant;
+ * open-ended windows use LocalDateTime.MIN / LocalDateTime.MAX.
+ */
+public record ApplicablePrices(
+        List<Price> prices,
+        LocalDateTime validFrom,
+        LocalDateTime validUntil
+) {
+
+    public ApplicablePrices {
+        if (prices == null) throw new IllegalArgumentException("prices must not be null");
+        if (validFrom == null) throw new IllegalArgumentException("validFrom must not be null");
+        if (validUntil == null) throw new IllegalArgumentException("validUntil must not be null");
+        if (!validFrom.isBefore(validUntil)) throw new IllegalArgumentException("validFrom must be before validUntil");
+    }
+
+    /**
+     * Returns true when the given instant falls inside [validFrom, validUntil).
+     */
+    public boolean covers(LocalDateTime date) {
+        return !date.isBefore(validFrom) && date.isBefore(validUntil);
+    }
+
+    /**
+     * Wraps a result that is only known to hold at the exact given instant.
+     */
+    public static ApplicablePrices at(LocalDateTime date, List<Price> prices) {
+        return new ApplicablePrices(prices, date, endExclusive(date));
+    }
+
+    /**
+     * Resolves the applicable tariffs and their validity window from every tariff of one product and brand.
+     * The set of active tariffs only changes at a tariff start or right after a tariff end, so the window
+     * runs from the latest of those boundaries at or before the date to the earliest one after it.
+     *
+     * @param tariffs all tariffs of a single product and brand
+     * @param date    the instant to resolve
+     */
+    public static ApplicablePrices resolve(Collection<Price> tariffs, LocalDateTime date) {
+        List<Price> applicable = new ArrayList<>(2);
+        LocalDateTime from = LocalDateTime.MIN;
+        LocalDateTime until = LocalDateTime.MAX;
+        for (Price price : tariffs) {
+            LocalDateTime start = price.startDate();
+            LocalDateTime end = endExclusive(price.endDate());
+            if (start.isAfter(date)) {
+                until = earliest(until, start);
+            } else if (!end.isAfter(date)) {
+                from = latest(from, end);
+            } else {
+                applicable.add(price);
+                from = latest(from, start);
+                until = earliest(until, end);
+            }
+        }
+        return new ApplicablePrices(List.copyOf(applicable), from, until);
+    }
+
+    /**
+     * Builds the same result as {@link #resolve} from the applicable tariffs and the four boundaries
+     * nearest to the date, so a store can aggregate them instead of returning every tariff.
+     * A null boundary means no tariff of the product and brand falls on that side.
+     *
+     * @param prices        the applicable tariffs at the date
+     * @param latestStart   latest startDate at or before the date
+     * @param latestEnd     latest inclusive endDate before the date
+     * @param earliestStart earliest startDate after the date
+     * @param earliestEnd   earliest inclusive endDate at or after the date
+     */
+    public static ApplicablePrices bounded(List<Price> prices, LocalDateTime latestStart, LocalDateTime latestEnd,
+                                           LocalDateTime earliestStart, LocalDateTime earliestEnd) {
+        LocalDateTime from = LocalDateTime.MIN;
+        LocalDateTime until = LocalDateTime.MAX;
+        if (latestStart != null) from = latest(from, latestStart);
+        if (latestEnd != null) from = latest(from, endExclusive(latestEnd));
+        if (earliestStart != null) until = earliest(until, earliestStart);
+        if (earliestEnd != null) until = earliest(until, endExclusive(earliestEnd));
+        return new ApplicablePrices(List.copyOf(prices), from, until);
+    }
+
+    /**
+     * Converts an inclusive tariff endDate into the first instant at which the tariff no longer applies.
+     */
+    public static LocalDateTime endExclusive(LocalDateTime endDate) {
+        return endDate.equals(LocalDateTime.MAX) ? endDate : endDate.plusNanos(1);
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,31 @@
+package com.inditex.pricing.domain.model;
+
+/**
+ * Outcome of one lookup inside a batch: the winning price, no applicable price,
+ * or a priority conflict. Failures are reported per item instead of failing the whole batch.
+ */
+public record PriceLookupResult(
+        PriceQuery query,
+        Outcome outcome,
+        Price price,
+        String message
+) {
+
+    public enum Outcome {
+        FOUND,
+        NOT_FOUND,
+        PRIORITY_CONFLICT
+    }
+
+    public static PriceLookupResult found(PriceQuery query, Price price) {
+        return new PriceLookupResult(query, Outcome.FOUND, price, null);
+    }
+
+    public static PriceLookupResult notFound(PriceQuery query) {
+        return new PriceLookupResult(query, Outcome.NOT_FOUND, null, null);
+    }
+
+    public static PriceLookupResult priorityConflict(PriceQuery query, String message) {
+        return new PriceLookupResult(query, Outcome.PRIORITY_CONFLICT, null, message);
+    }
+}
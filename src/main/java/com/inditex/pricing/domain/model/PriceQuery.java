@@ -0,0 +1,19 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single price lookup: the product and brand whose applicable price is requested at a given date.
+ */
+public record PriceQuery(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+) {
+
+    public PriceQuery {
+        if (applicationDate == null) throw new IllegalArgumentException("applicationDate must not be null");
+        if (productId == null) throw new IllegalArgumentException("productId must not be null");
+        if (brandId == null) throw new IllegalArgumentException("brandId must not be null");
+    }
+}
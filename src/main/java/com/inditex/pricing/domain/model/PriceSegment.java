@@ -0,0 +1,29 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stretch [from, until) of a price timeline during which the answer does not change:
+ * the winning price, a priority conflict when several tariffs share the highest priority there,
+ * or no price at all in a gap between tariffs.
+ */
+public record PriceSegment(
+        LocalDateTime from,
+        LocalDateTime until,
+        PriceLookupResult.Outcome outcome,
+        Price price,
+        String message
+) {
+
+    public static PriceSegment found(LocalDateTime from, LocalDateTime until, Price price) {
+        return new PriceSegment(from, until, PriceLookupResult.Outcome.FOUND, price, null);
+    }
+
+    public static PriceSegment notFound(LocalDateTime from, LocalDateTime until) {
+        return new PriceSegment(from, until, PriceLookupResult.Outcome.NOT_FOUND, null, null);
+    }
+
+    public static PriceSegment priorityConflict(LocalDateTime from, LocalDateTime until, String message) {
+        return new PriceSegment(from, until, PriceLookupResult.Outcome.PRIORITY_CONFLICT, null, message);
+    }
+}
@@ -0,0 +1,129 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Effective-price timeline of a single product and brand.
+ * Overlapping tariffs are flattened once into a contiguous, sorted partition of time, where every
+ * slice holds only the tariffs with the highest priority in that interval: exactly one tariff in the
+ * normal case, several when the priority rule is violated, none in the gaps between tariffs.
+ * Resolving a date is a binary search that returns a precomputed slice, without any allocation.
+ */
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(
+            List.of(new ApplicablePrices(List.of(), LocalDateTime.MIN, LocalDateTime.MAX)));
+
+    private final ApplicablePrices[] slices;
+
+    private PriceTimeline(List<ApplicablePrices> slices) {
+        this.slices = slices.toArray(new ApplicablePrices[0]);
+    }
+
+    /**
+     * Returns the timeline of a product without tariffs: a single empty slice covering all dates.
+     */
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds the timeline of the given tariffs, which must all belong to the same product and brand.
+     */
+    public static PriceTimeline of(Collection<Price> tariffs) {
+        if (tariffs.isEmpty()) {
+            return empty();
+        }
+        List<Price> byStart = new ArrayList<>(tariffs);
+        byStart.sort(Comparator.comparing(Price::startDate));
+        List<LocalDateTime> boundaries = byStart.stream()
+                .flatMap(p -> Stream.of(p.startDate(), ApplicablePrices.endExclusive(p.endDate())))
+                .distinct()
+                .sorted()
+                .toList();
+
+        PriorityQueue<Price> byEnd = new PriorityQueue<>(Comparator.comparing(Price::endDate));
+        TreeMap<Integer, List<Price>> activeByPriority = new TreeMap<>();
+        List<ApplicablePrices> slices = new ArrayList<>();
+        append(slices, List.of(), LocalDateTime.MIN, boundaries.get(0));
+
+        int next = 0;
+        for (int i = 0; i < boundaries.size(); i++) {
+            LocalDateTime from = boundaries.get(i);
+            LocalDateTime until = i + 1 < boundaries.size() ? boundaries.get(i + 1) : LocalDateTime.MAX;
+            while (!byEnd.isEmpty() && !ApplicablePrices.endExclusive(byEnd.peek().endDate()).isAfter(from)) {
+                Price expired = byEnd.poll();
+                List<Price> samePriority = activeByPriority.get(expired.priority());
+                samePriority.remove(expired);
+                if (samePriority.isEmpty()) {
+                    activeByPriority.remove(expired.priority());
+                }
+            }
+            while (next < byStart.size() && !byStart.get(next).startDate().isAfter(from)) {
+                Price started = byStart.get(next++);
+                byEnd.add(started);
+                activeByPriority.computeIfAbsent(started.priority(), p -> new ArrayList<>(1)).add(started);
+            }
+            List<Price> top = activeByPriority.isEmpty() ? List.of() : List.copyOf(activeByPriority.lastEntry().getValue());
+            append(slices, top, from, until);
+        }
+        return new PriceTimeline(slices);
+    }
+
+    /**
+     * Returns the slice containing the given date; never null, possibly without prices.
+     */
+    public ApplicablePrices resolve(LocalDateTime date) {
+        int lo = 0;
+        int hi = slices.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (slices[mid].validFrom().isAfter(date)) {
+                hi = mid - 1;
+            } else {
+                lo = mid;
+            }
+        }
+        return slices[lo];
+    }
+
+    /**
+     * Returns the slices that hold at least one price, in chronological order.
+     */
+    public List<ApplicablePrices> segments() {
+        List<ApplicablePrices> segments = new ArrayList<>(slices.length);
+        for (ApplicablePrices slice : slices) {
+            if (!slice.prices().isEmpty()) {
+                segments.add(slice);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the segments where two or more tariffs share the highest priority.
+     */
+    public List<ApplicablePrices> conflicts() {
+        return segments().stream().filter(s -> s.prices().size() > 1).toList();
+    }
+
+    private static void append(List<ApplicablePrices> slices, List<Price> top, LocalDateTime from, LocalDateTime until) {
+        if (!from.isBefore(until)) {
+            return;
+        }
+        int last = slices.size() - 1;
+        if (last >= 0 && slices.get(last).prices().equals(top)) {
+            // Same winners as the previous slice: extend it instead of starting a new one
+            slices.set(last, new ApplicablePrices(top, slices.get(last).validFrom(), until));
+        } else {
+            slices.add(new ApplicablePrices(top, from, until));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.inditex.pricing.domain.model;
+
+/**
+ * Change of the applicable price of a product and brand: the segment that has just become current.
+ * Its bounds are {@link java.time.LocalDateTime#MIN} or {@link java.time.LocalDateTime#MAX} when the
+ * segment is open on that side.
+ */
+public record PriceTransition(
+        Long productId,
+        Long brandId,
+        PriceSegment segment
+) {
+}
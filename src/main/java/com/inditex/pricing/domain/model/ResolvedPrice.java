@@ -0,0 +1,28 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * The winning price of a product and brand at a given instant, if any, together with the
+ * half-open window [validFrom, validUntil) during which that same answer holds.
+ * Open-ended windows use LocalDateTime.MIN / LocalDateTime.MAX, as in {@link ApplicablePrices}.
+ */
+public record ResolvedPrice(
+        Price price,
+        LocalDateTime validFrom,
+        LocalDateTime validUntil
+) {
+
+    public ResolvedPrice {
+        if (validFrom == null) throw new IllegalArgumentException("validFrom must not be null");
+        if (validUntil == null) throw new IllegalArgumentException("validUntil must not be null");
+    }
+
+    /**
+     * Returns the winning price, or empty when no tariff applies.
+     */
+    public Optional<Price> winner() {
+        return Optional.ofNullable(price);
+    }
+}
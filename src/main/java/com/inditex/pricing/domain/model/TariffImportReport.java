@@ -0,0 +1,34 @@
+package com.inditex.pricing.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Summary of a bulk tariff import: how many data rows were read, stored and rejected, how long it
+ * took, and the first rejected rows with their reason.
+ */
+public record TariffImportReport(
+        long rowsRead,
+        long rowsImported,
+        long rowsRejected,
+        Duration elapsed,
+        List<RejectedRow> rejectedSample
+) {
+
+    public TariffImportReport {
+        rejectedSample = List.copyOf(rejectedSample);
+    }
+
+    /**
+     * Rows read per second over the whole import, parsing and inserting included.
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsRead * 1_000_000_000d / nanos;
+    }
+
+    /**
+     * A data row that failed validation, identified by its 1-based line number in the file.
+     */
+    public record RejectedRow(long line, String reason) {}
+}
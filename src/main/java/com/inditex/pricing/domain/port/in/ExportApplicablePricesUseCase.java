@@ -0,0 +1,25 @@
+package com.inditex.pricing.domain.port.in;
+
+import com.inditex.pricing.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Input port for exporting the applicable price of every product of a brand at a given date.
+ * Prices are pushed to the sink one by one as they are resolved, so the caller never holds
+ * the whole price book in memory.
+ */
+public interface ExportApplicablePricesUseCase {
+
+    /**
+     * Resolves the highest-priority price of every product of the brand at the given date.
+     * Products whose highest priority is shared by several tariffs are skipped.
+     *
+     * @param brandId         the brand identifier
+     * @param applicationDate the date/time for which prices are requested
+     * @param sink            receives each resolved price, in productId order
+     * @return the number of prices pushed to the sink
+     */
+    long exportApplicablePrices(Long brandId, LocalDateTime applicationDate, Consumer<Price> sink);
+}
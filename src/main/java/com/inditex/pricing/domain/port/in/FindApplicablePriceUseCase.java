@@ -1,8 +1,12 @@
 package com.inditex.pricing.domain.port.in;
 
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.ResolvedPrice;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,4 +24,25 @@ public interface FindApplicablePriceUseCase {
      * @return the applicable price, or empty if no price applies
      */
     Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the applicable price together with the window in which that same answer holds,
+     * so callers can tell for how long the result may be reused.
+     *
+     * @param applicationDate the date/time for which the price is requested
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return the applicable price, if any, and its validity window
+     */
+    ResolvedPrice resolveApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+
+    /**
+     * Finds the applicable price for several lookups at once.
+     * A lookup without price or with a priority conflict is reported in its own result
+     * and does not affect the others.
+     *
+     * @param queries the lookups to resolve
+     * @return one result per query, in the same order
+     */
+    List<PriceLookupResult> findApplicablePrices(List<PriceQuery> queries);
 }
@@ -0,0 +1,25 @@
+package com.inditex.pricing.domain.port.in;
+
+import com.inditex.pricing.domain.model.PriceSegment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Input port for the effective-price timeline of a product and brand over a date range,
+ * the answer of every single-date lookup inside the range at once.
+ */
+public interface FindPriceTimelineUseCase {
+
+    /**
+     * Splits [from, to) into the segments where the applicable price does not change, applying the
+     * same highest-priority rule as a single lookup. Stretches without any tariff are left out.
+     *
+     * @param productId the product identifier
+     * @param brandId   the brand identifier
+     * @param from      start of the range, inclusive
+     * @param to        end of the range, exclusive; must be after {@code from}
+     * @return the segments in chronological order, clipped to the range (may be empty)
+     */
+    List<PriceSegment> findPriceTimeline(Long productId, Long brandId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,21 @@
+package com.inditex.pricing.domain.port.in;
+
+import com.inditex.pricing.domain.model.TariffImportReport;
+
+import java.io.Reader;
+
+/**
+ * Input port for loading tariffs in bulk from a CSV file in the PRICES column layout.
+ * Invalid rows are rejected and reported individually; valid rows are stored.
+ */
+public interface ImportTariffsUseCase {
+
+    /**
+     * Imports every valid row of the file.
+     *
+     * @param csv the CSV content; the first line must be the header
+     * @return rows read, imported and rejected, with throughput
+     * @throws com.inditex.pricing.domain.exception.TariffImportException if the file is empty or the header is invalid
+     */
+    TariffImportReport importTariffs(Reader csv);
+}
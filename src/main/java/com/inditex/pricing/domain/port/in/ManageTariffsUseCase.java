@@ -0,0 +1,36 @@
+package com.inditex.pricing.domain.port.in;
+
+import com.inditex.pricing.domain.model.Price;
+
+/**
+ * Input port for maintaining tariffs.
+ * Every write is visible to price lookups as soon as the call returns.
+ */
+public interface ManageTariffsUseCase {
+
+    /**
+     * Creates a new tariff.
+     *
+     * @param price the tariff to create; its id is ignored
+     * @return the created tariff with its id
+     */
+    Price createTariff(Price price);
+
+    /**
+     * Replaces an existing tariff, possibly moving it to another product or brand.
+     *
+     * @param id    the tariff identifier
+     * @param price the new state of the tariff; its id is ignored
+     * @return the updated tariff
+     * @throws com.inditex.pricing.domain.exception.TariffNotFoundException if the tariff does not exist
+     */
+    Price updateTariff(Long id, Price price);
+
+    /**
+     * Deletes an existing tariff.
+     *
+     * @param id the tariff identifier
+     * @throws com.inditex.pricing.domain.exception.TariffNotFoundException if the tariff does not exist
+     */
+    void deleteTariff(Long id);
+}
@@ -0,0 +1,25 @@
+package com.inditex.pricing.domain.port.in;
+
+import com.inditex.pricing.domain.model.Price;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking variant of {@link FindApplicablePriceUseCase} for the reactive stack.
+ * Applies the same disambiguation rule: when multiple tariffs overlap, the one with the highest
+ * priority wins.
+ */
+public interface ReactiveFindApplicablePriceUseCase {
+
+    /**
+     * Finds the applicable price for the given parameters.
+     *
+     * @param applicationDate the date/time for which the price is requested
+     * @param productId       the product identifier
+     * @param brandId         the brand identifier
+     * @return the applicable price, or an empty Mono if no price applies; a priority conflict
+     *         is signalled as a {@link com.inditex.pricing.domain.exception.PriorityConflictException} error
+     */
+    Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId);
+}
@@ -0,0 +1,38 @@
+package com.inditex.pricing.domain.port.in;
+
+import com.inditex.pricing.domain.model.PriceTransition;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Input port for being told when the applicable price of a product changes, either because
+ * a tariff starts or ends or because the tariffs themselves are written.
+ */
+public interface WatchPriceTransitionsUseCase {
+
+    /**
+     * Registers a listener for some products of a brand, or for every product of the brand.
+     * The listener first receives the current segment of each watched product and then one
+     * transition per change, in order, never concurrently with itself.
+     *
+     * @param brandId    the brand identifier
+     * @param productIds the products to watch; empty to watch every product of the brand
+     * @param listener   receives the transitions; must not block for long
+     * @param onDropped  called once, after the last delivery, if the subscription is dropped because
+     *                   the listener fell too far behind; the owner may subscribe again
+     * @return the handle that stops the deliveries
+     */
+    Subscription subscribe(Long brandId, Set<Long> productIds, Consumer<PriceTransition> listener, Runnable onDropped);
+
+    /**
+     * Handle of a registered listener.
+     */
+    interface Subscription {
+
+        /**
+         * Stops the deliveries; transitions already being delivered may still arrive. Idempotent.
+         */
+        void cancel();
+    }
+}
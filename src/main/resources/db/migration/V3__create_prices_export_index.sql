@@ -0,0 +1,2 @@
+-- Serves the brand-wide export cursor: WHERE BRAND_ID = ? ORDER BY PRODUCT_ID, PRIORITY DESC
+CREATE INDEX IDX_PRICES_BRAND_EXPORT ON PRICES (BRAND_ID, PRODUCT_ID, PRIORITY DESC);
@@ -0,0 +1,8 @@
+-- Serves the top-priority range query without touching the table:
+-- WHERE PRODUCT_ID = ? AND BRAND_ID = ? AND START_DATE <= ? AND END_DATE >= ? ORDER BY PRIORITY DESC FETCH FIRST 2 ROWS ONLY
+-- The index rows are read in priority order and the scan stops at the second applicable tariff.
+CREATE INDEX IDX_PRICES_PRIORITY ON PRICES (PRODUCT_ID, BRAND_ID, PRIORITY DESC, START_DATE, END_DATE, PRICE_LIST, PRICE, CURR);
+
+-- Its leading (PRODUCT_ID, BRAND_ID) columns serve every lookup IDX_PRICES_LOOKUP used to,
+-- and START_DATE and END_DATE are in the index rows, so keeping both only doubles the write cost.
+DROP INDEX IDX_PRICES_LOOKUP;
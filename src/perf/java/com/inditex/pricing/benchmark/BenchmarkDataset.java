@@ -0,0 +1,51 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceFixtures;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+
+/**
+ * Synthetic price book shared by the benchmarks.
+ * Every product of brand 1 gets the four seed tariffs of product 35455, so each lookup has the
+ * same shape as the specification scenarios whatever the dataset size.
+ */
+final class BenchmarkDataset {
+
+    static final long BRAND_ID = PriceFixtures.BRAND_ID;
+
+    /** Tariffs 1 and 2 overlap: the highest-priority selection has two candidates. */
+    static final LocalDateTime OVERLAP_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+    private BenchmarkDataset() {
+    }
+
+    static List<Price> priceBook(int productCount, boolean tiedPriorities) {
+        List<Price> prices = new ArrayList<>(productCount * 4);
+        long id = 1;
+        for (long productId = 1; productId <= productCount; productId++) {
+            prices.add(price(id++, productId, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.50"));
+            prices.add(price(id++, productId, 2, tiedPriorities ? 0 : 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), "25.45"));
+            prices.add(price(id++, productId, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0), "30.50"));
+            prices.add(price(id++, productId, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "38.95"));
+        }
+        return prices;
+    }
+
+    /**
+     * 65536 product ids in a fixed pseudo-random order, so lookups do not walk the data sequentially.
+     */
+    static long[] lookupSequence(int productCount) {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] sequence = new long[1 << 16];
+        for (int i = 0; i < sequence.length; i++) {
+            sequence[i] = 1 + random.nextInt(productCount);
+        }
+        return sequence;
+    }
+}
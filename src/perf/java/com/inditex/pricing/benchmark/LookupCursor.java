@@ -0,0 +1,31 @@
+package com.inditex.pricing.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Per-thread position in a benchmark's shared lookup sequence. Each thread starts at a different
+ * offset, so concurrent threads do not hit the same keys in lockstep, and picking a key costs one
+ * array read.
+ */
+@State(Scope.Thread)
+public class LookupCursor {
+
+    private int next;
+
+    @Setup
+    public void setUp(ThreadParams threadParams) {
+        next = threadParams.getThreadIndex() * 7_919;
+    }
+
+    /**
+     * @param sequence product ids; its length must be a power of two
+     */
+    public Long next(long[] sequence) {
+        long productId = sequence[next & (sequence.length - 1)];
+        next++;
+        return productId;
+    }
+}
@@ -0,0 +1,92 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.PriceApiApplication;
+import com.inditex.pricing.adapter.out.persistence.JdbcPricePersistenceAdapter;
+import com.inditex.pricing.adapter.out.persistence.PricePersistenceAdapter;
+import com.inditex.pricing.adapter.out.persistence.SpringDataPriceRepository;
+import com.inditex.pricing.application.port.out.PriceBulkWritePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.inditex.pricing.benchmark.BenchmarkDataset.BRAND_ID;
+import static com.inditex.pricing.benchmark.BenchmarkDataset.OVERLAP_DATE;
+
+/**
+ * Cost of one persistence adapter lookup against the application's own H2 database, through
+ * Spring Data/Hibernate ({@code jpa}) or plain JDBC ({@code jdbc}).
+ * A Spring context without the web layer is started once per fork and loaded with the synthetic
+ * price book through the bulk write port; the seed rows are left in place.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PersistenceLookupBenchmark {
+
+    private static final int INSERT_CHUNK = 10_000;
+
+    @Param({"1000", "100000"})
+    public int productCount;
+
+    @Param({"jpa", "jdbc"})
+    public String persistence;
+
+    private ConfigurableApplicationContext context;
+    private PriceRepositoryPort adapter;
+    private long[] sequence;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(PriceApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+        List<Price> book = BenchmarkDataset.priceBook(productCount, false);
+        PriceBulkWritePort writer = context.getBean(PriceBulkWritePort.class);
+        for (int from = 0; from < book.size(); from += INSERT_CHUNK) {
+            writer.insertAll(book.subList(from, Math.min(from + INSERT_CHUNK, book.size())));
+        }
+        adapter = "jdbc".equals(persistence)
+                ? new JdbcPricePersistenceAdapter(context.getBean(JdbcTemplate.class))
+                : new PricePersistenceAdapter(context.getBean(SpringDataPriceRepository.class));
+        sequence = BenchmarkDataset.lookupSequence(productCount);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Price> rangeQuery(LookupCursor cursor) {
+        return adapter.findApplicablePrices(OVERLAP_DATE, cursor.next(sequence), BRAND_ID);
+    }
+
+    @Benchmark
+    public ApplicablePrices validityWindowQuery(LookupCursor cursor) {
+        return adapter.findApplicablePricesWithValidity(OVERLAP_DATE, cursor.next(sequence), BRAND_ID);
+    }
+}
@@ -0,0 +1,96 @@
+package com.inditex.pricing.benchmark;
+
+import com.inditex.pricing.adapter.out.cache.CachingPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.cache.MicrometerCacheMetricsAdapter;
+import com.inditex.pricing.adapter.out.memory.InMemoryPriceRepositoryAdapter;
+import com.inditex.pricing.adapter.out.metrics.MicrometerPriceMetricsAdapter;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.application.usecase.FindApplicablePriceService;
+import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.Price;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.inditex.pricing.benchmark.BenchmarkDataset.BRAND_ID;
+import static com.inditex.pricing.benchmark.BenchmarkDataset.OVERLAP_DATE;
+
+/**
+ * Cost of one FindApplicablePriceService lookup through the production decorators, without the
+ * database: the delegate is an InMemoryPriceRepositoryAdapter, so the numbers isolate the service,
+ * the Caffeine cache and the metrics recorders.
+ * <ul>
+ *   <li>{@code cacheHit}: every key was loaded during setup and the cache holds all of them.</li>
+ *   <li>{@code cacheMiss}: the cache holds a single window, so virtually every lookup misses,
+ *       loads from the delegate and evicts.</li>
+ *   <li>{@code priorityConflict}: the two overlapping tariffs share a priority, so every lookup
+ *       records the metric and throws PriorityConflictException.</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceLookupBenchmark {
+
+    @Param({"1000", "100000"})
+    public int productCount;
+
+    private long[] sequence;
+    private FindApplicablePriceService hitService;
+    private FindApplicablePriceService missService;
+    private FindApplicablePriceService conflictService;
+
+    @Setup
+    public void setUp() {
+        sequence = BenchmarkDataset.lookupSequence(productCount);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PriceMetricsPort metrics = new MicrometerPriceMetricsAdapter(registry);
+        var cacheMetrics = new MicrometerCacheMetricsAdapter(registry);
+        var priceBook = new InMemoryPriceRepositoryAdapter(() -> BenchmarkDataset.priceBook(productCount, false));
+
+        hitService = new FindApplicablePriceService(
+                new CachingPriceRepositoryAdapter(priceBook, cacheMetrics, productCount * 2, Duration.ofHours(1)), metrics);
+        for (long productId = 1; productId <= productCount; productId++) {
+            hitService.findApplicablePrice(OVERLAP_DATE, productId, BRAND_ID);
+        }
+        missService = new FindApplicablePriceService(
+                new CachingPriceRepositoryAdapter(priceBook, cacheMetrics, 1, Duration.ofHours(1)), metrics);
+        conflictService = new FindApplicablePriceService(
+                new InMemoryPriceRepositoryAdapter(() -> BenchmarkDataset.priceBook(productCount, true)), metrics);
+    }
+
+    @Benchmark
+    public Optional<Price> cacheHit(LookupCursor cursor) {
+        return hitService.findApplicablePrice(OVERLAP_DATE, cursor.next(sequence), BRAND_ID);
+    }
+
+    @Benchmark
+    public Optional<Price> cacheMiss(LookupCursor cursor) {
+        return missService.findApplicablePrice(OVERLAP_DATE, cursor.next(sequence), BRAND_ID);
+    }
+
+    @Benchmark
+    public Object priorityConflict(LookupCursor cursor) {
+        try {
+            return conflictService.findApplicablePrice(OVERLAP_DATE, cursor.next(sequence), BRAND_ID);
+        } catch (PriorityConflictException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.inditex.pricing.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.adapter.in.web.HttpCachePolicy;
+import com.inditex.pricing.adapter.in.web.PriceResponse;
+import com.inditex.pricing.adapter.in.web.PriceResponseBodies;
+import com.inditex.pricing.adapter.in.web.ResponseFormat;
+import com.inditex.pricing.domain.model.Price;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning the winning Price into the body of GET /api/prices, mapped and serialized
+ * on every call or taken already encoded from PriceResponseBodies as the controller does, and
+ * cost of parsing it back on the client side, for each {@link ResponseFormat}.
+ * The ObjectMapper is built with the same defaults Spring Boot applies (JavaTimeModule,
+ * ISO dates instead of timestamps). The payload size of each format is reported next to the
+ * mapAndSerialize score as the {@code payloadBytes} counter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceResponseSerializationBenchmark {
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public ResponseFormat format;
+
+    private ObjectMapper objectMapper;
+    private PriceResponseBodies responseBodies;
+    private Price price;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+        objectMapper = format.mapperFrom(jsonMapper);
+        responseBodies = new PriceResponseBodies(jsonMapper, new HttpCachePolicy(Duration.ofMinutes(5)), 10_000);
+        price = BenchmarkDataset.priceBook(1, false).get(1);
+        encoded = objectMapper.writeValueAsBytes(PriceResponse.fromDomain(price));
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize(PayloadSize payloadSize) throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(PriceResponse.fromDomain(price));
+        payloadSize.payloadBytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] preEncoded() {
+        return responseBodies.encode(price, format).body();
+    }
+
+    @Benchmark
+    public PriceResponse parse() throws IOException {
+        return objectMapper.readValue(encoded, PriceResponse.class);
+    }
+
+    /**
+     * Secondary result holding the encoded size of the body. JMH zeroes the fields of an
+     * {@link AuxCounters} state at the start of each iteration and reports them as is, so the
+     * benchmark overwrites the value rather than adding to it.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+}
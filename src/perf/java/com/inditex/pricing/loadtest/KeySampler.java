@@ -0,0 +1,59 @@
+package com.inditex.pricing.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Picks product ids in [1, products] either uniformly or following a Zipfian distribution,
+ * where product 1 is the most popular. The Zipfian sampler precomputes the cumulative
+ * distribution once and samples by binary search.
+ */
+abstract class KeySampler {
+
+    abstract long next(SplittableRandom random);
+
+    static KeySampler of(String distribution, int products, double exponent) {
+        return switch (distribution) {
+            case "uniform" -> new Uniform(products);
+            case "zipfian" -> new Zipfian(products, exponent);
+            default -> throw new IllegalArgumentException("Unknown loadtest.distribution: " + distribution);
+        };
+    }
+
+    private static final class Uniform extends KeySampler {
+
+        private final int products;
+
+        private Uniform(int products) {
+            this.products = products;
+        }
+
+        @Override
+        long next(SplittableRandom random) {
+            return 1 + random.nextInt(products);
+        }
+    }
+
+    private static final class Zipfian extends KeySampler {
+
+        private final double[] cumulative;
+
+        private Zipfian(int products, double exponent) {
+            cumulative = new double[products];
+            double sum = 0;
+            for (int rank = 1; rank <= products; rank++) {
+                sum += 1 / Math.pow(rank, exponent);
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < products; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        long next(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            return 1 + (index >= 0 ? index : Math.min(-index - 1, cumulative.length - 1));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.inditex.pricing.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param targetUrl     base URL of an already running instance; empty to start the application in-process
+ * @param appArgs       extra Spring Boot arguments for the in-process application
+ * @param products      number of generated products (four tariffs each)
+ * @param concurrency   number of client threads
+ * @param rate          target requests per second over all threads; 0 runs a closed loop as fast as possible
+ * @param warmup        time spent sending requests before recording starts
+ * @param duration      recorded time
+ * @param distribution  {@code uniform} or {@code zipfian} product selection
+ * @param zipfExponent  skew of the Zipfian distribution
+ */
+record LoadTestConfig(
+        String targetUrl,
+        List<String> appArgs,
+        int products,
+        int concurrency,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        String distribution,
+        double zipfExponent
+) {
+
+    static LoadTestConfig fromSystemProperties() {
+        String appArgs = System.getProperty("loadtest.app-args", "").strip();
+        return new LoadTestConfig(
+                System.getProperty("loadtest.url", "").strip(),
+                appArgs.isEmpty() ? List.of() : Arrays.asList(appArgs.split("\\s+")),
+                Integer.getInteger("loadtest.products", 100_000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Integer.getInteger("loadtest.rate", 0),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                System.getProperty("loadtest.distribution", "uniform"),
+                Double.parseDouble(System.getProperty("loadtest.zipf-exponent", "0.99")));
+    }
+
+    boolean openLoop() {
+        return rate > 0;
+    }
+}
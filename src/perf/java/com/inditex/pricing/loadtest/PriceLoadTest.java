@@ -0,0 +1,250 @@
+package com.inditex.pricing.loadtest;
+
+import com.inditex.pricing.PriceApiApplication;
+import com.inditex.pricing.domain.model.TariffImportReport;
+import com.inditex.pricing.domain.port.in.ImportTariffsUseCase;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for GET /api/prices.
+ * Starts the application in-process on a random port (unless {@code loadtest.url} points to a
+ * running instance), loads a generated price book through the bulk import use case, and drives
+ * the endpoint from {@code loadtest.concurrency} client threads. The generated tariffs use their own
+ * brand so they never mix with the Flyway seed, and any 5xx response fails the run.
+ *
+ * <p>With {@code loadtest.rate} set, each thread follows a fixed schedule and latency is measured
+ * from the intended send time, so a stalled server shows up in the percentiles instead of silently
+ * lowering the request rate (coordinated omission). Run with:
+ * <pre>
+ *   ./mvnw -Pperf test-compile exec:exec@loadtest -Dloadtest.concurrency=128 -Dloadtest.rate=20000
+ * </pre>
+ */
+public final class PriceLoadTest {
+
+    // Not used by the Flyway seed, so generated products never collide with its tariffs
+    private static final long BRAND_ID = 2L;
+    private static final String[] APPLICATION_DATES = {
+            "2020-06-14T10:00:00", "2020-06-14T16:00:00", "2020-06-14T21:00:00",
+            "2020-06-15T10:00:00", "2020-06-16T21:00:00"
+    };
+    private static final long MAX_RECORDED_LATENCY = TimeUnit.MINUTES.toNanos(1);
+
+    private PriceLoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        PrintStream out = System.out;
+        ConfigurableApplicationContext context = null;
+        String baseUrl = config.targetUrl();
+        if (baseUrl.isEmpty()) {
+            context = startApplication(config);
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            loadPriceBook(context, config.products(), out);
+        }
+        try {
+            Result result = run(config, baseUrl);
+            report(config, result, out);
+            if (result.serverErrors > 0) {
+                throw new IllegalStateException("La prueba de carga recibio " + result.serverErrors + " respuestas 5xx");
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1"));
+        args.addAll(config.appArgs());
+        return new SpringApplicationBuilder(PriceApiApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Writes the generated price book to a temporary CSV and loads it through the same import
+     * pipeline used in production, which also refreshes any in-memory repository mode.
+     */
+    private static void loadPriceBook(ConfigurableApplicationContext context, int products, PrintStream out) throws IOException {
+        Path csv = Files.createTempFile("loadtest-prices", ".csv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                writer.write("BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR\n");
+                for (long productId = 1; productId <= products; productId++) {
+                    writer.write(BRAND_ID + ",2020-06-14 00:00:00,2020-12-31 23:59:59,1," + productId + ",0,35.50,EUR\n");
+                    writer.write(BRAND_ID + ",2020-06-14 15:00:00,2020-06-14 18:30:00,2," + productId + ",1,25.45,EUR\n");
+                    writer.write(BRAND_ID + ",2020-06-15 00:00:00,2020-06-15 11:00:00,3," + productId + ",1,30.50,EUR\n");
+                    writer.write(BRAND_ID + ",2020-06-15 16:00:00,2020-12-31 23:59:59,4," + productId + ",1,38.95,EUR\n");
+                }
+            }
+            try (Reader reader = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+                TariffImportReport report = context.getBean(ImportTariffsUseCase.class).importTariffs(reader);
+                out.printf("Dataset: %,d tarifas importadas en %d ms (%,.0f filas/s)%n",
+                        report.rowsImported(), report.elapsed().toMillis(), report.rowsPerSecond());
+            }
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+    }
+
+    private static Result run(LoadTestConfig config, String baseUrl) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        KeySampler sampler = KeySampler.of(config.distribution(), config.products(), config.zipfExponent());
+        long intervalNanos = config.openLoop() ? TimeUnit.SECONDS.toNanos(config.concurrency()) / config.rate() : 0;
+        long startedAt = System.nanoTime();
+        long recordFrom = startedAt + config.warmup().toNanos();
+        long stopAt = recordFrom + config.duration().toNanos();
+
+        ExecutorService workers = Executors.newFixedThreadPool(config.concurrency());
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < config.concurrency(); i++) {
+            Worker worker = new Worker(client, baseUrl, sampler, new SplittableRandom(i),
+                    startedAt + i * intervalNanos / config.concurrency(), intervalNanos, recordFrom, stopAt);
+            futures.add(workers.submit(worker::call));
+        }
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.add(future.get());
+        }
+        workers.shutdown();
+        return total;
+    }
+
+    private static void report(LoadTestConfig config, Result result, PrintStream out) throws IOException {
+        double seconds = config.duration().toNanos() / 1e9;
+        Histogram histogram = result.latency;
+        out.printf("%nModo: %s, concurrencia=%d, distribucion=%s, productos=%,d%n",
+                config.openLoop() ? "abierto a " + config.rate() + " req/s" : "cerrado",
+                config.concurrency(), config.distribution(), config.products());
+        out.printf("Peticiones: %,d en %.1f s -> %,.0f req/s (200=%,d, 404=%,d, 5xx=%,d, otros=%,d, errores=%,d)%n",
+                histogram.getTotalCount(), seconds, histogram.getTotalCount() / seconds,
+                result.ok, result.notFound, result.serverErrors, result.otherStatus, result.failures);
+        out.printf("Latencia (us): p50=%.1f p90=%.1f p99=%.1f p99.9=%.1f p99.99=%.1f max=%.1f%n",
+                micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(90)),
+                micros(histogram.getValueAtPercentile(99)), micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getValueAtPercentile(99.99)), micros(histogram.getMaxValue()));
+
+        Path hgrm = Path.of("target", "loadtest-latency.hgrm");
+        Files.createDirectories(hgrm.getParent());
+        try (PrintStream file = new PrintStream(Files.newOutputStream(hgrm), true, StandardCharsets.UTF_8)) {
+            histogram.outputPercentileDistribution(file, 1000.0);
+        }
+        out.println("Distribucion completa (us): " + hgrm.toAbsolutePath());
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1000.0;
+    }
+
+    /**
+     * One client thread. In open-loop mode it sends on a fixed schedule and measures from the
+     * intended send time; in closed-loop mode it sends back to back.
+     */
+    private record Worker(HttpClient client, String baseUrl, KeySampler sampler, SplittableRandom random,
+                          long firstSend, long intervalNanos, long recordFrom, long stopAt) {
+
+        Result call() {
+            Result result = new Result();
+            long intended = firstSend;
+            while (true) {
+                long now = System.nanoTime();
+                if (intervalNanos > 0) {
+                    if (intended - now > 0) {
+                        LockSupport.parkNanos(intended - now);
+                    }
+                } else {
+                    intended = now;
+                }
+                if (intended - stopAt >= 0) {
+                    return result;
+                }
+                HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/prices?applicationDate="
+                                + APPLICATION_DATES[random.nextInt(APPLICATION_DATES.length)]
+                                + "&productId=" + sampler.next(random) + "&brandId=" + BRAND_ID))
+                        .GET()
+                        .build();
+                int status;
+                try {
+                    status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (IOException ex) {
+                    status = -1;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return result;
+                }
+                long latency = System.nanoTime() - intended;
+                if (intended - recordFrom >= 0) {
+                    result.record(status, latency);
+                }
+                intended += intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * Latency histogram and response counts; one per worker, merged at the end.
+     */
+    private static final class Result {
+        private final Histogram latency = new Histogram(MAX_RECORDED_LATENCY, 3);
+        private long ok;
+        private long notFound;
+        private long serverErrors;
+        private long otherStatus;
+        private long failures;
+
+        void record(int status, long latencyNanos) {
+            latency.recordValue(Math.min(latencyNanos, MAX_RECORDED_LATENCY));
+            switch (status) {
+                case 200 -> ok++;
+                case 404 -> notFound++;
+                case -1 -> failures++;
+                default -> {
+                    if (status >= 500) {
+                        serverErrors++;
+                    } else {
+                        otherStatus++;
+                    }
+                }
+            }
+        }
+
+        void add(Result other) {
+            latency.add(other.latency);
+            ok += other.ok;
+            notFound += other.notFound;
+            serverErrors += other.serverErrors;
+            otherStatus += other.otherStatus;
+            failures += other.failures;
+        }
+    }
+}
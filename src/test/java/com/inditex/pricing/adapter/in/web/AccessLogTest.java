@@ -0,0 +1,46 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the AccessLog sampling rules.
+ */
+class AccessLogTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(300);
+
+    @Test
+    @DisplayName("Errors and slow requests are logged even with sampling disabled")
+    void errorsAndSlowRequestsBypassSampling() {
+        AccessLog accessLog = new AccessLog(0.0, Duration.ofMillis(250), 500);
+
+        assertThat(accessLog.shouldLog(200, FAST)).isFalse();
+        assertThat(accessLog.shouldLog(404, FAST)).isFalse();
+        assertThat(accessLog.shouldLog(500, FAST)).isTrue();
+        assertThat(accessLog.shouldLog(200, SLOW)).isTrue();
+    }
+
+    @Test
+    @DisplayName("A sample rate of 1 logs every request")
+    void fullSampleRateLogsEverything() {
+        AccessLog accessLog = new AccessLog(1.0, Duration.ofMillis(250), 500);
+
+        assertThat(accessLog.shouldLog(200, FAST)).isTrue();
+        assertThat(accessLog.shouldLog(404, FAST)).isTrue();
+    }
+
+    @Test
+    @DisplayName("A sample rate outside [0, 1] is rejected")
+    void invalidSampleRateIsRejected() {
+        assertThatThrownBy(() -> new AccessLog(1.5, Duration.ofMillis(250), 500))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.inditex.pricing.adapter.out.persistence.SpringDataPriceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * System test for the {@code lean} profile: the application starts without Hibernate or the
+ * Spring Data repositories and serves prices through the JDBC persistence adapter.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("lean")
+class LeanProfileSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("Should start without an EntityManagerFactory or Spring Data repositories")
+    void shouldStartWithoutJpa() {
+        assertThat(context.getBeanNamesForType(EntityManagerFactory.class)).isEmpty();
+        assertThat(context.getBeanNamesForType(SpringDataPriceRepository.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve the overlapping tariffs at 16:00 on June 14 -> price_list=2, price=25.45")
+    void shouldResolvePriceThroughJdbc() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2))
+                .andExpect(jsonPath("$.price").value(25.45));
+    }
+}
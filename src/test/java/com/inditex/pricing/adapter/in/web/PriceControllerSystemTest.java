@@ -1,5 +1,7 @@
 package com.inditex.pricing.adapter.in.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,7 +10,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -26,6 +32,9 @@ class PriceControllerSystemTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
     private static final String API_URL = "/api/prices";
 
     // ==========================================
@@ -259,4 +268,176 @@ class PriceControllerSystemTest {
                 .andExpect(jsonPath("$.priceList").value(1))
                 .andExpect(jsonPath("$.price").value(35.50));
     }
+
+    // ==========================================
+    // Batch endpoint tests
+    // ==========================================
+
+    @Test
+    @DisplayName("Should resolve every item of a batch in request order, including not-found items")
+    void shouldResolveBatchInRequestOrder() throws Exception {
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                                  {"applicationDate": "2020-06-14T10:00:00", "productId": 99999, "brandId": 1},
+                                  {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+                                ]}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.length()").value(4))
+                .andExpect(jsonPath("$.results[0].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.results[1].price.price").value(25.45))
+                .andExpect(jsonPath("$.results[2].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[2].productId").value(99999))
+                .andExpect(jsonPath("$.results[2].price").doesNotExist())
+                .andExpect(jsonPath("$.results[3].status").value("FOUND"))
+                .andExpect(jsonPath("$.results[3].price.priceList").value(4));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the batch is empty")
+    void shouldReturn400WhenBatchIsEmpty() throws Exception {
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a batch item has an invalid productId")
+    void shouldReturn400WhenBatchItemIsInvalid() throws Exception {
+        mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"applicationDate": "2020-06-14T10:00:00", "productId": 0, "brandId": 1}]}
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(org.hamcrest.Matchers.containsString("productId")));
+    }
+
+    // ==========================================
+    // HTTP caching tests
+    // Tariff 2 applies until 2020-06-14T18:30:00; the default max-age cap is 5 minutes
+    // ==========================================
+
+    @Test
+    @DisplayName("Should cap max-age at the configured limit and share the ETag across dates with the same tariff")
+    void shouldSendCacheHeadersForFoundPrice() throws Exception {
+        String etag = mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T18:29:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=60, public"))
+                .andExpect(header().string("ETag", etag));
+    }
+
+    @Test
+    @DisplayName("Should return 304 without body when If-None-Match carries the current ETag")
+    void shouldReturn304WhenETagMatches() throws Exception {
+        String etag = mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T10:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    @Test
+    @DisplayName("Should let a 404 be cached until the first tariff of the product starts")
+    void shouldSendCacheControlForNotFound() throws Exception {
+        mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-13T23:59:30")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().string("Cache-Control", "max-age=30, public"))
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    // ==========================================
+    // Binary response format tests
+    // ==========================================
+
+    @Test
+    @DisplayName("Should encode the price as CBOR when Accept asks for it, with its own ETag")
+    void shouldEncodePriceAsCbor() throws Exception {
+        String jsonEtag = mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
+                .andReturn().getResponse().getHeader("ETag");
+
+        var response = mockMvc.perform(get(API_URL)
+                        .param("applicationDate", "2020-06-14T16:00:00")
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_CBOR_VALUE))
+                .andExpect(header().string("Vary", org.hamcrest.Matchers.containsString("Accept")))
+                .andReturn().getResponse();
+
+        JsonNode body = ResponseFormat.CBOR.mapperFrom(objectMapper).readTree(response.getContentAsByteArray());
+        assertThat(body.get("priceList").asInt()).isEqualTo(2);
+        assertThat(body.get("price").decimalValue()).isEqualByComparingTo("25.45");
+        assertThat(body.get("startDate").asText()).isEqualTo("2020-06-14T15:00:00");
+        assertThat(response.getHeader("ETag")).isNotEqualTo(jsonEtag);
+    }
+
+    @Test
+    @DisplayName("Should encode the batch response as Smile when Accept asks for it")
+    void shouldEncodeBatchAsSmile() throws Exception {
+        byte[] content = mockMvc.perform(post(API_URL + "/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1}]}
+                                """)
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode body = ResponseFormat.SMILE.mapperFrom(objectMapper).readTree(content);
+        assertThat(body.at("/results/0/status").asText()).isEqualTo("FOUND");
+        assertThat(body.at("/results/0/price/priceList").asInt()).isEqualTo(2);
+        assertThat(body.at("/results/0/price/startDate").asText()).isEqualTo("2020-06-14T15:00:00");
+    }
 }
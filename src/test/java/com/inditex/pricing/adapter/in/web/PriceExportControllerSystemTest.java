@@ -0,0 +1,72 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * System tests for the NDJSON price book export against the Flyway seed data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PriceExportControllerSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String API_URL = "/api/prices/export";
+
+    @Test
+    @DisplayName("Should stream one NDJSON line with the winning tariff per product of the brand")
+    void shouldStreamWinningTariffPerProduct() throws Exception {
+        MvcResult started = mockMvc.perform(get(API_URL)
+                        .param("brandId", "1")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(1);
+        assertThat(body.lines().findFirst().orElseThrow())
+                .contains("\"productId\":35455")
+                .contains("\"priceList\":2")
+                .contains("\"price\":25.45");
+        assertThat(body).endsWith("\n");
+    }
+
+    @Test
+    @DisplayName("Should stream an empty body for a brand without applicable tariffs")
+    void shouldStreamEmptyBodyForUnknownBrand() throws Exception {
+        MvcResult started = mockMvc.perform(get(API_URL)
+                        .param("brandId", "99")
+                        .param("applicationDate", "2020-06-14T16:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when applicationDate is missing")
+    void shouldReturn400WhenApplicationDateIsMissing() throws Exception {
+        mockMvc.perform(get(API_URL).param("brandId", "1"))
+                .andExpect(status().isBadRequest());
+    }
+}
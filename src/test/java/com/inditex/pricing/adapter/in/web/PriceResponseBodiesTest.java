@@ -0,0 +1,51 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the pre-encoded response bodies of GET /api/prices.
+ */
+class PriceResponseBodiesTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PriceResponseBodies bodies =
+            new PriceResponseBodies(objectMapper, new HttpCachePolicy(Duration.ofMinutes(5)), 100);
+
+    private final Price promotion = new Price(2L, 1L,
+            LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+            2, 35455L, 1, new BigDecimal("25.45"), "EUR");
+
+    @Test
+    @DisplayName("Encodes a tariff once, with the same bytes Jackson writes for its PriceResponse")
+    void encodesOncePerTariff() throws Exception {
+        PriceResponseBodies.EncodedPrice first = bodies.encode(promotion);
+        PriceResponseBodies.EncodedPrice second = bodies.encode(promotion);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.body()).isEqualTo(objectMapper.writeValueAsBytes(PriceResponse.fromDomain(promotion)));
+    }
+
+    @Test
+    @DisplayName("A tariff changed by a write gets its own body and ETag")
+    void changedTariffIsEncodedAgain() {
+        Price repriced = new Price(2L, 1L, promotion.startDate(), promotion.endDate(),
+                2, 35455L, 1, new BigDecimal("19.99"), "EUR");
+
+        PriceResponseBodies.EncodedPrice before = bodies.encode(promotion);
+        PriceResponseBodies.EncodedPrice after = bodies.encode(repriced);
+
+        assertThat(new String(after.body())).contains("19.99").doesNotContain("25.45");
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+    }
+}
@@ -0,0 +1,70 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * System tests for the price timeline endpoint against the Flyway seed data.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PriceTimelineControllerSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private static final String API_URL = "/api/prices/timeline";
+
+    @Test
+    @DisplayName("Should return the seed segments of product 35455 between June 14th and June 16th")
+    void shouldReturnSeedTimeline() throws Exception {
+        mockMvc.perform(get(API_URL)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments", hasSize(6)))
+                .andExpect(jsonPath("$.segments[0].status").value("FOUND"))
+                .andExpect(jsonPath("$.segments[0].price.priceList").value(1))
+                .andExpect(jsonPath("$.segments[1].from").value("2020-06-14T15:00:00"))
+                .andExpect(jsonPath("$.segments[1].price.priceList").value(2))
+                .andExpect(jsonPath("$.segments[1].message").doesNotExist())
+                .andExpect(jsonPath("$.segments[3].price.priceList").value(3))
+                .andExpect(jsonPath("$.segments[5].price.priceList").value(4))
+                .andExpect(jsonPath("$.segments[5].to").value("2020-06-16T00:00:00"));
+    }
+
+    @Test
+    @DisplayName("Should return an empty timeline for a product without tariffs")
+    void shouldReturnEmptyTimelineForUnknownProduct() throws Exception {
+        mockMvc.perform(get(API_URL)
+                        .param("productId", "99999")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-14T00:00:00")
+                        .param("to", "2020-06-16T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.segments", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when from is not before to")
+    void shouldReturn400WhenRangeIsEmpty() throws Exception {
+        mockMvc.perform(get(API_URL)
+                        .param("productId", "35455")
+                        .param("brandId", "1")
+                        .param("from", "2020-06-16T00:00:00")
+                        .param("to", "2020-06-14T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+}
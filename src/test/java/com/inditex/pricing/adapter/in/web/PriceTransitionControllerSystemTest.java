@@ -0,0 +1,87 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * System tests for the price transition stream.
+ * The stream is read while it is still open; the test product lies outside the seed data and its
+ * tariffs are removed afterwards, as in TariffControllerSystemTest.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PriceTransitionControllerSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String API_URL = "/api/prices/transitions";
+
+    @AfterEach
+    void removeTestTariffs() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID BETWEEN 92000 AND 92999");
+    }
+
+    @Test
+    @DisplayName("Should stream the current state on subscribe and push a tariff written afterwards")
+    void shouldStreamCurrentStateAndPushWrites() throws Exception {
+        MvcResult stream = mockMvc.perform(get(API_URL)
+                        .param("brandId", "1")
+                        .param("productId", "92001"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        awaitContent(stream, "\"status\":\"NOT_FOUND\"");
+        assertThat(stream.getResponse().getContentAsString()).startsWith("event:price");
+        assertThat(stream.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mockMvc.perform(post("/api/tariffs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"brandId": 1, "startDate": "2020-01-01T00:00:00", "endDate": "2099-12-31T23:59:59",
+                                 "priceList": 9, "productId": 92001, "priority": 0, "price": 7.50, "currency": "EUR"}
+                                """))
+                .andExpect(status().isCreated());
+
+        awaitContent(stream, "\"status\":\"FOUND\"");
+        assertThat(stream.getResponse().getContentAsString())
+                .contains("\"productId\":92001")
+                .contains("\"priceList\":9");
+    }
+
+    @Test
+    @DisplayName("Should return 400 when brandId is missing")
+    void shouldReturn400WhenBrandIdIsMissing() throws Exception {
+        mockMvc.perform(get(API_URL).param("productId", "35455"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    private static void awaitContent(MvcResult stream, String expected) throws Exception {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (!stream.getResponse().getContentAsString().contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(stream.getResponse().getContentAsString()).contains(expected);
+    }
+}
@@ -0,0 +1,55 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+/**
+ * System tests for the reactive wiring: WebFlux controller -> reactive use case -> R2DBC,
+ * against the same H2 database initialized by Flyway with the seed data.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class ReactivePriceControllerSystemTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("Request at 16:00 on June 14 -> price_list=2, price=25.45")
+    void requestAt16OnJune14_shouldReturnPriceList2() {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.productId").isEqualTo(35455)
+                .jsonPath("$.priceList").isEqualTo(2)
+                .jsonPath("$.price").isEqualTo(25.45);
+    }
+
+    @Test
+    @DisplayName("Unknown product -> 404")
+    void unknownProduct_shouldReturn404() {
+        webTestClient.get()
+                .uri("/api/prices?applicationDate=2020-06-14T16:00:00&productId=99999&brandId=1")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Missing applicationDate -> 400 with error body")
+    void missingApplicationDate_shouldReturn400() {
+        webTestClient.get()
+                .uri("/api/prices?productId=35455&brandId=1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Missing required parameter: applicationDate");
+    }
+}
@@ -0,0 +1,32 @@
+package com.inditex.pricing.adapter.in.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the Accept negotiation of the price endpoint formats.
+ */
+class ResponseFormatTest {
+
+    @Test
+    @DisplayName("JSON is the default for a missing, wildcard, unsupported or malformed Accept")
+    void jsonIsTheDefault() {
+        assertThat(ResponseFormat.negotiate(null)).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("*/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("application/*")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("text/html")).isEqualTo(ResponseFormat.JSON);
+        assertThat(ResponseFormat.negotiate("not a media type")).isEqualTo(ResponseFormat.JSON);
+    }
+
+    @Test
+    @DisplayName("The binary format with the highest quality wins, the earliest on a tie")
+    void highestQualityWins() {
+        assertThat(ResponseFormat.negotiate("application/cbor")).isEqualTo(ResponseFormat.CBOR);
+        assertThat(ResponseFormat.negotiate("application/json;q=0.5, application/x-jackson-smile"))
+                .isEqualTo(ResponseFormat.SMILE);
+        assertThat(ResponseFormat.negotiate("application/cbor, application/x-jackson-smile, */*;q=0.1"))
+                .isEqualTo(ResponseFormat.CBOR);
+    }
+}
@@ -0,0 +1,162 @@
+package com.inditex.pricing.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * System tests for the tariff write API using @SpringBootTest + MockMvc.
+ * Each test works on its own product id, outside the seed data, and removes what it creates,
+ * so the shared H2 database stays as the other system tests expect it.
+ * The current-price table is enabled, so every write is also checked to reach it.
+ */
+@SpringBootTest(properties = "pricing.current-prices.enabled=true")
+@AutoConfigureMockMvc
+class TariffControllerSystemTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String API_URL = "/api/tariffs";
+    private static final String PRICES_URL = "/api/prices";
+
+    @AfterEach
+    void removeTestTariffs() {
+        // Safety net if an assertion fails before a test deletes its own tariffs
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID BETWEEN 91000 AND 91999");
+    }
+
+    @Test
+    @DisplayName("Should serve a created, updated and deleted tariff immediately despite a cached lookup")
+    void shouldServeWritesImmediately() throws Exception {
+        queryPrice(91001L).andExpect(status().isNotFound());
+
+        String created = mockMvc.perform(post(API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tariff(91001L, "2021-01-01T00:00:00", "2021-12-31T23:59:59", "19.99")))
+                .andExpect(status().isCreated())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.productId").value(91001))
+                .andReturn().getResponse().getContentAsString();
+        long id = idOf(created);
+        queryPrice(91001L).andExpect(status().isOk()).andExpect(jsonPath("$.price").value(19.99));
+
+        mockMvc.perform(put(API_URL + "/" + id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tariff(91001L, "2021-01-01T00:00:00", "2021-12-31T23:59:59", "14.99")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id));
+        queryPrice(91001L).andExpect(status().isOk()).andExpect(jsonPath("$.price").value(14.99));
+
+        mockMvc.perform(delete(API_URL + "/" + id)).andExpect(status().isNoContent());
+        queryPrice(91001L).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when startDate is after endDate")
+    void shouldReturn400WhenDateRangeIsInverted() throws Exception {
+        mockMvc.perform(post(API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tariff(91002L, "2021-12-31T00:00:00", "2021-01-01T00:00:00", "19.99")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+        queryPrice(91002L).andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when updating or deleting an unknown tariff")
+    void shouldReturn404ForUnknownTariff() throws Exception {
+        mockMvc.perform(put(API_URL + "/999999")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tariff(91003L, "2021-01-01T00:00:00", "2021-12-31T23:59:59", "19.99")))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+        mockMvc.perform(delete(API_URL + "/999999"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should import a CSV in bulk, report rejected rows and serve the imported tariffs")
+    void shouldImportCsvInBulk() throws Exception {
+        queryPrice(91004L).andExpect(status().isNotFound());
+        String csv = """
+                BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR
+                1,2021-01-01 00:00:00,2021-12-31 23:59:59,1,91004,0,12.00,EUR
+                1,2021-06-01 00:00:00,2021-06-30 23:59:59,2,91004,1,9.00,EUR
+                1,2021-06-01 00:00:00,2021-06-30 23:59:59,3,91004,1,not-a-price,EUR
+                """;
+
+        mockMvc.perform(post(API_URL + "/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsRead").value(3))
+                .andExpect(jsonPath("$.rowsImported").value(2))
+                .andExpect(jsonPath("$.rowsRejected").value(1))
+                .andExpect(jsonPath("$.rejected[0].line").value(4));
+
+        queryPrice(91004L).andExpect(status().isOk()).andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    @Test
+    @DisplayName("Should serve a tariff written for the current time to lookups without applicationDate")
+    void shouldServeCurrentPriceAfterWrite() throws Exception {
+        String created = mockMvc.perform(post(API_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tariff(91005L, "2020-01-01T00:00:00", "2099-12-31T23:59:59", "11.50")))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        queryCurrentPrice(91005L).andExpect(status().isOk()).andExpect(jsonPath("$.price").value(11.50));
+
+        mockMvc.perform(delete(API_URL + "/" + idOf(created))).andExpect(status().isNoContent());
+        queryCurrentPrice(91005L).andExpect(status().isNotFound());
+    }
+
+    private ResultActions queryCurrentPrice(Long productId) throws Exception {
+        return mockMvc.perform(get(PRICES_URL)
+                .param("productId", productId.toString())
+                .param("brandId", "1"));
+    }
+
+    private ResultActions queryPrice(Long productId) throws Exception {
+        return mockMvc.perform(get(PRICES_URL)
+                .param("applicationDate", "2021-06-01T12:00:00")
+                .param("productId", productId.toString())
+                .param("brandId", "1"));
+    }
+
+    private long idOf(String body) throws Exception {
+        JsonNode node = objectMapper.readTree(body);
+        return node.get("id").asLong();
+    }
+
+    private static String tariff(Long productId, String start, String end, String amount) {
+        return """
+                {"brandId": 1, "startDate": "%s", "endDate": "%s", "priceList": 9,
+                 "productId": %d, "priority": 0, "price": %s, "currency": "EUR"}
+                """.formatted(start, end, productId, amount);
+    }
+}
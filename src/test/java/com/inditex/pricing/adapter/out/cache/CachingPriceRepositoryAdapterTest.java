@@ -1,19 +1,31 @@
 package com.inditex.pricing.adapter.out.cache;
 
 import com.inditex.pricing.application.port.out.CacheMetricsRecorder;
+import com.inditex.pricing.application.port.out.CacheMetricsRecorder.ReloadResult;
+import com.inditex.pricing.application.port.out.StageMetricsPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
 import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.PriceQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -24,7 +36,8 @@ class CachingPriceRepositoryAdapterTest {
     @Mock
     private PriceRepositoryPort delegate;
 
-    @Mock
+    // Real default bind(), so hits and misses still reach the name-based methods verified below
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private CacheMetricsRecorder cacheMetrics;
 
     private CachingPriceRepositoryAdapter adapter;
@@ -40,6 +53,12 @@ class CachingPriceRepositoryAdapterTest {
             1, PRODUCT_ID, 0, new BigDecimal("35.50"), "EUR"
     );
 
+    // Only tariff 1 applies between tariff 2's end (18:30:00, inclusive) and tariff 3's start
+    private static final LocalDateTime WINDOW_FROM = LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1);
+    private static final LocalDateTime WINDOW_UNTIL = LocalDateTime.of(2020, 6, 15, 0, 0, 0);
+    private static final LocalDateTime WINDOW_DATE = LocalDateTime.of(2020, 6, 14, 20, 0, 0);
+    private static final ApplicablePrices WINDOWED = new ApplicablePrices(List.of(PRICE), WINDOW_FROM, WINDOW_UNTIL);
+
     @BeforeEach
     void setUp() {
         adapter = new CachingPriceRepositoryAdapter(delegate, cacheMetrics, 1000, Duration.ofHours(1));
@@ -48,25 +67,27 @@ class CachingPriceRepositoryAdapterTest {
     @Test
     @DisplayName("Should call delegate on first request (cache miss)")
     void shouldCallDelegateOnCacheMiss() {
-        when(delegate.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(PRICE));
+        when(delegate.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(ApplicablePrices.at(DATE, List.of(PRICE)));
 
         List<Price> result = adapter.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
 
         assertThat(result).containsExactly(PRICE);
-        verify(delegate, times(1)).findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID);
         verify(cacheMetrics).recordMiss("prices.repository");
     }
 
     @Test
     @DisplayName("Should return cached result and not call delegate on second request (cache hit)")
     void shouldReturnCachedResultOnCacheHit() {
-        when(delegate.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(PRICE));
+        when(delegate.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(ApplicablePrices.at(DATE, List.of(PRICE)));
 
         adapter.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
         List<Price> secondResult = adapter.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
 
         assertThat(secondResult).containsExactly(PRICE);
-        verify(delegate, times(1)).findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID);
         verify(cacheMetrics).recordHit("prices.repository");
     }
 
@@ -74,24 +95,180 @@ class CachingPriceRepositoryAdapterTest {
     @DisplayName("Should call delegate separately for different cache keys")
     void shouldCallDelegateForEachDistinctKey() {
         LocalDateTime otherDate = LocalDateTime.of(2020, 6, 15, 10, 0, 0);
-        when(delegate.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(List.of(PRICE));
-        when(delegate.findApplicablePrices(otherDate, PRODUCT_ID, BRAND_ID)).thenReturn(List.of());
+        when(delegate.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(ApplicablePrices.at(DATE, List.of(PRICE)));
+        when(delegate.findApplicablePricesWithValidity(otherDate, PRODUCT_ID, BRAND_ID))
+                .thenReturn(ApplicablePrices.at(otherDate, List.of()));
 
         adapter.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
         adapter.findApplicablePrices(otherDate, PRODUCT_ID, BRAND_ID);
 
-        verify(delegate, times(1)).findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
-        verify(delegate, times(1)).findApplicablePrices(otherDate, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(otherDate, PRODUCT_ID, BRAND_ID);
     }
 
     @Test
     @DisplayName("Should cache empty result and not call delegate again")
     void shouldCacheEmptyResult() {
-        when(delegate.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(List.of());
+        when(delegate.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(ApplicablePrices.at(DATE, List.of()));
 
         adapter.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
         adapter.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
 
-        verify(delegate, times(1)).findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should serve any later date inside the cached validity window as a hit")
+    void shouldHitForAnyDateInsideValidityWindow() {
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).thenReturn(WINDOWED);
+
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        List<Price> atWindowStart = adapter.findApplicablePrices(WINDOW_FROM, PRODUCT_ID, BRAND_ID);
+        List<Price> secondsLater = adapter.findApplicablePrices(WINDOW_DATE.plusSeconds(17), PRODUCT_ID, BRAND_ID);
+        List<Price> lastInstant = adapter.findApplicablePrices(WINDOW_UNTIL.minusNanos(1), PRODUCT_ID, BRAND_ID);
+
+        assertThat(atWindowStart).containsExactly(PRICE);
+        assertThat(secondsLater).containsExactly(PRICE);
+        assertThat(lastInstant).containsExactly(PRICE);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(any(), eq(PRODUCT_ID), eq(BRAND_ID));
+        verify(cacheMetrics, times(3)).recordHit("prices.repository");
+    }
+
+    @Test
+    @DisplayName("Should miss when the date falls outside every cached window of the product")
+    void shouldMissOutsideValidityWindow() {
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).thenReturn(WINDOWED);
+        when(delegate.findApplicablePricesWithValidity(WINDOW_UNTIL, PRODUCT_ID, BRAND_ID))
+                .thenReturn(ApplicablePrices.at(WINDOW_UNTIL, List.of()));
+
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        adapter.findApplicablePrices(WINDOW_UNTIL, PRODUCT_ID, BRAND_ID);
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+
+        verify(delegate, times(1)).findApplicablePricesWithValidity(WINDOW_UNTIL, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        verify(cacheMetrics, times(2)).recordMiss("prices.repository");
+        verify(cacheMetrics, times(1)).recordHit("prices.repository");
+    }
+
+    @Test
+    @DisplayName("Should evict only the written product and brand, and drop a load that raced with the write")
+    void shouldEvictOnlyChangedKey() {
+        Long otherProduct = 40000L;
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).thenReturn(WINDOWED);
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, otherProduct, BRAND_ID))
+                .thenAnswer(invocation -> {
+                    // A write to this key commits while the stale load is in flight
+                    adapter.tariffsChanged(otherProduct, BRAND_ID);
+                    return ApplicablePrices.at(WINDOW_DATE, List.of());
+                });
+        adapter.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        adapter.findApplicablePricesWithValidity(WINDOW_DATE, otherProduct, BRAND_ID);
+
+        adapter.tariffsChanged(PRODUCT_ID, 99L);
+        adapter.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        adapter.findApplicablePricesWithValidity(WINDOW_DATE, otherProduct, BRAND_ID);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(2)).findApplicablePricesWithValidity(WINDOW_DATE, otherProduct, BRAND_ID);
+
+        adapter.tariffsChanged(PRODUCT_ID, BRAND_ID);
+        adapter.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(2)).findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should load a cold key once when concurrent misses for the same window arrive together")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findApplicablePricesWithValidity(any(), eq(PRODUCT_ID), eq(BRAND_ID))).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return WINDOWED;
+        });
+        List<List<Price>> results = new CopyOnWriteArrayList<>();
+
+        Thread leader = Thread.ofPlatform().start(() -> results.add(adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID)));
+        loading.await();
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            LocalDateTime date = WINDOW_DATE.plusMinutes(i);
+            followers.add(Thread.ofPlatform().start(() -> results.add(adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID))));
+        }
+        for (Thread follower : followers) {
+            while (follower.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        leader.join();
+        for (Thread follower : followers) {
+            follower.join();
+        }
+
+        assertThat(results).hasSize(5).allSatisfy(prices -> assertThat(prices).containsExactly(PRICE));
+        verify(delegate, times(1)).findApplicablePricesWithValidity(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve the old windows while an aged entry reloads, then serve the reloaded ones")
+    void shouldServeStaleWhileRefreshing() {
+        // Every hit finds the entry aged; the reload runs inline on the caller, after the hit was served
+        adapter = new CachingPriceRepositoryAdapter(delegate, cacheMetrics, StageMetricsPort.NONE,
+                1000, Duration.ofHours(1), Duration.ZERO, Runnable::run);
+        Price repriced = new Price(1L, BRAND_ID, PRICE.startDate(), PRICE.endDate(),
+                1, PRODUCT_ID, 0, new BigDecimal("29.99"), "EUR");
+        PriceQuery reload = new PriceQuery(WINDOW_FROM, PRODUCT_ID, BRAND_ID);
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).thenReturn(WINDOWED);
+        when(delegate.findApplicablePricesInBatch(List.of(reload)))
+                .thenReturn(Map.of(reload, new ApplicablePrices(List.of(repriced), WINDOW_FROM, WINDOW_UNTIL)));
+
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        List<Price> servedWhileReloading = adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        List<Price> afterReload = adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+
+        assertThat(servedWhileReloading).containsExactly(PRICE);
+        assertThat(afterReload).containsExactly(repriced);
+        verify(delegate, times(1)).findApplicablePricesWithValidity(any(), any(), any());
+        verify(cacheMetrics, atLeastOnce()).recordReload(eq("prices.repository"), eq(ReloadResult.SUCCESS), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should keep the cached windows when a reload fails or the refresh pool rejects it")
+    void shouldKeepEntryWhenReloadFailsOrIsRejected() {
+        adapter = new CachingPriceRepositoryAdapter(delegate, cacheMetrics, StageMetricsPort.NONE,
+                1000, Duration.ofHours(1), Duration.ZERO, Runnable::run);
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).thenReturn(WINDOWED);
+        when(delegate.findApplicablePricesInBatch(anyCollection())).thenThrow(new IllegalStateException("db down"));
+
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        assertThat(adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).containsExactly(PRICE);
+        verify(cacheMetrics).recordReload(eq("prices.repository"), eq(ReloadResult.FAILURE), anyLong());
+
+        adapter = new CachingPriceRepositoryAdapter(delegate, cacheMetrics, StageMetricsPort.NONE,
+                1000, Duration.ofHours(1), Duration.ZERO, task -> {
+                    throw new RejectedExecutionException("queue full");
+                });
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+        assertThat(adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).containsExactly(PRICE);
+        verify(cacheMetrics).recordReload("prices.repository", ReloadResult.REJECTED, 0);
+    }
+
+    @Test
+    @DisplayName("Should shut the refresh pool down on close and keep serving cached windows afterwards")
+    void shouldShutDownRefreshPoolOnClose() {
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        adapter = new CachingPriceRepositoryAdapter(delegate, cacheMetrics, StageMetricsPort.NONE,
+                1000, Duration.ofHours(1), Duration.ZERO, pool);
+        when(delegate.findApplicablePricesWithValidity(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).thenReturn(WINDOWED);
+        adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID);
+
+        adapter.close();
+
+        assertThat(pool.isShutdown()).isTrue();
+        assertThat(adapter.findApplicablePrices(WINDOW_DATE, PRODUCT_ID, BRAND_ID)).containsExactly(PRICE);
+        verify(cacheMetrics).recordReload("prices.repository", ReloadResult.REJECTED, 0);
     }
 }
@@ -0,0 +1,121 @@
+package com.inditex.pricing.adapter.out.cache;
+
+import com.inditex.pricing.application.port.out.KeyFilterMetricsPort;
+import com.inditex.pricing.application.port.out.KeyFilterMetricsPort.Outcome;
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for KeyFilterPriceRepositoryAdapter.
+ * The price book source is a lambda over a mutable list of tariffs; the filter is sized for a
+ * one-in-a-million false-positive rate so the unknown pairs below are always ruled out.
+ */
+class KeyFilterPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final Long UNKNOWN_PRODUCT = 99999L;
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+    private static final LocalDateTime VALID_FROM = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+    private static final LocalDateTime VALID_TO = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+    private static final Price TARIFF = price(1L, PRODUCT_ID, 1, 0, VALID_FROM, VALID_TO, "35.50");
+    private static final ApplicablePrices NO_TARIFFS = new ApplicablePrices(List.of(), LocalDateTime.MIN, LocalDateTime.MAX);
+
+    private final List<Price> stored = new ArrayList<>(List.of(TARIFF));
+    private final PriceRepositoryPort delegate = mock(PriceRepositoryPort.class, withSettings().extraInterfaces(PriceBookChangePort.class, AutoCloseable.class));
+    private final KeyFilterMetricsPort metrics = mock(KeyFilterMetricsPort.class);
+    private KeyFilterPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new KeyFilterPriceRepositoryAdapter(delegate, () -> stored, metrics, 0.000001);
+    }
+
+    @Test
+    @DisplayName("Should answer an unknown product and brand with no tariffs at any date, without calling the delegate")
+    void shouldRejectUnknownPairWithoutDelegate() {
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(DATE, UNKNOWN_PRODUCT, BRAND_ID);
+
+        assertThat(result).isEqualTo(NO_TARIFFS);
+        assertThat(adapter.findApplicablePrices(DATE, PRODUCT_ID, 2L)).isEmpty();
+        verifyNoInteractions(delegate);
+        verify(metrics, times(2)).record(Outcome.REJECTED);
+    }
+
+    @Test
+    @DisplayName("Should pass a known pair to the delegate and count a pair without tariffs as a false positive")
+    void shouldPassKnownPairAndClassifyOutcome() {
+        ApplicablePrices found = ApplicablePrices.at(DATE, List.of(TARIFF));
+        when(delegate.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(found, NO_TARIFFS);
+
+        assertThat(adapter.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID)).isEqualTo(found);
+        assertThat(adapter.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID)).isEqualTo(NO_TARIFFS);
+        verify(metrics).record(Outcome.FOUND);
+        verify(metrics).record(Outcome.FALSE_POSITIVE);
+    }
+
+    @Test
+    @DisplayName("Should send only the pairs the filter lets through to the delegate batch")
+    void shouldFilterBatch() {
+        PriceQuery known = new PriceQuery(DATE, PRODUCT_ID, BRAND_ID);
+        PriceQuery unknown = new PriceQuery(DATE, UNKNOWN_PRODUCT, BRAND_ID);
+        ApplicablePrices found = ApplicablePrices.at(DATE, List.of(TARIFF));
+        when(delegate.findApplicablePricesInBatch(List.of(known))).thenReturn(Map.of(known, found));
+
+        Map<PriceQuery, ApplicablePrices> results = adapter.findApplicablePricesInBatch(List.of(known, unknown));
+
+        assertThat(results).containsEntry(known, found).containsEntry(unknown, NO_TARIFFS);
+        verify(delegate).findApplicablePricesInBatch(List.of(known));
+    }
+
+    @Test
+    @DisplayName("Should let a written pair through and forward the change to the delegate")
+    void shouldAddWrittenPair() {
+        when(delegate.findApplicablePricesWithValidity(any(), any(), any())).thenReturn(ApplicablePrices.at(DATE, List.of()));
+
+        adapter.tariffsChanged(UNKNOWN_PRODUCT, BRAND_ID);
+        adapter.findApplicablePricesWithValidity(DATE, UNKNOWN_PRODUCT, BRAND_ID);
+
+        verify((PriceBookChangePort) delegate).tariffsChanged(UNKNOWN_PRODUCT, BRAND_ID);
+        verify(delegate).findApplicablePricesWithValidity(DATE, UNKNOWN_PRODUCT, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should close the delegate when closed, so its refresh pool is shut down too")
+    void shouldForwardClose() throws Exception {
+        adapter.close();
+
+        verify((AutoCloseable) delegate).close();
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the source after a bulk change, dropping pairs with no tariffs left")
+    void shouldRebuildOnPriceBookChange() {
+        stored.clear();
+        stored.add(price(1L, UNKNOWN_PRODUCT, 1, 0, VALID_FROM, VALID_TO, "35.50"));
+
+        adapter.priceBookChanged();
+
+        assertThat(adapter.findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID)).isEqualTo(NO_TARIFFS);
+        verify((PriceBookChangePort) delegate).priceBookChanged();
+        verify(delegate, never()).findApplicablePricesWithValidity(DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, never()).findApplicablePricesInBatch(anyCollection());
+    }
+}
@@ -0,0 +1,103 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for BoundaryTimerWheel, ticked by hand against a clock moved by the test.
+ */
+class BoundaryTimerWheelTest {
+
+    private final MovableClock clock = new MovableClock();
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should fire an item at the first tick at or after its deadline, never before")
+    void shouldFireAtFirstTickAfterDeadline() {
+        var wheel = new BoundaryTimerWheel<String>(clock, Duration.ofSeconds(1), 8, fired::add);
+        wheel.schedule("promo-start", clock.localNow().plusNanos(2_500_000_000L));
+
+        clock.advance(Duration.ofSeconds(2));
+        wheel.tick();
+        assertThat(fired).isEmpty();
+
+        clock.advance(Duration.ofSeconds(1));
+        wheel.tick();
+        assertThat(fired).containsExactly("promo-start");
+    }
+
+    @Test
+    @DisplayName("Should keep items due after more than one turn until their turn comes")
+    void shouldKeepItemsBeyondOneTurn() {
+        var wheel = new BoundaryTimerWheel<String>(clock, Duration.ofSeconds(1), 4, fired::add);
+        wheel.schedule("late", clock.localNow().plusSeconds(10));
+        wheel.schedule("early", clock.localNow().plusSeconds(2));
+
+        for (int second = 1; second <= 9; second++) {
+            clock.advance(Duration.ofSeconds(1));
+            wheel.tick();
+        }
+        assertThat(fired).containsExactly("early");
+
+        clock.advance(Duration.ofSeconds(1));
+        wheel.tick();
+        assertThat(fired).containsExactly("early", "late");
+    }
+
+    @Test
+    @DisplayName("Should never fire a cancelled item and remove it from its bucket on the next tick")
+    void shouldDropCancelledItems() {
+        var wheel = new BoundaryTimerWheel<String>(clock, Duration.ofSeconds(1), 8, fired::add);
+        var replaced = wheel.schedule("old-timeline", clock.localNow().plusDays(300));
+        wheel.schedule("new-timeline", clock.localNow().plusSeconds(2));
+        clock.advance(Duration.ofSeconds(1));
+        wheel.tick();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        wheel.cancel(replaced);
+        clock.advance(Duration.ofSeconds(1));
+        wheel.tick();
+
+        assertThat(fired).containsExactly("new-timeline");
+        assertThat(wheel.size()).isZero();
+    }
+
+    private static final class MovableClock extends Clock {
+
+        private Instant now = Instant.parse("2020-06-14T14:59:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        LocalDateTime localNow() {
+            return LocalDateTime.now(this);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
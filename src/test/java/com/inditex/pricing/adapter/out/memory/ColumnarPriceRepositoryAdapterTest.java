@@ -0,0 +1,104 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ColumnarPriceRepositoryAdapter.
+ * Results are compared against InMemoryPriceRepositoryAdapter, which keeps the original Price objects.
+ */
+class ColumnarPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private static final List<Price> SEED = List.of(
+            price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.50"),
+            price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), "25.45"),
+            price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), "30.50"),
+            price(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "38.95")
+    );
+
+    private ColumnarPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new ColumnarPriceRepositoryAdapter(() -> SEED);
+    }
+
+    @Test
+    @DisplayName("Should rebuild equal Price objects, including amount scale and currency")
+    void shouldRebuildEqualPrices() {
+        List<Price> prices = adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0, 0), PRODUCT_ID, BRAND_ID);
+
+        assertThat(prices).containsExactlyInAnyOrder(SEED.get(0), SEED.get(1));
+        assertThat(prices).extracting(Price::amount).extracting(BigDecimal::scale).containsOnly(2);
+    }
+
+    @Test
+    @DisplayName("Should treat bounds as inclusive and report the same validity window as the interval index")
+    void shouldMatchIntervalIndexAtBoundaries() {
+        InMemoryPriceRepositoryAdapter reference = new InMemoryPriceRepositoryAdapter(() -> SEED);
+        LocalDateTime end = LocalDateTime.of(2020, 6, 14, 18, 30, 0);
+
+        for (LocalDateTime date : List.of(end, end.plusNanos(1), end.plusSeconds(1), LocalDateTime.of(2020, 6, 14, 20, 0, 0))) {
+            assertSameResolution(adapter.findApplicablePricesWithValidity(date, PRODUCT_ID, BRAND_ID),
+                    reference.findApplicablePricesWithValidity(date, PRODUCT_ID, BRAND_ID));
+        }
+        assertThat(adapter.findApplicablePricesWithValidity(end, 99999L, BRAND_ID))
+                .isEqualTo(new ApplicablePrices(List.of(), LocalDateTime.MIN, LocalDateTime.MAX));
+    }
+
+    @Test
+    @DisplayName("Should reject tariffs with fractional-second dates")
+    void shouldRejectFractionalSeconds() {
+        Price fractional = price(9L, PRODUCT_ID, 9, 0,
+                LocalDateTime.of(2020, 1, 1, 0, 0, 0), LocalDateTime.of(2020, 1, 1, 0, 0, 0, 500), "1.00");
+
+        assertThatThrownBy(() -> new ColumnarPriceRepositoryAdapter(() -> List.of(fractional)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should match the interval index over many random products and intervals loaded unordered")
+    void shouldMatchIntervalIndexOnRandomBook() {
+        Random random = new Random(7);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> tariffs = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(10_000));
+            LocalDateTime end = start.plusHours(random.nextInt(500));
+            tariffs.add(price((long) i, 1L + random.nextInt(20), i, random.nextInt(3), start, end, "10.0" + random.nextInt(10)));
+        }
+        Collections.shuffle(tariffs, random);
+        adapter = new ColumnarPriceRepositoryAdapter(() -> tariffs);
+        InMemoryPriceRepositoryAdapter reference = new InMemoryPriceRepositoryAdapter(() -> tariffs);
+
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime date = origin.plusHours(random.nextInt(10_600));
+            Long productId = 1L + random.nextInt(21);
+            assertSameResolution(adapter.findApplicablePricesWithValidity(date, productId, BRAND_ID),
+                    reference.findApplicablePricesWithValidity(date, productId, BRAND_ID));
+        }
+    }
+
+    private static void assertSameResolution(ApplicablePrices actual, ApplicablePrices expected) {
+        assertThat(actual.prices()).containsExactlyInAnyOrderElementsOf(expected.prices());
+        assertThat(actual.validFrom()).isEqualTo(expected.validFrom());
+        assertThat(actual.validUntil()).isEqualTo(expected.validUntil());
+    }
+}
@@ -0,0 +1,110 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceRepositoryPort;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for CurrentPriceRepositoryAdapter.
+ * The clock is set relative to the seed tariffs and the wheel ticks every 10 ms; the delegate only
+ * counts the lookups that reach it and finds nothing.
+ */
+class CurrentPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private static final Price BASE = price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price PROMO = price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger delegateLookups = new AtomicInteger();
+    private final PriceRepositoryPort delegate = (date, productId, brandId) -> {
+        delegateLookups.incrementAndGet();
+        return List.of();
+    };
+
+    @AfterEach
+    void stopTicker() {
+        ticker.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should answer the current segment from the table and other dates from the delegate")
+    void shouldServeCurrentSegmentFromTable() {
+        Clock clock = clockAt(LocalDateTime.of(2020, 6, 14, 16, 0));
+        var adapter = new CurrentPriceRepositoryAdapter(delegate, () -> List.of(BASE, PROMO), clock, ticker, Duration.ofMillis(10), 64);
+
+        var current = adapter.findApplicablePricesWithValidity(LocalDateTime.now(clock), PRODUCT_ID, BRAND_ID);
+        assertThat(current.prices()).containsExactly(PROMO);
+        assertThat(current.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1));
+        assertThat(delegateLookups).hasValue(0);
+
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 10, 0), PRODUCT_ID, BRAND_ID)).isEmpty();
+        assertThat(delegateLookups).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should flip an entry to the next segment once its boundary passes")
+    void shouldFlipEntryAtBoundary() throws Exception {
+        Clock clock = clockAt(LocalDateTime.of(2020, 6, 14, 18, 29, 59, 900_000_000));
+        var adapter = new CurrentPriceRepositoryAdapter(delegate, () -> List.of(BASE, PROMO), clock, ticker, Duration.ofMillis(10), 64);
+        assertThat(adapter.findApplicablePrices(LocalDateTime.now(clock), PRODUCT_ID, BRAND_ID)).containsExactly(PROMO);
+
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        List<Price> result = List.of();
+        while (!result.equals(List.of(BASE)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            result = adapter.findApplicablePrices(LocalDateTime.now(clock), PRODUCT_ID, BRAND_ID);
+        }
+
+        assertThat(result).containsExactly(BASE);
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the entry of a written key")
+    void shouldRebuildWrittenKey() {
+        Clock clock = clockAt(LocalDateTime.of(2020, 6, 14, 10, 0));
+        List<Price> book = new CopyOnWriteArrayList<>(List.of(BASE));
+        var adapter = new CurrentPriceRepositoryAdapter(delegate, () -> List.copyOf(book), clock, ticker, Duration.ofMillis(10), 64);
+        Price flash = price(3L, PRODUCT_ID, 3, 2, LocalDateTime.of(2020, 6, 14, 9, 0), LocalDateTime.of(2020, 6, 14, 23, 0));
+
+        book.add(flash);
+        adapter.tariffsChanged(PRODUCT_ID, BRAND_ID);
+
+        assertThat(adapter.findApplicablePrices(LocalDateTime.now(clock), PRODUCT_ID, BRAND_ID)).containsExactly(flash);
+        assertThat(adapter.size()).isEqualTo(1);
+        assertThat(delegateLookups).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should shut the ticker down on close and keep answering from the table")
+    void shouldShutDownTickerOnClose() throws Exception {
+        Clock clock = clockAt(LocalDateTime.of(2020, 6, 14, 10, 0));
+        var adapter = new CurrentPriceRepositoryAdapter(delegate, () -> List.of(BASE), clock, ticker, Duration.ofMillis(10), 64);
+
+        adapter.close();
+
+        assertThat(ticker.isShutdown()).isTrue();
+        assertThat(adapter.findApplicablePrices(LocalDateTime.now(clock), PRODUCT_ID, BRAND_ID)).containsExactly(BASE);
+        assertThat(delegateLookups).hasValue(0);
+    }
+
+    private static Clock clockAt(LocalDateTime now) {
+        return Clock.offset(Clock.systemDefaultZone(), Duration.between(LocalDateTime.now(), now));
+    }
+}
@@ -0,0 +1,132 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for InMemoryPriceRepositoryAdapter.
+ * The price book source is a plain lambda over the seed tariffs; no Spring context is loaded.
+ */
+class InMemoryPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private static final List<Price> SEED = List.of(
+            price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.50"),
+            price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), "25.45"),
+            price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), "30.50"),
+            price(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "38.95")
+    );
+
+    private InMemoryPriceRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InMemoryPriceRepositoryAdapter(() -> SEED);
+    }
+
+    @Test
+    @DisplayName("Should find both overlapping tariffs at 16:00 on June 14")
+    void shouldFindOverlappingTariffs() {
+        List<Price> prices = adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0, 0), PRODUCT_ID, BRAND_ID);
+
+        assertThat(prices).extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    @DisplayName("Should treat startDate and endDate as inclusive bounds")
+    void shouldTreatBoundsAsInclusive() {
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 15, 0, 0), PRODUCT_ID, BRAND_ID))
+                .extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 18, 30, 0), PRODUCT_ID, BRAND_ID))
+                .extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 18, 30, 1), PRODUCT_ID, BRAND_ID))
+                .extracting(Price::priceList).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown product, unknown brand or date outside all tariffs")
+    void shouldReturnEmptyWhenNothingApplies() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+        assertThat(adapter.findApplicablePrices(date, 99999L, BRAND_ID)).isEmpty();
+        assertThat(adapter.findApplicablePrices(date, PRODUCT_ID, 99L)).isEmpty();
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2019, 1, 1, 0, 0, 0), PRODUCT_ID, BRAND_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should report the validity window between the surrounding tariff boundaries")
+    void shouldReportValidityWindow() {
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(
+                LocalDateTime.of(2020, 6, 14, 20, 0, 0), PRODUCT_ID, BRAND_ID);
+
+        assertThat(result.prices()).extracting(Price::priceList).containsExactly(1);
+        assertThat(result.validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1));
+        assertThat(result.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 15, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should pick up new tariffs after reload")
+    void shouldPickUpNewTariffsAfterReload() {
+        List<Price> book = new ArrayList<>(SEED);
+        adapter = new InMemoryPriceRepositoryAdapter(() -> List.copyOf(book));
+        LocalDateTime date = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+        assertThat(adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID)).isEmpty();
+
+        book.add(price(5L, PRODUCT_ID, 5, 0, date, date.plusDays(1), "40.00"));
+        adapter.reload();
+
+        assertThat(adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID)).extracting(Price::priceList).containsExactly(5);
+    }
+
+    @Test
+    @DisplayName("Should rebuild only the changed product and brand")
+    void shouldRebuildOnlyChangedKey() {
+        List<Price> book = new ArrayList<>(SEED);
+        adapter = new InMemoryPriceRepositoryAdapter(() -> List.copyOf(book));
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0, 0);
+
+        book.removeIf(p -> p.priceList() == 1);
+        adapter.tariffsChanged(PRODUCT_ID, BRAND_ID);
+
+        assertThat(adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID)).isEmpty();
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0, 0), PRODUCT_ID, BRAND_ID))
+                .extracting(Price::priceList).containsExactly(2);
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force scan over many random intervals")
+    void shouldMatchBruteForceScan() {
+        Random random = new Random(42);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> tariffs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(10_000));
+            LocalDateTime end = start.plusHours(random.nextInt(500));
+            tariffs.add(price((long) i, PRODUCT_ID, i, random.nextInt(3), start, end, "10.00"));
+        }
+        adapter = new InMemoryPriceRepositoryAdapter(() -> tariffs);
+
+        for (int i = 0; i < 1_000; i++) {
+            LocalDateTime date = origin.plusHours(random.nextInt(10_600));
+            List<Price> expected = tariffs.stream()
+                    .filter(p -> !p.startDate().isAfter(date) && !p.endDate().isBefore(date))
+                    .toList();
+
+            assertThat(adapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID))
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+}
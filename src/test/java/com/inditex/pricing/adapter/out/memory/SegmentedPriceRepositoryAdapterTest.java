@@ -0,0 +1,58 @@
+package com.inditex.pricing.adapter.out.memory;
+
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class SegmentedPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    private static final Price BASE = price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price PROMO = price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+
+    @Mock
+    private PriceMetricsPort metricsPort;
+
+    @Test
+    @DisplayName("Should return only the precomputed winner for overlapping tariffs")
+    void shouldReturnOnlyWinner() {
+        var adapter = new SegmentedPriceRepositoryAdapter(() -> List.of(BASE, PROMO), metricsPort);
+
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0, 0), PRODUCT_ID, BRAND_ID))
+                .containsExactly(PROMO);
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 18, 30, 1), PRODUCT_ID, BRAND_ID))
+                .containsExactly(BASE);
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 99999L, BRAND_ID))
+                .isEmpty();
+        verifyNoInteractions(metricsPort);
+    }
+
+    @Test
+    @DisplayName("Should report priority conflicts once at build time and keep the tied tariffs")
+    void shouldReportConflictsAtBuildTime() {
+        Price tied = price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 14, 16, 0, 0), LocalDateTime.of(2020, 6, 14, 17, 0, 0));
+
+        var adapter = new SegmentedPriceRepositoryAdapter(() -> List.of(BASE, PROMO, tied), metricsPort);
+        adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 30, 0), PRODUCT_ID, BRAND_ID);
+        List<Price> result = adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 30, 0), PRODUCT_ID, BRAND_ID);
+
+        assertThat(result).containsExactlyInAnyOrder(PROMO, tied);
+        verify(metricsPort, times(1)).recordPriorityConflict(PRODUCT_ID, BRAND_ID, 2);
+    }
+}
@@ -0,0 +1,51 @@
+package com.inditex.pricing.adapter.out.metrics;
+
+import com.inditex.pricing.application.port.out.StageMetricsPort.Stage;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for MicrometerStageMetricsAdapter against a SimpleMeterRegistry.
+ */
+class MicrometerStageMetricsAdapterTest {
+
+    @Test
+    @DisplayName("Registers one timer per stage before anything is recorded")
+    void registersEveryStageUpFront() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        new MicrometerStageMetricsAdapter(registry, Duration.ofMillis(5));
+
+        assertThat(registry.find("prices.lookup.stage").timers()).hasSize(Stage.values().length);
+        assertThat(registry.find("prices.lookup.stage").tag("stage", "db_query").timer()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Records each stage on its own timer and fills the SLO buckets")
+    void recordsOnTheStageTimer() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerStageMetricsAdapter adapter = new MicrometerStageMetricsAdapter(registry, Duration.ofMillis(5));
+
+        adapter.record(Stage.CACHE_LOOKUP, TimeUnit.MICROSECONDS.toNanos(40));
+        adapter.record(Stage.CACHE_LOOKUP, TimeUnit.MILLISECONDS.toNanos(20));
+
+        Timer cacheLookup = registry.get("prices.lookup.stage").tag("stage", "cache_lookup").timer();
+        Timer controller = registry.get("prices.lookup.stage").tag("stage", "controller").timer();
+        assertThat(cacheLookup.count()).isEqualTo(2);
+        assertThat(controller.count()).isZero();
+        CountAtBucket fiveMillis = Arrays.stream(cacheLookup.takeSnapshot().histogramCounts())
+                .filter(bucket -> bucket.bucket(TimeUnit.MILLISECONDS) == 5.0)
+                .findFirst()
+                .orElseThrow();
+        assertThat(fiveMillis.count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.inditex.pricing.adapter.out.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for VirtualThreadPinningMonitor against a SimpleMeterRegistry and the live JFR stream.
+ */
+class VirtualThreadPinningMonitorTest {
+
+    private static final Duration BLOCKED = Duration.ofMillis(50);
+    private static final Duration STREAM_TIMEOUT = Duration.ofSeconds(15);
+
+    @Test
+    @DisplayName("Records a virtual thread blocking inside synchronized, but not one blocking under a ReentrantLock")
+    void recordsPinningOnMonitorsOnly() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Timer pinned;
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(registry, Duration.ZERO)) {
+            monitor.start();
+            pinned = registry.get("jvm.threads.virtual.pinned").timer();
+
+            ReentrantLock lock = new ReentrantLock();
+            Thread.ofVirtual().start(() -> {
+                lock.lock();
+                try {
+                    sleep();
+                } finally {
+                    lock.unlock();
+                }
+            }).join();
+            Object monitorLock = new Object();
+            Thread.ofVirtual().start(() -> {
+                synchronized (monitorLock) {
+                    sleep();
+                }
+            }).join();
+
+            long deadline = System.nanoTime() + STREAM_TIMEOUT.toNanos();
+            while (pinned.count() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(50);
+            }
+        }
+
+        assertThat(pinned.count()).isEqualTo(1);
+        assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(BLOCKED.toMillis());
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(BLOCKED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
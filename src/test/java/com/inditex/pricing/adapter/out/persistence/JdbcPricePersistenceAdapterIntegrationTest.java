@@ -0,0 +1,154 @@
+package com.inditex.pricing.adapter.out.persistence;
+
+import com.inditex.pricing.domain.model.ApplicablePrices;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for JdbcPricePersistenceAdapter.
+ * Uses @JdbcTest with H2 and Flyway migrations, so no JPA infrastructure is started: the adapter
+ * must give the same answers as PricePersistenceAdapter from plain SQL.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JdbcPricePersistenceAdapterIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcPricePersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new JdbcPricePersistenceAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should find two applicable prices at 16:00 on June 14 and map every column")
+    void shouldFindAndMapApplicablePrices() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+        List<Price> prices = adapter.findApplicablePrices(applicationDate, 35455L, 1L);
+
+        assertThat(prices).extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        Price promotion = prices.stream().filter(p -> p.priceList() == 2).findFirst().orElseThrow();
+        assertThat(promotion.brandId()).isEqualTo(1L);
+        assertThat(promotion.productId()).isEqualTo(35455L);
+        assertThat(promotion.priority()).isEqualTo(1);
+        assertThat(promotion.amount()).isEqualByComparingTo("25.45");
+        assertThat(promotion.currency()).isEqualTo("EUR");
+        assertThat(promotion.startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(promotion.endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+    }
+
+    @Test
+    @DisplayName("Should return only the two highest-priority tariffs when many promotions overlap")
+    void shouldReturnTopTwoCandidatesForStackedPromotions() {
+        for (int priority = 0; priority < 5; priority++) {
+            adapter.insert(new Price(null, 1L, LocalDateTime.of(2021, 1, 1, 0, 0, 0),
+                    LocalDateTime.of(2021, 12, 31, 23, 59, 59), 10 + priority, 92002L, priority,
+                    new BigDecimal("10.00"), "EUR"));
+        }
+
+        List<Price> prices = adapter.findApplicablePrices(LocalDateTime.of(2021, 6, 1, 12, 0, 0), 92002L, 1L);
+
+        assertThat(prices).extracting(Price::priority).containsExactly(4, 3);
+    }
+
+    @Test
+    @DisplayName("Should report the same validity window as the JPA adapter")
+    void shouldReportValidityWindow() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(applicationDate, 35455L, 1L);
+
+        assertThat(result.prices()).extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        assertThat(result.validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(result.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should report the top two candidates with the window delimited by every overlapping tariff")
+    void shouldReportWindowOfStackedPromotions() {
+        for (int priority = 0; priority < 5; priority++) {
+            adapter.insert(new Price(null, 1L, LocalDateTime.of(2021, 1, 1 + priority, 0, 0, 0),
+                    LocalDateTime.of(2021, 12, 31 - priority, 23, 59, 59), 10 + priority, 92003L, priority,
+                    new BigDecimal("10.00"), "EUR"));
+        }
+
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(LocalDateTime.of(2021, 6, 1, 12, 0, 0), 92003L, 1L);
+
+        assertThat(result.prices()).extracting(Price::priority).containsExactly(4, 3);
+        assertThat(result.validFrom()).isEqualTo(LocalDateTime.of(2021, 1, 5, 0, 0, 0));
+        assertThat(result.validUntil()).isEqualTo(LocalDateTime.of(2021, 12, 27, 23, 59, 59).plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should resolve every query of a batch, including unknown products, from one query")
+    void shouldResolveBatchOfQueries() {
+        PriceQuery morning = new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L);
+        PriceQuery afternoon = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L);
+        PriceQuery unknown = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 99999L, 1L);
+
+        Map<PriceQuery, ApplicablePrices> results = adapter.findApplicablePricesInBatch(List.of(morning, afternoon, unknown));
+
+        assertThat(results).containsOnlyKeys(morning, afternoon, unknown);
+        assertThat(results.get(morning).prices()).extracting(Price::priceList).containsExactly(1);
+        assertThat(results.get(afternoon).prices()).extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        assertThat(results.get(unknown).prices()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should insert, update and delete a tariff through the write port")
+    void shouldWriteTariffs() {
+        Price created = adapter.insert(new Price(null, 1L, LocalDateTime.of(2021, 1, 1, 0, 0, 0),
+                LocalDateTime.of(2021, 12, 31, 23, 59, 59), 7, 92001L, 0, new BigDecimal("19.99"), "EUR"));
+
+        assertThat(created.id()).isNotNull();
+        assertThat(adapter.findById(created.id())).contains(created);
+
+        Price repriced = new Price(created.id(), 1L, created.startDate(), created.endDate(), 7, 92001L, 0,
+                new BigDecimal("17.50"), "EUR");
+        assertThat(adapter.update(repriced)).contains(repriced);
+        assertThat(adapter.loadPrices(92001L, 1L)).extracting(Price::amount)
+                .singleElement().satisfies(amount -> assertThat(amount).isEqualByComparingTo("17.50"));
+
+        adapter.deleteById(created.id());
+        assertThat(adapter.findById(created.id())).isEmpty();
+        assertThat(adapter.update(repriced)).isEmpty();
+        assertThat(adapter.loadPrices(92001L, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should change the price book fingerprint on every insert, update and delete")
+    void shouldChangeFingerprintOnEveryWrite() {
+        JdbcPriceBookStreamAdapter book = new JdbcPriceBookStreamAdapter(jdbcTemplate, 100);
+        long seeded = book.fingerprint();
+        assertThat(book.fingerprint()).isEqualTo(seeded);
+
+        Price created = adapter.insert(new Price(null, 1L, LocalDateTime.of(2021, 1, 1, 0, 0, 0),
+                LocalDateTime.of(2021, 12, 31, 23, 59, 59), 7, 92001L, 0, new BigDecimal("19.99"), "EUR"));
+        long inserted = book.fingerprint();
+        adapter.update(new Price(created.id(), 1L, created.startDate(), created.endDate(), 7, 92001L, 0,
+                new BigDecimal("19.98"), "EUR"));
+        long updated = book.fingerprint();
+        adapter.deleteById(created.id());
+
+        assertThat(List.of(seeded, inserted, updated)).doesNotHaveDuplicates();
+        assertThat(book.fingerprint()).isEqualTo(seeded);
+    }
+}
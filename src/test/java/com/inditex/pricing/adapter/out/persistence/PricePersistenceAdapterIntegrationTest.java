@@ -1,6 +1,8 @@
 package com.inditex.pricing.adapter.out.persistence;
 
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceQuery;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,8 +10,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -114,6 +119,20 @@ class PricePersistenceAdapterIntegrationTest {
         assertThat(prices).extracting(Price::priceList).containsExactlyInAnyOrder(1, 3);
     }
 
+    @Test
+    @DisplayName("Should return only the two highest-priority tariffs when many promotions overlap")
+    void shouldReturnTopTwoCandidatesForStackedPromotions() {
+        for (int priority = 0; priority < 5; priority++) {
+            springDataPriceRepository.save(new PriceEntity(1L, LocalDateTime.of(2021, 1, 1, 0, 0, 0),
+                    LocalDateTime.of(2021, 12, 31, 23, 59, 59), 10 + priority, 92001L, priority,
+                    new BigDecimal("10.00"), "EUR"));
+        }
+
+        List<Price> prices = adapter.findApplicablePrices(LocalDateTime.of(2021, 6, 1, 12, 0, 0), 92001L, 1L);
+
+        assertThat(prices).extracting(Price::priority).containsExactly(4, 3);
+    }
+
     // ==========================================
     // Boundary condition tests (startDate / endDate inclusive semantics)
     // Tariff 2: startDate=2020-06-14T15:00:00, endDate=2020-06-14T18:30:00
@@ -163,4 +182,79 @@ class PricePersistenceAdapterIntegrationTest {
         assertThat(prices).hasSize(1);
         assertThat(prices.get(0).priceList()).isEqualTo(1);
     }
+
+    // ==========================================
+    // Validity window tests
+    // Boundaries of product 35455 / brand 1: 06-14 00:00, 06-14 15:00, just after 06-14 18:30,
+    // 06-15 00:00, just after 06-15 11:00, 06-15 16:00, just after 12-31 23:59:59
+    // ==========================================
+
+    @Test
+    @DisplayName("Should report the window between the surrounding tariff boundaries")
+    void shouldReportValidityWindowBetweenSurroundingBoundaries() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(applicationDate, 35455L, 1L);
+
+        assertThat(result.prices()).extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        assertThat(result.validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(result.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should report an open-ended empty window before the first tariff")
+    void shouldReportOpenEndedWindowBeforeFirstTariff() {
+        LocalDateTime applicationDate = LocalDateTime.of(2019, 1, 1, 0, 0, 0);
+
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(applicationDate, 35455L, 1L);
+
+        assertThat(result.prices()).isEmpty();
+        assertThat(result.validFrom()).isEqualTo(LocalDateTime.MIN);
+        assertThat(result.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Should aggregate the same window as resolving every tariff, on and around each boundary")
+    void shouldAggregateSameWindowAsResolvingEveryTariff() {
+        List<Price> tariffs = adapter.loadPrices(35455L, 1L);
+        List<LocalDateTime> dates = tariffs.stream()
+                .flatMap(p -> Stream.of(p.startDate(), p.endDate()))
+                .flatMap(d -> Stream.of(d.minusNanos(1000), d, d.plusNanos(1000)))
+                .toList();
+
+        for (LocalDateTime date : dates) {
+            ApplicablePrices expected = ApplicablePrices.resolve(tariffs, date);
+
+            ApplicablePrices result = adapter.findApplicablePricesWithValidity(date, 35455L, 1L);
+
+            assertThat(result.prices()).as("prices at %s", date).containsExactlyInAnyOrderElementsOf(expected.prices());
+            assertThat(result.validFrom()).as("validFrom at %s", date).isEqualTo(expected.validFrom());
+            assertThat(result.validUntil()).as("validUntil at %s", date).isEqualTo(expected.validUntil());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report an unbounded empty window for a product without tariffs")
+    void shouldReportUnboundedWindowForUnknownProduct() {
+        ApplicablePrices result = adapter.findApplicablePricesWithValidity(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 99999L, 1L);
+
+        assertThat(result.prices()).isEmpty();
+        assertThat(result.validFrom()).isEqualTo(LocalDateTime.MIN);
+        assertThat(result.validUntil()).isEqualTo(LocalDateTime.MAX);
+    }
+
+    @Test
+    @DisplayName("Should resolve every query of a batch, including unknown products, from one query")
+    void shouldResolveBatchOfQueries() {
+        PriceQuery morning = new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0, 0), 35455L, 1L);
+        PriceQuery afternoon = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 35455L, 1L);
+        PriceQuery unknown = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0, 0), 99999L, 1L);
+
+        Map<PriceQuery, ApplicablePrices> results = adapter.findApplicablePricesInBatch(List.of(morning, afternoon, unknown));
+
+        assertThat(results).containsOnlyKeys(morning, afternoon, unknown);
+        assertThat(results.get(morning).prices()).extracting(Price::priceList).containsExactly(1);
+        assertThat(results.get(afternoon).prices()).extracting(Price::priceList).containsExactlyInAnyOrder(1, 2);
+        assertThat(results.get(unknown).prices()).isEmpty();
+    }
 }
@@ -0,0 +1,175 @@
+package com.inditex.pricing.adapter.out.snapshot;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceTimeline;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for SnapshotPriceRepositoryAdapter.
+ * Results are compared against PriceTimeline, which the snapshot writer flattens each key with.
+ */
+@ExtendWith(MockitoExtension.class)
+class SnapshotPriceRepositoryAdapterTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    // Ordered by product and brand, as the JDBC source delivers them
+    private static final List<Price> SEED = List.of(
+            price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "35.50", "EUR"),
+            price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0), "25.45", "EUR"),
+            price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0), "30.50", "EUR"),
+            price(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), "38.95", "EUR"),
+            price(5L, 40000L, 1, 0, LocalDateTime.of(2020, 7, 1, 0, 0, 0), LocalDateTime.of(2020, 7, 31, 23, 59, 59), "12", "USD"),
+            price(6L, 40000L, 2, 0, LocalDateTime.of(2020, 9, 1, 0, 0, 0), LocalDateTime.of(2020, 9, 30, 23, 59, 59), "13.5", "USD")
+    );
+
+    @TempDir
+    private Path directory;
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor();
+
+    @Mock
+    private PriceMetricsPort metricsPort;
+
+    @AfterEach
+    void stopRebuilder() {
+        rebuilder.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should resolve every date, gaps and unknown keys included, exactly like the in-memory timeline")
+    void shouldMatchPriceTimeline() {
+        var adapter = new SnapshotPriceRepositoryAdapter(() -> SEED, metricsPort, directory.resolve("book.snapshot"), false, rebuilder, Duration.ZERO);
+        PriceTimeline main = PriceTimeline.of(SEED.subList(0, 4));
+        PriceTimeline other = PriceTimeline.of(SEED.subList(4, 6));
+        Random random = new Random(17);
+        LocalDateTime origin = LocalDateTime.of(2020, 6, 1, 0, 0, 0);
+
+        for (int i = 0; i < 2_000; i++) {
+            LocalDateTime date = origin.plusSeconds(random.nextInt(200 * 24 * 3600)).plusNanos(random.nextInt(4) == 0 ? 500 : 0);
+            assertThat(adapter.findApplicablePricesWithValidity(date, PRODUCT_ID, BRAND_ID)).isEqualTo(main.resolve(date));
+            assertThat(adapter.findApplicablePricesWithValidity(date, 40000L, BRAND_ID)).isEqualTo(other.resolve(date));
+            assertThat(adapter.findApplicablePricesWithValidity(date, 37000L, BRAND_ID)).isEqualTo(PriceTimeline.empty().resolve(date));
+        }
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 18, 30, 0), PRODUCT_ID, BRAND_ID))
+                .containsExactly(SEED.get(1));
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1), PRODUCT_ID, BRAND_ID))
+                .containsExactly(SEED.get(0));
+    }
+
+    @Test
+    @DisplayName("Should map an existing snapshot at startup when its fingerprint matches, without streaming the source")
+    void shouldMapExistingSnapshotWithoutSource() {
+        Path file = directory.resolve("book.snapshot");
+        PriceBookSourcePort seeded = () -> SEED;
+        new SnapshotPriceRepositoryAdapter(seeded, metricsPort, file, false, rebuilder, Duration.ZERO);
+
+        var restarted = new SnapshotPriceRepositoryAdapter(new PriceBookSourcePort() {
+            @Override
+            public List<Price> loadAllPrices() {
+                throw new AssertionError("the tariffs must not be streamed");
+            }
+
+            @Override
+            public long fingerprint() {
+                return seeded.fingerprint();
+            }
+        }, metricsPort, file, false, rebuilder, Duration.ZERO);
+
+        assertThat(restarted.findApplicablePrices(LocalDateTime.of(2020, 7, 10, 12, 0, 0), 40000L, BRAND_ID))
+                .containsExactly(SEED.get(4));
+    }
+
+    @Test
+    @DisplayName("Should rewrite an existing snapshot at startup when the source changed since it was written")
+    void shouldRebuildStaleSnapshot() {
+        Path file = directory.resolve("book.snapshot");
+        new SnapshotPriceRepositoryAdapter(() -> SEED, metricsPort, file, false, rebuilder, Duration.ZERO);
+        Price repriced = price(5L, 40000L, 1, 0, SEED.get(4).startDate(), SEED.get(4).endDate(), "11", "USD");
+        List<Price> changed = List.of(SEED.get(0), SEED.get(1), SEED.get(2), SEED.get(3), repriced, SEED.get(5));
+
+        var restarted = new SnapshotPriceRepositoryAdapter(() -> changed, metricsPort, file, false, rebuilder, Duration.ZERO);
+
+        assertThat(restarted.findApplicablePrices(LocalDateTime.of(2020, 7, 10, 12, 0, 0), 40000L, BRAND_ID))
+                .containsExactly(repriced);
+    }
+
+    @Test
+    @DisplayName("Should rewrite the snapshot once in the background for a burst of writes, serving the old one meanwhile")
+    void shouldRebuildOnceInBackgroundAfterWrites() throws Exception {
+        List<Price> book = new CopyOnWriteArrayList<>(SEED);
+        AtomicInteger reads = new AtomicInteger();
+        PriceBookSourcePort source = () -> {
+            reads.incrementAndGet();
+            return List.copyOf(book);
+        };
+        var adapter = new SnapshotPriceRepositoryAdapter(source, metricsPort, directory.resolve("book.snapshot"), true,
+                rebuilder, Duration.ofSeconds(1));
+        LocalDateTime july = LocalDateTime.of(2020, 7, 10, 12, 0, 0);
+        Price repriced = price(5L, 40000L, 1, 0, SEED.get(4).startDate(), SEED.get(4).endDate(), "11", "USD");
+        int readsAtStart = reads.get();
+
+        book.set(4, repriced);
+        adapter.tariffsChanged(40000L, BRAND_ID);
+        adapter.tariffsChanged(40000L, BRAND_ID);
+        adapter.priceBookChanged();
+
+        assertThat(reads).hasValue(readsAtStart);
+        assertThat(adapter.findApplicablePrices(july, 40000L, BRAND_ID)).containsExactly(SEED.get(4));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!adapter.findApplicablePrices(july, 40000L, BRAND_ID).contains(repriced) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(adapter.findApplicablePrices(july, 40000L, BRAND_ID)).containsExactly(repriced);
+        // One fingerprint and one stream of the tariffs for the three writes
+        assertThat(reads).hasValue(readsAtStart + 2);
+    }
+
+    @Test
+    @DisplayName("Should keep the tied tariffs of a priority conflict and report it once while writing")
+    void shouldKeepConflictingTariffs() {
+        Price tied = price(7L, PRODUCT_ID, 7, 1, LocalDateTime.of(2020, 6, 14, 16, 0, 0), LocalDateTime.of(2020, 6, 14, 17, 0, 0), "20.00", "EUR");
+        List<Price> withConflict = List.of(SEED.get(0), SEED.get(1), tied);
+
+        var adapter = new SnapshotPriceRepositoryAdapter(() -> withConflict, metricsPort, directory.resolve("book.snapshot"), true, rebuilder, Duration.ZERO);
+
+        assertThat(adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 30, 0), PRODUCT_ID, BRAND_ID))
+                .containsExactlyInAnyOrder(SEED.get(1), tied);
+        verify(metricsPort, times(1)).recordPriorityConflict(PRODUCT_ID, BRAND_ID, 2);
+    }
+
+    @Test
+    @DisplayName("Should reject a source that does not deliver tariffs grouped by product and brand")
+    void shouldRejectUnorderedSource() {
+        List<Price> unordered = List.of(SEED.get(4), SEED.get(0));
+
+        assertThatThrownBy(() -> new SnapshotPriceRepositoryAdapter(() -> unordered, metricsPort, directory.resolve("book.snapshot"), true, rebuilder, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
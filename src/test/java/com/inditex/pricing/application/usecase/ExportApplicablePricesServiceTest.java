@@ -0,0 +1,92 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookStreamPort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for ExportApplicablePricesService.
+ * The stream port is mocked to replay rows in (productId, priority desc) order.
+ */
+@ExtendWith(MockitoExtension.class)
+class ExportApplicablePricesServiceTest {
+
+    @Mock
+    private PriceBookStreamPort priceBookStreamPort;
+
+    @Mock
+    private PriceMetricsPort metricsPort;
+
+    private ExportApplicablePricesService service;
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime VALID_FROM = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+    private static final LocalDateTime VALID_TO = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportApplicablePricesService(priceBookStreamPort, metricsPort);
+    }
+
+    @Test
+    @DisplayName("Should emit the first (highest-priority) tariff of each product")
+    void shouldEmitHighestPriorityTariffPerProduct() {
+        Price promo = price(2L, 35455L, 2, 1, VALID_FROM, VALID_TO);
+        Price base = price(1L, 35455L, 1, 0, VALID_FROM, VALID_TO);
+        Price other = price(3L, 40000L, 7, 0, VALID_FROM, VALID_TO);
+        replay(promo, base, other);
+
+        List<Price> exported = new ArrayList<>();
+        long count = service.exportApplicablePrices(BRAND_ID, APPLICATION_DATE, exported::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).containsExactly(promo, other);
+        verifyNoInteractions(metricsPort);
+    }
+
+    @Test
+    @DisplayName("Should skip and report products whose highest priority is shared")
+    void shouldSkipConflictingProducts() {
+        Price tiedA = price(1L, 35455L, 1, 1, VALID_FROM, VALID_TO);
+        Price tiedB = price(2L, 35455L, 2, 1, VALID_FROM, VALID_TO);
+        Price other = price(3L, 40000L, 7, 0, VALID_FROM, VALID_TO);
+        replay(tiedA, tiedB, other);
+
+        List<Price> exported = new ArrayList<>();
+        service.exportApplicablePrices(BRAND_ID, APPLICATION_DATE, exported::add);
+
+        assertThat(exported).containsExactly(other);
+        verify(metricsPort).recordPriorityConflict(35455L, BRAND_ID, 2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void replay(Price... rows) {
+        doAnswer(invocation -> {
+            Consumer<Price> action = invocation.getArgument(2);
+            for (Price row : rows) {
+                action.accept(row);
+            }
+            return null;
+        }).when(priceBookStreamPort).forEachApplicablePrice(eq(BRAND_ID), eq(APPLICATION_DATE), any(Consumer.class));
+    }
+}
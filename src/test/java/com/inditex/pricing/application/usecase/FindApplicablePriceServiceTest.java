@@ -2,7 +2,11 @@ package com.inditex.pricing.application.usecase;
 
 import com.inditex.pricing.application.port.out.PriceMetricsPort;
 import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.ApplicablePrices;
 import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceQuery;
+import com.inditex.pricing.domain.model.ResolvedPrice;
 import com.inditex.pricing.application.port.out.PriceRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +19,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -166,4 +171,70 @@ class FindApplicablePriceServiceTest {
 
         verify(priceRepositoryPort).findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
     }
+
+    @Test
+    @DisplayName("Should report found, not-found and conflict items of a batch without failing it")
+    void shouldReportEachBatchItemIndependently() {
+        Price base = new Price(1L, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, PRODUCT_ID, 0, new BigDecimal("35.50"), "EUR");
+        Price duplicate = new Price(2L, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                2, PRODUCT_ID, 0, new BigDecimal("25.45"), "EUR");
+        PriceQuery found = new PriceQuery(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+        PriceQuery missing = new PriceQuery(APPLICATION_DATE, 99999L, BRAND_ID);
+        PriceQuery conflicting = new PriceQuery(APPLICATION_DATE, PRODUCT_ID, 2L);
+        List<PriceQuery> queries = List.of(found, missing, conflicting);
+
+        when(priceRepositoryPort.findApplicablePricesInBatch(queries)).thenReturn(Map.of(
+                found, ApplicablePrices.at(APPLICATION_DATE, List.of(base)),
+                missing, ApplicablePrices.at(APPLICATION_DATE, List.of()),
+                conflicting, ApplicablePrices.at(APPLICATION_DATE, List.of(base, duplicate))));
+
+        List<PriceLookupResult> results = service.findApplicablePrices(queries);
+
+        assertThat(results).extracting(PriceLookupResult::query).containsExactly(found, missing, conflicting);
+        assertThat(results).extracting(PriceLookupResult::outcome).containsExactly(
+                PriceLookupResult.Outcome.FOUND,
+                PriceLookupResult.Outcome.NOT_FOUND,
+                PriceLookupResult.Outcome.PRIORITY_CONFLICT);
+        assertThat(results.get(0).price()).isEqualTo(base);
+        assertThat(results.get(2).message()).contains("Integridad de datos violada");
+        verify(metricsPort).recordPriorityConflict(PRODUCT_ID, 2L, 2);
+    }
+
+    @Test
+    @DisplayName("Should report a batch query left out of the repository result as not found")
+    void shouldReportQueryMissingFromBatchResultAsNotFound() {
+        PriceQuery query = new PriceQuery(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+        when(priceRepositoryPort.findApplicablePricesInBatch(List.of(query))).thenReturn(Map.of());
+
+        List<PriceLookupResult> results = service.findApplicablePrices(List.of(query));
+
+        assertThat(results).extracting(PriceLookupResult::outcome).containsExactly(PriceLookupResult.Outcome.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should resolve the winner together with the validity window of its tariffs")
+    void shouldResolveWinnerWithValidityWindow() {
+        Price base = new Price(1L, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 0, 0, 0),
+                LocalDateTime.of(2020, 12, 31, 23, 59, 59),
+                1, PRODUCT_ID, 0, new BigDecimal("35.50"), "EUR");
+        Price promotion = new Price(2L, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 15, 0, 0),
+                LocalDateTime.of(2020, 6, 14, 18, 30, 0),
+                2, PRODUCT_ID, 1, new BigDecimal("25.45"), "EUR");
+        LocalDateTime validUntil = LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1);
+        when(priceRepositoryPort.findApplicablePricesWithValidity(APPLICATION_DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(new ApplicablePrices(List.of(base, promotion), promotion.startDate(), validUntil));
+
+        ResolvedPrice result = service.resolveApplicablePrice(APPLICATION_DATE, PRODUCT_ID, BRAND_ID);
+
+        assertThat(result.winner()).contains(promotion);
+        assertThat(result.validFrom()).isEqualTo(promotion.startDate());
+        assertThat(result.validUntil()).isEqualTo(validUntil);
+    }
 }
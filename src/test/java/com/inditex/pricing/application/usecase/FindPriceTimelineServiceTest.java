@@ -0,0 +1,115 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.exception.InvalidDateRangeException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceLookupResult;
+import com.inditex.pricing.domain.model.PriceSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for FindPriceTimelineService.
+ * Mocks the price book source with the seed tariffs to check segment boundaries, clipping and conflicts.
+ */
+@ExtendWith(MockitoExtension.class)
+class FindPriceTimelineServiceTest {
+
+    @Mock
+    private PriceBookSourcePort priceBookSourcePort;
+
+    @Mock
+    private PriceMetricsPort metricsPort;
+
+    private FindPriceTimelineService service;
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        service = new FindPriceTimelineService(priceBookSourcePort, metricsPort);
+    }
+
+    @Test
+    @DisplayName("Should split the seed tariffs into the segments where the applicable price changes")
+    void shouldSplitSeedTariffsIntoSegments() {
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs());
+
+        List<PriceSegment> timeline = service.findPriceTimeline(PRODUCT_ID, BRAND_ID,
+                LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 16, 0, 0));
+
+        assertThat(timeline).extracting(s -> s.price().priceList()).containsExactly(1, 2, 1, 3, 1, 4);
+        assertThat(timeline.get(1).from()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+        assertThat(timeline.get(1).until()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0, 1));
+        assertThat(timeline.get(2).from()).isEqualTo(timeline.get(1).until());
+        assertThat(timeline).allMatch(s -> s.outcome() == PriceLookupResult.Outcome.FOUND);
+    }
+
+    @Test
+    @DisplayName("Should clip the first and last segments to the requested range")
+    void shouldClipSegmentsToRange() {
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs());
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 16, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 6, 14, 20, 0);
+
+        List<PriceSegment> timeline = service.findPriceTimeline(PRODUCT_ID, BRAND_ID, from, to);
+
+        assertThat(timeline).extracting(s -> s.price().priceList()).containsExactly(2, 1);
+        assertThat(timeline.get(0).from()).isEqualTo(from);
+        assertThat(timeline.get(1).until()).isEqualTo(to);
+    }
+
+    @Test
+    @DisplayName("Should report a priority conflict segment without dropping the rest of the timeline")
+    void shouldReportConflictSegment() {
+        Price base = price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 1, 31, 23, 59, 59));
+        Price first = price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2021, 1, 10, 0, 0), LocalDateTime.of(2021, 1, 10, 23, 59, 59));
+        Price second = price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2021, 1, 10, 0, 0), LocalDateTime.of(2021, 1, 10, 23, 59, 59));
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(List.of(base, first, second));
+
+        List<PriceSegment> timeline = service.findPriceTimeline(PRODUCT_ID, BRAND_ID,
+                LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 1, 0, 0));
+
+        assertThat(timeline).extracting(PriceSegment::outcome).containsExactly(
+                PriceLookupResult.Outcome.FOUND,
+                PriceLookupResult.Outcome.PRIORITY_CONFLICT,
+                PriceLookupResult.Outcome.FOUND);
+        assertThat(timeline.get(1).price()).isNull();
+        assertThat(timeline.get(1).message()).isNotBlank();
+        verify(metricsPort).recordPriorityConflict(PRODUCT_ID, BRAND_ID, 2);
+    }
+
+    @Test
+    @DisplayName("Should throw InvalidDateRangeException without loading tariffs when from is not before to")
+    void shouldRejectEmptyRange() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+        assertThatThrownBy(() -> service.findPriceTimeline(PRODUCT_ID, BRAND_ID, date, date))
+                .isInstanceOf(InvalidDateRangeException.class);
+        verifyNoInteractions(priceBookSourcePort);
+    }
+
+    private static List<Price> seedTariffs() {
+        return List.of(
+                price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)),
+                price(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)));
+    }
+}
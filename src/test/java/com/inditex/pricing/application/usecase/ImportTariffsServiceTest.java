@@ -0,0 +1,118 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.domain.exception.TariffImportException;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.TariffImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Unit tests for ImportTariffsService.
+ * The bulk write port records inserted chunks in memory; parsing runs on a real thread pool
+ * with small chunks so the ordering across chunks is exercised.
+ */
+@ExtendWith(MockitoExtension.class)
+class ImportTariffsServiceTest {
+
+    private static final String HEADER = "BRAND_ID,START_DATE,END_DATE,PRICE_LIST,PRODUCT_ID,PRIORITY,PRICE,CURR";
+
+    @Mock
+    private PriceBookChangePort priceBookChangePort;
+
+    private final List<List<Price>> insertedChunks = new ArrayList<>();
+    private ExecutorService executor;
+    private ImportTariffsService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        service = new ImportTariffsService(chunk -> {
+            insertedChunks.add(List.copyOf(chunk));
+            return chunk.size();
+        }, priceBookChangePort, executor, 3, 2);
+    }
+
+    @Test
+    @DisplayName("Should insert every valid row in file order and announce the change once")
+    void shouldInsertRowsInFileOrder() {
+        String csv = HEADER + "\n" + IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> "1,2021-01-01 00:00:00,2021-12-31T23:59:59," + i + ",35455,0,10.50,EUR")
+                .collect(Collectors.joining("\n"));
+
+        TariffImportReport report = service.importTariffs(new StringReader(csv));
+        executor.shutdown();
+
+        assertThat(report.rowsRead()).isEqualTo(10);
+        assertThat(report.rowsImported()).isEqualTo(10);
+        assertThat(report.rowsRejected()).isZero();
+        assertThat(insertedChunks).hasSize(4);
+        assertThat(insertedChunks.stream().flatMap(List::stream).map(Price::priceList))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(insertedChunks.get(0).get(0)).isEqualTo(new Price(null, 1L,
+                LocalDateTime.of(2021, 1, 1, 0, 0, 0), LocalDateTime.of(2021, 12, 31, 23, 59, 59),
+                1, 35455L, 0, new BigDecimal("10.50"), "EUR"));
+        verify(priceBookChangePort, times(1)).priceBookChanged();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rows with their line number and keep importing the rest")
+    void shouldReportRejectedRows() {
+        String csv = String.join("\n",
+                "ID," + HEADER,
+                "1,1,2021-01-01 00:00:00,2021-12-31 23:59:59,1,35455,0,10.50,EUR",
+                "2,1,2021-12-31 00:00:00,2021-01-01 00:00:00,2,35455,0,10.50,EUR",
+                "",
+                "3,1,2021-01-01 00:00:00,2021-12-31 23:59:59,3,35455,0,abc,EUR",
+                "4,1,2021-01-01 00:00:00,2021-12-31 23:59:59,4,35455,0,10.505,EUR",
+                "5,1,2021-01-01 00:00:00,2021-12-31 23:59:59,5,35455,0,10.50,euro");
+
+        TariffImportReport report = service.importTariffs(new StringReader(csv));
+        executor.shutdown();
+
+        assertThat(report.rowsRead()).isEqualTo(5);
+        assertThat(report.rowsImported()).isEqualTo(1);
+        assertThat(report.rowsRejected()).isEqualTo(4);
+        assertThat(report.rejectedSample()).extracting(TariffImportReport.RejectedRow::line)
+                .containsExactly(3L, 5L, 6L, 7L);
+        assertThat(report.rejectedSample().get(1).reason()).contains("PRICE");
+    }
+
+    @Test
+    @DisplayName("Should throw TariffImportException for a header without the PRICES columns")
+    void shouldRejectInvalidHeader() {
+        assertThatThrownBy(() -> service.importTariffs(new StringReader("BRAND,START,END\n1,2,3")))
+                .isInstanceOf(TariffImportException.class)
+                .hasMessageContaining("PRODUCT_ID");
+        executor.shutdown();
+        verifyNoInteractions(priceBookChangePort);
+    }
+
+    @Test
+    @DisplayName("Should shut the parse pool down on close")
+    void shouldShutDownParsePoolOnClose() {
+        service.close();
+
+        assertThat(executor.isShutdown()).isTrue();
+    }
+}
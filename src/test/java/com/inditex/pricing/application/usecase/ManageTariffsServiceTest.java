@@ -0,0 +1,103 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookChangePort;
+import com.inditex.pricing.application.port.out.PriceWritePort;
+import com.inditex.pricing.domain.exception.TariffNotFoundException;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ManageTariffsService.
+ * Mocks the write and change ports to check which keys are announced after each write.
+ */
+@ExtendWith(MockitoExtension.class)
+class ManageTariffsServiceTest {
+
+    @Mock
+    private PriceWritePort priceWritePort;
+
+    @Mock
+    private PriceBookChangePort priceBookChangePort;
+
+    private ManageTariffsService service;
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime VALID_FROM = LocalDateTime.of(2021, 1, 1, 0, 0, 0);
+    private static final LocalDateTime VALID_TO = LocalDateTime.of(2021, 1, 31, 23, 59, 59);
+
+    @BeforeEach
+    void setUp() {
+        service = new ManageTariffsService(priceWritePort, priceBookChangePort);
+    }
+
+    @Test
+    @DisplayName("Should announce the key of a created tariff after it is stored")
+    void shouldAnnounceCreatedTariffAfterInsert() {
+        Price stored = price(10L, PRODUCT_ID, 5, 2, VALID_FROM, VALID_TO, "19.99");
+        when(priceWritePort.insert(any())).thenReturn(stored);
+
+        Price created = service.createTariff(price(null, PRODUCT_ID, 5, 2, VALID_FROM, VALID_TO, "19.99"));
+
+        assertThat(created).isEqualTo(stored);
+        InOrder order = inOrder(priceWritePort, priceBookChangePort);
+        order.verify(priceWritePort).insert(any());
+        order.verify(priceBookChangePort).tariffsChanged(PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should announce both the old and the new key when an update moves a tariff")
+    void shouldAnnounceBothKeysWhenUpdateMovesTariff() {
+        Long otherProduct = 40000L;
+        when(priceWritePort.findById(10L)).thenReturn(Optional.of(price(10L, PRODUCT_ID, 5, 2, VALID_FROM, VALID_TO, "19.99")));
+        Price moved = price(10L, otherProduct, 5, 2, VALID_FROM, VALID_TO, "19.99");
+        when(priceWritePort.update(moved)).thenReturn(Optional.of(moved));
+
+        service.updateTariff(10L, price(null, otherProduct, 5, 2, VALID_FROM, VALID_TO, "19.99"));
+
+        verify(priceBookChangePort).tariffsChanged(PRODUCT_ID, BRAND_ID);
+        verify(priceBookChangePort).tariffsChanged(otherProduct, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should throw TariffNotFoundException and announce nothing when the tariff is deleted before the update")
+    void shouldThrowWhenTariffDisappearsBeforeUpdate() {
+        Price previous = price(10L, PRODUCT_ID, 5, 2, VALID_FROM, VALID_TO, "19.99");
+        when(priceWritePort.findById(10L)).thenReturn(Optional.of(previous));
+        when(priceWritePort.update(previous)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.updateTariff(10L, price(null, PRODUCT_ID, 5, 2, VALID_FROM, VALID_TO, "19.99")))
+                .isInstanceOf(TariffNotFoundException.class);
+        verifyNoInteractions(priceBookChangePort);
+    }
+
+    @Test
+    @DisplayName("Should throw TariffNotFoundException and announce nothing when deleting an unknown tariff")
+    void shouldThrowWhenDeletingUnknownTariff() {
+        when(priceWritePort.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deleteTariff(99L))
+                .isInstanceOf(TariffNotFoundException.class);
+        verify(priceWritePort, never()).deleteById(any());
+        verifyNoInteractions(priceBookChangePort);
+    }
+}
@@ -0,0 +1,81 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.application.port.out.ReactivePriceRepositoryPort;
+import com.inditex.pricing.domain.exception.PriorityConflictException;
+import com.inditex.pricing.domain.model.Price;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ReactiveFindApplicablePriceService.
+ * Checks that the reactive path applies the same selection rule as FindApplicablePriceService.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReactiveFindApplicablePriceServiceTest {
+
+    @Mock
+    private ReactivePriceRepositoryPort priceRepositoryPort;
+
+    @Mock
+    private PriceMetricsPort metricsPort;
+
+    private ReactiveFindApplicablePriceService service;
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0, 0);
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime VALID_FROM = LocalDateTime.of(2020, 6, 14, 0, 0, 0);
+    private static final LocalDateTime VALID_TO = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveFindApplicablePriceService(priceRepositoryPort, metricsPort);
+    }
+
+    @Test
+    @DisplayName("Should emit the highest priority price among the candidates")
+    void shouldEmitHighestPriorityPrice() {
+        when(priceRepositoryPort.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(Flux.just(price(1L, PRODUCT_ID, 1, 0, VALID_FROM, VALID_TO, "35.50"), price(2L, PRODUCT_ID, 2, 1, VALID_FROM, VALID_TO, "25.45")));
+
+        Price result = service.findApplicablePrice(APPLICATION_DATE, PRODUCT_ID, BRAND_ID).block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.priceList()).isEqualTo(2);
+        assertThat(result.amount()).isEqualByComparingTo("25.45");
+    }
+
+    @Test
+    @DisplayName("Should complete empty when no prices match")
+    void shouldCompleteEmptyWhenNoPricesMatch() {
+        when(priceRepositoryPort.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(Flux.empty());
+
+        assertThat(service.findApplicablePrice(APPLICATION_DATE, PRODUCT_ID, BRAND_ID).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should signal a priority conflict as an error and record the metric")
+    void shouldSignalPriorityConflict() {
+        when(priceRepositoryPort.findApplicablePrices(APPLICATION_DATE, PRODUCT_ID, BRAND_ID))
+                .thenReturn(Flux.just(price(1L, PRODUCT_ID, 1, 1, VALID_FROM, VALID_TO, "35.50"), price(2L, PRODUCT_ID, 2, 1, VALID_FROM, VALID_TO, "25.45")));
+
+        assertThatThrownBy(() -> service.findApplicablePrice(APPLICATION_DATE, PRODUCT_ID, BRAND_ID).block())
+                .isInstanceOf(PriorityConflictException.class);
+        verify(metricsPort).recordPriorityConflict(PRODUCT_ID, BRAND_ID, 2);
+    }
+}
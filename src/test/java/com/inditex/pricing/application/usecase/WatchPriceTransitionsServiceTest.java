@@ -0,0 +1,239 @@
+package com.inditex.pricing.application.usecase;
+
+import com.inditex.pricing.application.port.out.PriceBookSourcePort;
+import com.inditex.pricing.application.port.out.PriceMetricsPort;
+import com.inditex.pricing.domain.model.Price;
+import com.inditex.pricing.domain.model.PriceTransition;
+import com.inditex.pricing.domain.port.in.WatchPriceTransitionsUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for WatchPriceTransitionsService.
+ * Uses a real timer and a clock set just before a seed boundary when first read, so a transition
+ * is due within milliseconds; the price book source is mocked.
+ */
+@ExtendWith(MockitoExtension.class)
+class WatchPriceTransitionsServiceTest {
+
+    @Mock
+    private PriceBookSourcePort priceBookSourcePort;
+
+    @Mock
+    private PriceMetricsPort metricsPort;
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final BlockingQueue<PriceTransition> received = new LinkedBlockingQueue<>();
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @AfterEach
+    void stopTimer() {
+        timer.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should send the current price on subscribe and the next one when a tariff starts")
+    void shouldSendCurrentPriceThenBoundaryTransition() throws Exception {
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs());
+        WatchPriceTransitionsService service = serviceAt(LocalDateTime.of(2020, 6, 14, 14, 59, 59, 800_000_000));
+
+        service.subscribe(BRAND_ID, Set.of(PRODUCT_ID), received::add, () -> { });
+
+        assertThat(next().segment().price().priceList()).isEqualTo(1);
+        PriceTransition started = next();
+        assertThat(started.segment().price().priceList()).isEqualTo(2);
+        assertThat(started.segment().from()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0));
+    }
+
+    @Test
+    @DisplayName("Should send the new winner when the tariffs of a watched product are written")
+    void shouldSendNewWinnerAfterWrite() throws Exception {
+        List<Price> updated = new ArrayList<>(seedTariffs());
+        updated.add(price(5L, PRODUCT_ID, 5, 2, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 6, 14, 23, 59, 59)));
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs()).thenReturn(updated);
+        WatchPriceTransitionsService service = serviceAt(LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        service.subscribe(BRAND_ID, Set.of(PRODUCT_ID), received::add, () -> { });
+        assertThat(next().segment().price().priceList()).isEqualTo(1);
+
+        service.tariffsChanged(PRODUCT_ID, BRAND_ID);
+
+        assertThat(next().segment().price().priceList()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should send every product of a brand and nothing more once cancelled")
+    void shouldWatchWholeBrandUntilCancelled() throws Exception {
+        List<Price> brand = new ArrayList<>(seedTariffs());
+        brand.add(price(6L, 35456L, 6, 0, LocalDateTime.of(2020, 1, 1, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)));
+        when(priceBookSourcePort.loadBrandPrices(BRAND_ID)).thenReturn(brand);
+        WatchPriceTransitionsService service = serviceAt(LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        WatchPriceTransitionsUseCase.Subscription subscription = service.subscribe(BRAND_ID, Set.of(), received::add, () -> { });
+
+        assertThat(List.of(next().productId(), next().productId())).containsExactlyInAnyOrder(PRODUCT_ID, 35456L);
+        assertThat(service.watchedKeyCount()).isEqualTo(2);
+
+        subscription.cancel();
+        service.tariffsChanged(PRODUCT_ID, BRAND_ID);
+
+        assertThat(received.poll(300, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(service.subscriptionCount()).isZero();
+        assertThat(service.watchedKeyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop a subscription that falls behind instead of queueing without limit")
+    void shouldDropSubscriptionThatFallsBehind() throws Exception {
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs());
+        when(priceBookSourcePort.loadPrices(35456L, BRAND_ID)).thenReturn(List.of());
+        List<Runnable> dispatched = new CopyOnWriteArrayList<>();
+        WatchPriceTransitionsService service = serviceAt(LocalDateTime.of(2020, 6, 14, 10, 0), dispatched::add, 1);
+        AtomicBoolean dropped = new AtomicBoolean();
+
+        // Two initial transitions and room for one: nothing is delivered until the dispatcher runs
+        service.subscribe(BRAND_ID, Set.of(PRODUCT_ID, 35456L), received::add, () -> dropped.set(true));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (service.subscriptionCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        dispatched.forEach(Runnable::run);
+
+        assertThat(service.subscriptionCount()).isZero();
+        assertThat(dropped).isTrue();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep delivering to other subscriptions while one client's write is blocked")
+    void shouldNotLetBlockedClientDelayOthers() throws Exception {
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs());
+        ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        WatchPriceTransitionsService service = serviceAt(LocalDateTime.of(2020, 6, 14, 10, 0), dispatcher, 64);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            service.subscribe(BRAND_ID, Set.of(PRODUCT_ID), transition -> {
+                blocked.countDown();
+                awaitQuietly(release);
+            }, () -> { });
+            assertThat(blocked.await(2, TimeUnit.SECONDS)).isTrue();
+            service.subscribe(BRAND_ID, Set.of(PRODUCT_ID), received::add, () -> { });
+
+            assertThat(next().segment().price().priceList()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should stop the timer and dispatcher on close and ignore later cancellations and writes")
+    void shouldStopExecutorsOnClose() throws Exception {
+        when(priceBookSourcePort.loadPrices(PRODUCT_ID, BRAND_ID)).thenReturn(seedTariffs());
+        ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+        WatchPriceTransitionsService service = serviceAt(LocalDateTime.of(2020, 6, 14, 10, 0), dispatcher, 64);
+        WatchPriceTransitionsUseCase.Subscription subscription = service.subscribe(BRAND_ID, Set.of(PRODUCT_ID), received::add, () -> { });
+        assertThat(next().segment().price().priceList()).isEqualTo(1);
+
+        service.close();
+        subscription.cancel();
+        service.tariffsChanged(PRODUCT_ID, BRAND_ID);
+
+        assertThat(timer.isShutdown()).isTrue();
+        assertThat(dispatcher.isShutdown()).isTrue();
+        assertThat(service.subscriptionCount()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private WatchPriceTransitionsService serviceAt(LocalDateTime now) {
+        return serviceAt(now, Runnable::run, 64);
+    }
+
+    private WatchPriceTransitionsService serviceAt(LocalDateTime now, Executor dispatcher, int maxPending) {
+        return new WatchPriceTransitionsService(priceBookSourcePort, metricsPort, timer, dispatcher, startingAt(now), maxPending);
+    }
+
+    /**
+     * Clock that is at {@code now} when first read rather than when created, so a slow first
+     * subscription on a cold JVM cannot push the boundary under test into the past.
+     */
+    private static Clock startingAt(LocalDateTime now) {
+        return new Clock() {
+            private volatile Clock offset;
+
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.systemDefault();
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Instant instant() {
+                if (offset == null) {
+                    synchronized (this) {
+                        if (offset == null) {
+                            offset = Clock.offset(Clock.systemDefaultZone(), Duration.between(LocalDateTime.now(), now));
+                        }
+                    }
+                }
+                return offset.instant();
+            }
+        };
+    }
+
+    private PriceTransition next() throws InterruptedException {
+        PriceTransition transition = received.poll(2, TimeUnit.SECONDS);
+        assertThat(transition).as("transition received in time").isNotNull();
+        return transition;
+    }
+
+    private static List<Price> seedTariffs() {
+        return List.of(
+                price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)),
+                price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30)),
+                price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0)),
+                price(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.inditex.pricing.config.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.status.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads logback-spring.xml into a standalone LoggerContext, with and without Spring Boot's LOG_FILE.
+ */
+class OptionalRollingFileAppenderTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Writes the application log to LOG_FILE when it is set")
+    void writesToLogFileWhenSet() throws Exception {
+        Path logFile = dir.resolve("price-api.log");
+        LoggerContext context = configure(logFile.toString());
+
+        context.getLogger("com.inditex.pricing").info("linea de prueba");
+        context.stop();
+
+        assertThat(Files.readString(logFile, StandardCharsets.UTF_8)).contains("linea de prueba");
+        assertThat(errors(context)).isZero();
+    }
+
+    @Test
+    @DisplayName("Stays stopped and creates no file when LOG_FILE is not set")
+    void staysStoppedWithoutLogFile() throws Exception {
+        LoggerContext context = configure(null);
+
+        context.getLogger("com.inditex.pricing").info("linea de prueba");
+        context.stop();
+
+        assertThat(dir).isEmptyDirectory();
+        assertThat(errors(context)).isZero();
+    }
+
+    private LoggerContext configure(String logFile) throws Exception {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        if (logFile != null) {
+            context.putProperty("LOG_FILE", logFile);
+        }
+        // Relative paths of a misconfigured appender would land in the temporary directory
+        context.putProperty("LOGBACK_ROLLINGPOLICY_FILE_NAME_PATTERN", dir.resolve("price-api.%d{yyyy-MM-dd}.%i.log.gz").toString());
+        JoranConfigurator configurator = new JoranConfigurator();
+        configurator.setContext(context);
+        configurator.doConfigure(getClass().getResource("/logback-spring.xml"));
+        return context;
+    }
+
+    private static long errors(LoggerContext context) {
+        return context.getStatusManager().getCopyOfStatusList().stream()
+                .filter(status -> status.getLevel() == Status.ERROR)
+                .count();
+    }
+}
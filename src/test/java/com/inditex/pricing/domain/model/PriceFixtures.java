@@ -0,0 +1,34 @@
+package com.inditex.pricing.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Tariffs for tests, all of brand 1. Amounts are given as strings so each test states the exact
+ * decimal it expects back.
+ */
+public final class PriceFixtures {
+
+    public static final Long BRAND_ID = 1L;
+
+    private PriceFixtures() {
+    }
+
+    /**
+     * A tariff of 10.00 EUR.
+     */
+    public static Price price(Long id, Long productId, int priceList, int priority,
+                              LocalDateTime start, LocalDateTime end) {
+        return price(id, productId, priceList, priority, start, end, "10.00");
+    }
+
+    public static Price price(Long id, Long productId, int priceList, int priority,
+                              LocalDateTime start, LocalDateTime end, String amount) {
+        return price(id, productId, priceList, priority, start, end, amount, "EUR");
+    }
+
+    public static Price price(Long id, Long productId, int priceList, int priority,
+                              LocalDateTime start, LocalDateTime end, String amount, String currency) {
+        return new Price(id, BRAND_ID, start, end, priceList, productId, priority, new BigDecimal(amount), currency);
+    }
+}
@@ -0,0 +1,105 @@
+package com.inditex.pricing.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.inditex.pricing.domain.model.PriceFixtures.price;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for PriceTimeline.
+ * Uses the seed tariffs of product 35455 / brand 1 and compares random tariff sets
+ * against the request-time priority rule.
+ */
+class PriceTimelineTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+
+    private static final Price TARIFF_1 = price(1L, PRODUCT_ID, 1, 0, LocalDateTime.of(2020, 6, 14, 0, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+    private static final Price TARIFF_2 = price(2L, PRODUCT_ID, 2, 1, LocalDateTime.of(2020, 6, 14, 15, 0, 0), LocalDateTime.of(2020, 6, 14, 18, 30, 0));
+    private static final Price TARIFF_3 = price(3L, PRODUCT_ID, 3, 1, LocalDateTime.of(2020, 6, 15, 0, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0, 0));
+    private static final Price TARIFF_4 = price(4L, PRODUCT_ID, 4, 1, LocalDateTime.of(2020, 6, 15, 16, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+
+    private final PriceTimeline seed = PriceTimeline.of(List.of(TARIFF_4, TARIFF_2, TARIFF_1, TARIFF_3));
+
+    @Test
+    @DisplayName("Should flatten the seed tariffs into six non-overlapping winner segments")
+    void shouldFlattenSeedTariffsIntoSegments() {
+        List<ApplicablePrices> segments = seed.segments();
+
+        assertThat(segments).extracting(s -> s.prices().get(0).priceList()).containsExactly(1, 2, 1, 3, 1, 4);
+        assertThat(segments).allSatisfy(s -> assertThat(s.prices()).hasSize(1));
+        assertThat(segments.get(1).validFrom()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0, 0));
+        assertThat(segments.get(1).validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30, 0).plusNanos(1));
+        for (int i = 1; i < segments.size(); i++) {
+            assertThat(segments.get(i).validFrom()).isEqualTo(segments.get(i - 1).validUntil());
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve the 5 specification scenarios to the expected tariff")
+    void shouldResolveSpecificationScenarios() {
+        assertThat(seed.resolve(LocalDateTime.of(2020, 6, 14, 10, 0, 0)).prices()).containsExactly(TARIFF_1);
+        assertThat(seed.resolve(LocalDateTime.of(2020, 6, 14, 16, 0, 0)).prices()).containsExactly(TARIFF_2);
+        assertThat(seed.resolve(LocalDateTime.of(2020, 6, 14, 21, 0, 0)).prices()).containsExactly(TARIFF_1);
+        assertThat(seed.resolve(LocalDateTime.of(2020, 6, 15, 10, 0, 0)).prices()).containsExactly(TARIFF_3);
+        assertThat(seed.resolve(LocalDateTime.of(2020, 6, 16, 21, 0, 0)).prices()).containsExactly(TARIFF_4);
+    }
+
+    @Test
+    @DisplayName("Should resolve dates before, after and between tariffs to empty open-ended slices")
+    void shouldResolveGapsToEmptySlices() {
+        ApplicablePrices before = seed.resolve(LocalDateTime.of(2019, 1, 1, 0, 0, 0));
+        ApplicablePrices after = seed.resolve(LocalDateTime.of(2021, 1, 1, 0, 0, 0));
+
+        assertThat(before.prices()).isEmpty();
+        assertThat(before.validFrom()).isEqualTo(LocalDateTime.MIN);
+        assertThat(before.validUntil()).isEqualTo(TARIFF_1.startDate());
+        assertThat(after.prices()).isEmpty();
+        assertThat(after.validUntil()).isEqualTo(LocalDateTime.MAX);
+        assertThat(PriceTimeline.empty().resolve(LocalDateTime.of(2020, 6, 14, 10, 0, 0)).prices()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep tied highest-priority tariffs together and report them as conflicts")
+    void shouldReportPriorityConflicts() {
+        Price tied = price(5L, PRODUCT_ID, 5, 1, LocalDateTime.of(2020, 6, 14, 17, 0, 0), LocalDateTime.of(2020, 6, 14, 20, 0, 0));
+
+        PriceTimeline timeline = PriceTimeline.of(List.of(TARIFF_1, TARIFF_2, tied));
+
+        assertThat(timeline.conflicts()).hasSize(1);
+        assertThat(timeline.conflicts().get(0).prices()).containsExactlyInAnyOrder(TARIFF_2, tied);
+        assertThat(timeline.conflicts().get(0).validFrom()).isEqualTo(tied.startDate());
+        assertThat(timeline.resolve(LocalDateTime.of(2020, 6, 14, 19, 0, 0)).prices()).containsExactly(tied);
+    }
+
+    @Test
+    @DisplayName("Should agree with the request-time priority rule on random tariffs")
+    void shouldAgreeWithRequestTimeRule() {
+        Random random = new Random(7);
+        LocalDateTime origin = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        List<Price> tariffs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime start = origin.plusHours(random.nextInt(5_000));
+            tariffs.add(price((long) i, PRODUCT_ID, i, i, start, start.plusHours(random.nextInt(300))));
+        }
+        PriceTimeline timeline = PriceTimeline.of(tariffs);
+
+        for (int i = 0; i < 1_000; i++) {
+            LocalDateTime date = origin.plusMinutes(random.nextInt(5_300 * 60));
+            List<Price> expected = tariffs.stream()
+                    .filter(p -> !p.startDate().isAfter(date) && !p.endDate().isBefore(date))
+                    .max(Comparator.comparing(Price::priority))
+                    .stream()
+                    .toList();
+
+            assertThat(timeline.resolve(date).prices()).isEqualTo(expected);
+        }
+    }
+}